@@ -0,0 +1,104 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.benchmark;
+
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronConstraintsFactory;
+import com.cronutils.model.definition.CronDefinition;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+
+/**
+ * Representative expressions for each benchmarked cron flavour.
+ * Besides dense expressions, each corpus includes the sparse ones the flavour supports (L, W, #, year ranges, day of year).
+ */
+public enum CronCorpus {
+    QUARTZ(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ),
+            "* * * * * ?",
+            "0 0 12 * * ?",
+            "0 15 10 ? * MON-FRI",
+            "0 0/5 14,18 * * ?",
+            "0 10,44 14 ? 3 WED",
+            "0 15 10 L * ?",
+            "0 15 10 L-2 * ?",
+            "0 15 10 LW * ?",
+            "0 15 10 15W * ?",
+            "0 15 10 ? * 6L",
+            "0 15 10 ? * 6#3",
+            "0 0 0 29 2 ? *",
+            "0 0 12 1/5 * ? 2030-2040",
+            "0 30 2 ? * SUN 2025/2"),
+    UNIX(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX),
+            "* * * * *",
+            "*/15 * * * *",
+            "0 9-17 * * 1-5",
+            "30 2 1,15 * *",
+            "5 4 * * SUN",
+            "0 0 29 2 *",
+            "0 0 1 */3 *",
+            "0 22 * * 1-5"),
+    SPRING(CronDefinitionBuilder.instanceDefinitionFor(CronType.SPRING),
+            "0 0 * * * *",
+            "*/10 * * * * *",
+            "0 0 8-10 * * *",
+            "0 0 6,19 * * *",
+            "0 0/30 8-10 * * *",
+            "0 0 9-17 * * MON-FRI",
+            "0 0 0 25 12 ?",
+            "0 0 0 29 2 ?"),
+    CRON4J(CronDefinitionBuilder.instanceDefinitionFor(CronType.CRON4J),
+            "* * * * *",
+            "5 * * * *",
+            "0 12 * * Mon",
+            "59 11 * * 1,2,3,4,5",
+            "0 0 L * *",
+            "*/5 12-18 * * *",
+            "0 5 * * Mon-Fri",
+            "0 0 29 2 *"),
+    QUARTZ_DAY_OF_YEAR(quartzWithDayOfYear(),
+            "0 0 0 ? * ? * 1/14",
+            "0 0 0 ? 1-3 ? * 1/14",
+            "0 0 12 ? * ? * 100-120",
+            "0 0 0 ? * ? * 366");
+
+    private final CronDefinition definition;
+    private final String[] expressions;
+
+    CronCorpus(final CronDefinition definition, final String... expressions) {
+        this.definition = definition;
+        this.expressions = expressions;
+    }
+
+    public CronDefinition getDefinition() {
+        return definition;
+    }
+
+    public String[] getExpressions() {
+        return expressions.clone();
+    }
+
+    private static CronDefinition quartzWithDayOfYear() {
+        return CronDefinitionBuilder.defineCron()
+                .withSeconds().and()
+                .withMinutes().and()
+                .withHours().and()
+                .withDayOfMonth().supportsL().supportsW().supportsLW().supportsQuestionMark().and()
+                .withMonth().and()
+                .withDayOfWeek().withValidRange(1, 7).withMondayDoWValue(2).supportsHash().supportsL().supportsQuestionMark().and()
+                .withYear().withValidRange(1970, 2099).optional().and()
+                .withDayOfYear().supportsQuestionMark().withValidRange(1, 366).optional().and()
+                .withCronValidation(CronConstraintsFactory.ensureEitherDayOfYearOrMonth())
+                .withCronValidation(CronConstraintsFactory.ensureEitherDayOfWeekOrDayOfMonth())
+                .instance();
+    }
+}
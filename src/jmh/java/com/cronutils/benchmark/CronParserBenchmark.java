@@ -0,0 +1,57 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.benchmark;
+
+import com.cronutils.model.Cron;
+import com.cronutils.parser.CronParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CronParser#parse(String)} throughput over the expressions of each {@link CronCorpus}.
+ * Each operation parses a single expression; consecutive operations cycle through the corpus.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CronParserBenchmark {
+
+    @Param({"QUARTZ", "UNIX", "SPRING", "CRON4J", "QUARTZ_DAY_OF_YEAR"})
+    private CronCorpus corpus;
+
+    private CronParser parser;
+    private String[] expressions;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        parser = new CronParser(corpus.getDefinition());
+        expressions = corpus.getExpressions();
+    }
+
+    @Benchmark
+    public Cron parse() {
+        return parser.parse(nextExpression());
+    }
+
+    private String nextExpression() {
+        final String expression = expressions[next];
+        next = (next + 1) % expressions.length;
+        return expression;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.benchmark;
+
+import com.cronutils.model.Cron;
+import com.cronutils.model.time.CompiledExecutionTime;
+import com.cronutils.model.time.ExecutionTime;
+import com.cronutils.parser.CronParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the hot path of {@link ExecutionTime}: next and last execution lookups and matching,
+ * over the expressions of each {@link CronCorpus}.
+ * Each operation evaluates a single expression; consecutive operations cycle through the corpus.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ExecutionTimeBenchmark {
+
+    @Param({"QUARTZ", "UNIX", "SPRING", "CRON4J", "QUARTZ_DAY_OF_YEAR"})
+    private CronCorpus corpus;
+
+    @Param({"UTC", "America/New_York"})
+    private String zone;
+
+    @Param({"default", "compiled"})
+    private String engine;
+
+    private ExecutionTime[] executionTimes;
+    private ZonedDateTime reference;
+    private long referenceEpochSecond;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        final CronParser parser = new CronParser(corpus.getDefinition());
+        final String[] expressions = corpus.getExpressions();
+        executionTimes = new ExecutionTime[expressions.length];
+        for (int j = 0; j < expressions.length; j++) {
+            final Cron cron = parser.parse(expressions[j]);
+            executionTimes[j] = "compiled".equals(engine) ? CompiledExecutionTime.forCron(cron) : ExecutionTime.forCron(cron);
+        }
+        reference = ZonedDateTime.of(2021, 3, 14, 1, 59, 30, 0, ZoneId.of(zone));
+        referenceEpochSecond = reference.toEpochSecond();
+    }
+
+    @Benchmark
+    public Optional<ZonedDateTime> nextExecution() {
+        return nextExecutionTime().nextExecution(reference);
+    }
+
+    @Benchmark
+    public long nextExecutionEpochSecond() {
+        return nextExecutionTime().nextExecutionEpochSecond(referenceEpochSecond, reference.getZone());
+    }
+
+    @Benchmark
+    public Optional<ZonedDateTime> lastExecution() {
+        return nextExecutionTime().lastExecution(reference);
+    }
+
+    @Benchmark
+    public boolean isMatch() {
+        return nextExecutionTime().isMatch(reference);
+    }
+
+    private ExecutionTime nextExecutionTime() {
+        final ExecutionTime executionTime = executionTimes[next];
+        next = (next + 1) % executionTimes.length;
+        return executionTime;
+    }
+}
@@ -4,6 +4,7 @@ import com.cronutils.mapper.CronMapper;
 import com.cronutils.model.definition.CronDefinition;
 import com.cronutils.model.field.CronField;
 import com.cronutils.model.field.CronFieldName;
+import com.cronutils.model.time.ExecutionTime;
 import com.cronutils.utils.Preconditions;
 
 import java.util.Collections;
@@ -16,6 +17,7 @@ public class CompositeCron implements Cron {
     private Pattern split = Pattern.compile("\\|");
     private List<Cron> crons;
     private CronDefinition definition;
+    private transient volatile ExecutionTime executionTime;
 
     public CompositeCron(List<Cron> crons){
         this.crons = Collections.unmodifiableList(crons);
@@ -62,6 +64,17 @@ public class CompositeCron implements Cron {
         return definition;
     }
 
+    @Override
+    public ExecutionTime executionTime() {
+        ExecutionTime result = executionTime;
+        if (result == null) {
+            // concurrent callers may build it twice: instances are equivalent
+            result = ExecutionTime.forCron(this);
+            executionTime = result;
+        }
+        return result;
+    }
+
     @Override
     public Cron validate() {
         for(Cron cron : crons){
@@ -17,6 +17,7 @@ import com.cronutils.mapper.CronMapper;
 import com.cronutils.model.definition.CronDefinition;
 import com.cronutils.model.field.CronField;
 import com.cronutils.model.field.CronFieldName;
+import com.cronutils.model.time.ExecutionTime;
 
 import java.io.Serializable;
 import java.util.Map;
@@ -71,5 +72,15 @@ public interface Cron extends Serializable {
      * @return boolean - true if equivalent; false otherwise.
      */
     boolean equivalent(final Cron cron);
+
+    /**
+     * Provides execution time calculations for this cron.
+     * Implementations build it once and return the same instance afterwards.
+     *
+     * @return ExecutionTime instance, never null.
+     */
+    default ExecutionTime executionTime() {
+        return ExecutionTime.forCron(this);
+    }
 }
 
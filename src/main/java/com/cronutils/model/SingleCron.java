@@ -6,6 +6,7 @@ import com.cronutils.model.definition.CronDefinition;
 import com.cronutils.model.field.CronField;
 import com.cronutils.model.field.CronFieldName;
 import com.cronutils.model.field.expression.visitor.ValidationFieldExpressionVisitor;
+import com.cronutils.model.time.ExecutionTime;
 import com.cronutils.utils.Preconditions;
 
 import java.util.*;
@@ -15,6 +16,7 @@ public class SingleCron implements Cron {
     private final CronDefinition cronDefinition;
     private final Map<CronFieldName, CronField> fields;
     private String asString;
+    private transient volatile ExecutionTime executionTime;
 
     /**
      * Creates a Cron with the iven cron definition and the given fields.
@@ -67,6 +69,17 @@ public class SingleCron implements Cron {
         return cronDefinition;
     }
 
+    @Override
+    public ExecutionTime executionTime() {
+        ExecutionTime result = executionTime;
+        if (result == null) {
+            // concurrent callers may build it twice: instances are equivalent
+            result = ExecutionTime.forCron(this);
+            executionTime = result;
+        }
+        return result;
+    }
+
     /**
      * Validates this Cron instance by validating its cron expression.
      *
@@ -28,7 +28,7 @@ public class CronConstraintsFactory {
      * @return newly created CronConstraint instance, never {@code null};
      */
     public static CronConstraint ensureEitherDayOfYearOrMonth() {
-        return new CronConstraint("Both, a day-of-year AND a day-of-month or day-of-week, are not supported.") {
+        return new QuestionMarkCronConstraint("Both, a day-of-year AND a day-of-month or day-of-week, are not supported.") {
             private static final long serialVersionUID = 520379111876897579L;
 
             @Override
@@ -41,13 +41,21 @@ public class CronConstraintsFactory {
 
                 return true;
             }
+
+            @Override
+            public boolean validate(final int fields, final int questionMarks) {
+                if (isSet(fields, CronFieldName.DAY_OF_YEAR) && !isSet(questionMarks, CronFieldName.DAY_OF_YEAR)) {
+                    return isSet(questionMarks, CronFieldName.DAY_OF_WEEK) && isSet(questionMarks, CronFieldName.DAY_OF_MONTH);
+                }
+                return true;
+            }
         };
     }
 
     public static CronConstraint ensureEitherDayOfWeekOrDayOfMonth() {
         //Solves issue #63: https://github.com/jmrozanec/cron-utils/issues/63
         //both a day-of-week AND a day-of-month parameter should fail for QUARTZ
-        return new CronConstraint("Both, a day-of-week AND a day-of-month parameter, are not supported.") {
+        return new QuestionMarkCronConstraint("Both, a day-of-week AND a day-of-month parameter, are not supported.") {
             private static final long serialVersionUID = -4423693913868081656L;
 
             @Override
@@ -65,6 +73,23 @@ public class CronConstraintsFactory {
 
                 return true;
             }
+
+            @Override
+            public boolean validate(final int fields, final int questionMarks) {
+                if (!isSet(fields, CronFieldName.DAY_OF_YEAR) || isSet(questionMarks, CronFieldName.DAY_OF_YEAR)) {
+                    if (isSet(fields, CronFieldName.DAY_OF_MONTH) && !isSet(questionMarks, CronFieldName.DAY_OF_MONTH)) {
+                        return isSet(questionMarks, CronFieldName.DAY_OF_WEEK);
+                    } else {
+                        return isSet(fields, CronFieldName.DAY_OF_WEEK) && !isSet(questionMarks, CronFieldName.DAY_OF_WEEK);
+                    }
+                }
+
+                return true;
+            }
         };
     }
+
+    private static boolean isSet(final int mask, final CronFieldName fieldName) {
+        return (mask & 1 << fieldName.ordinal()) != 0;
+    }
 }
@@ -18,11 +18,15 @@ import com.cronutils.model.field.CronFieldName;
 import com.cronutils.model.field.definition.*;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Builder that allows to define and create CronDefinition instances.
  */
 public class CronDefinitionBuilder {
+    // definitions are immutable, so a single instance per cron type is shared; built on first request
+    private static final AtomicReferenceArray<CronDefinition> DEFINITIONS = new AtomicReferenceArray<>(CronType.values().length);
+
     private final Map<CronFieldName, FieldDefinition> fields = new EnumMap<>(CronFieldName.class);
     private final Set<CronConstraint> cronConstraints = new HashSet<>();
     private boolean matchDayOfWeekAndDayOfMonth;
@@ -347,12 +351,23 @@ public class CronDefinitionBuilder {
     }
 
     /**
-     * Creates CronDefinition instance matching cronType specification.
+     * Provides CronDefinition instance matching cronType specification.
+     * The instance is shared: it is built on first request and reused afterwards. Safe for concurrent use.
      *
      * @param cronType - some cron type. If null, a RuntimeException will be raised.
      * @return CronDefinition instance if definition is found; a RuntimeException otherwise.
      */
     public static CronDefinition instanceDefinitionFor(final CronType cronType) {
+        final CronDefinition cached = DEFINITIONS.get(cronType.ordinal());
+        if (cached != null) {
+            return cached;
+        }
+        // concurrent first requests may build it twice; all of them get the instance set first
+        DEFINITIONS.compareAndSet(cronType.ordinal(), null, buildDefinitionFor(cronType));
+        return DEFINITIONS.get(cronType.ordinal());
+    }
+
+    private static CronDefinition buildDefinitionFor(final CronType cronType) {
         switch (cronType) {
             case CRON4J:
                 return cron4j();
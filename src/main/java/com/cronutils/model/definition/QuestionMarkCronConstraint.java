@@ -0,0 +1,37 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.definition;
+
+/**
+ * CronConstraint that only depends on which fields are present and which ones hold a question mark,
+ * so that it can be checked without building the cron.
+ */
+public abstract class QuestionMarkCronConstraint extends CronConstraint {
+
+    private static final long serialVersionUID = -3524771934027531170L;
+
+    public QuestionMarkCronConstraint(final String description) {
+        super(description);
+    }
+
+    /**
+     * Checks this constraint knowing only which fields are present and which ones hold a question mark.
+     * Fields are given as bit masks, where each field is the bit {@code 1 << cronFieldName.ordinal()}.
+     *
+     * @param fields        - fields present in the cron
+     * @param questionMarks - fields holding a single question mark
+     * @return true if the constraint is satisfied
+     */
+    public abstract boolean validate(int fields, int questionMarks);
+}
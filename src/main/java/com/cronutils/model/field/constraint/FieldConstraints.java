@@ -93,6 +93,10 @@ public class FieldConstraints implements Serializable {
         return stringMapping.get(exp);
     }
 
+    public Set<Integer> getIntMappingKeySet() {
+        return intMapping.keySet();
+    }
+
     public Integer getIntMappingValue(final Integer exp) {
         return intMapping.get(exp);
     }
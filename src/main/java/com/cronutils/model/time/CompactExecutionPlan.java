@@ -0,0 +1,381 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.Cron;
+import com.cronutils.model.definition.CronDefinition;
+import com.cronutils.model.field.CronField;
+import com.cronutils.model.field.CronFieldName;
+import com.cronutils.model.field.constraint.FieldConstraints;
+import com.cronutils.model.field.expression.QuestionMark;
+import com.cronutils.model.field.value.SpecialChar;
+import com.cronutils.utils.Preconditions;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Compact form of a compiled cron: bit masks for seconds, minutes, hours and months, matching days for each
+ * kind of month, and matching years, written into a few tens of bytes of a byte array or a ByteBuffer, heap or direct.
+ * Plans are evaluated in place by CompiledExecutionTime, without rebuilding the cron.
+ *
+ * Days of month and of week only depend on the length of the month and the day of week it starts on, so matching days
+ * are kept for each of the 28 kinds of months, or for each month length, or once when the month length only truncates
+ * them. Years are kept as a range, or as a bitmap if they are not contiguous.
+ * Layout, in the byte order of the buffer:
+ * flags (1 byte), year bitmap words (1 byte), months (2 bytes), hours (4 bytes), seconds (8 bytes), minutes (8 bytes),
+ * days (1, 4 or 28 ints), years (first and last year, or first year and bitmap words).
+ */
+public final class CompactExecutionPlan {
+    private static final int SECOND_GRANULARITY = 1;
+    private static final int DAYS_BY_LENGTH = 1 << 1;
+    private static final int DAYS_BY_SHAPE = 1 << 2;
+    private static final int YEARS_BITMAP = 1 << 3;
+
+    private static final int MONTHS_OFFSET = 2;
+    private static final int HOURS_OFFSET = 4;
+    private static final int SECONDS_OFFSET = 8;
+    private static final int MINUTES_OFFSET = 16;
+    private static final int DAYS_OFFSET = 24;
+
+    private static final int LENGTHS = 4;
+    private static final int SHAPES = LENGTHS * 7;
+    private static final int MAX_YEAR_WORDS = 255;
+    // a month of each length starting on each day of week, as packed year and month
+    private static final int[] SHAPE_MONTHS = shapeMonths();
+
+    private CompactExecutionPlan() {
+    }
+
+    /**
+     * Encodes a cron into a new byte array.
+     *
+     * @param cron - single cron, never null
+     * @return compact plan, never null
+     * @throws IllegalArgumentException if the cron is a composite one, uses days of year, or matches too sparse years
+     */
+    public static byte[] encode(final Cron cron) {
+        final Encoder encoder = new Encoder(cron);
+        final ByteBuffer buffer = ByteBuffer.allocate(encoder.size());
+        encoder.write(buffer);
+        return buffer.array();
+    }
+
+    /**
+     * Encodes a cron at the position of given buffer, and moves the position after it.
+     *
+     * @param cron   - single cron, never null
+     * @param target - buffer with room for the plan, never null
+     * @return number of bytes written
+     * @throws IllegalArgumentException if the cron is a composite one, uses days of year, or matches too sparse years
+     * @throws BufferOverflowException  if the buffer has not enough room left; nothing is written then
+     */
+    public static int encode(final Cron cron, final ByteBuffer target) {
+        Preconditions.checkNotNull(target, "Target must not be null");
+        final Encoder encoder = new Encoder(cron);
+        if (target.remaining() < encoder.size()) {
+            throw new BufferOverflowException();
+        }
+        encoder.write(target);
+        return encoder.size();
+    }
+
+    /**
+     * @param buffer - buffer holding a plan, never null
+     * @param offset - index of the first byte of the plan
+     * @return number of bytes of the plan
+     */
+    public static int size(final ByteBuffer buffer, final int offset) {
+        Preconditions.checkNotNull(buffer, "Buffer must not be null");
+        return size(buffer.get(offset), buffer.get(offset + 1) & 0xFF);
+    }
+
+    /**
+     * Provides an execution time reading a plan in place: the plan must not change while it is used.
+     *
+     * @param buffer - buffer holding a plan, never null
+     * @param offset - index of the first byte of the plan
+     * @return ExecutionTime instance, never null
+     */
+    public static ExecutionTime executionTime(final ByteBuffer buffer, final int offset) {
+        Preconditions.checkNotNull(buffer, "Buffer must not be null");
+        final View view = new View(buffer, offset);
+        return new CompiledExecutionTime(view, (view.flags & SECOND_GRANULARITY) != 0);
+    }
+
+    /**
+     * Provides an execution time reading a plan in place: the plan must not change while it is used.
+     *
+     * @param plan - bytes returned by encode, never null
+     * @return ExecutionTime instance, never null
+     */
+    public static ExecutionTime executionTime(final byte[] plan) {
+        Preconditions.checkNotNull(plan, "Plan must not be null");
+        return executionTime(ByteBuffer.wrap(plan), 0);
+    }
+
+    private static int size(final int flags, final int yearWords) {
+        return DAYS_OFFSET + 4 * dayMasks(flags) + 4 + ((flags & YEARS_BITMAP) != 0 ? 8 * yearWords : 4);
+    }
+
+    private static int dayMasks(final int flags) {
+        if ((flags & DAYS_BY_SHAPE) != 0) {
+            return SHAPES;
+        }
+        return (flags & DAYS_BY_LENGTH) != 0 ? LENGTHS : 1;
+    }
+
+    private static int shape(final int length, final int firstDayOfWeek) {
+        return (length - 28) * 7 + firstDayOfWeek - 1;
+    }
+
+    private static int lengthMask(final int length) {
+        return (int) ((1L << (length + 1)) - 2);
+    }
+
+    private static int[] shapeMonths() {
+        final int[] months = new int[SHAPES];
+        for (int year = 2000; year < 2000 + 28; year++) {
+            for (int month = 1; month <= 12; month++) {
+                months[shape(PackedDateTime.lengthOfMonth(year, month), PackedDateTime.firstDayOfWeek(year, month))] = year * 16 + month;
+            }
+        }
+        return months;
+    }
+
+    /**
+     * Reads the plan of a cron and lays it out.
+     */
+    private static final class Encoder {
+        private final boolean secondGranularity;
+        private final ExecutionPlan plan;
+        private final int[] days;
+        private final int daysFlags;
+        private final boolean yearsBitmap;
+        private final int firstYear;
+        private final int lastYear;
+        private final long[] yearWords;
+
+        private Encoder(final Cron cron) {
+            Preconditions.checkNotNull(cron, "Cron must not be null");
+            Preconditions.checkArgument(!(cron instanceof CompositeCron), "Composite crons can not be compacted: encode each of their crons");
+            final CronDefinition definition = cron.getCronDefinition();
+            if (definition.containsFieldDefinition(CronFieldName.DAY_OF_YEAR)) {
+                final CronField dayOfYear = cron.retrieve(CronFieldName.DAY_OF_YEAR);
+                Preconditions.checkArgument(definition.getFieldDefinition(CronFieldName.DAY_OF_YEAR).getConstraints().getSpecialChars()
+                        .contains(SpecialChar.QUESTION_MARK) && (dayOfYear == null || dayOfYear.getExpression() instanceof QuestionMark),
+                        "Crons with days of year can not be compacted");
+            }
+            final ExecutionTime executionTime = cron.executionTime();
+            final SingleExecutionTime single = executionTime instanceof SingleExecutionTime
+                    ? (SingleExecutionTime) executionTime
+                    : ExecutionTimeBuilder.forCronFields(cron).build();
+            secondGranularity = single.isSecondGranularity();
+            plan = single.compiled().plan();
+
+            final int[] shapes = new int[SHAPES];
+            boolean byLength = true;
+            boolean plain = true;
+            for (int shape = 0; shape < SHAPES; shape++) {
+                shapes[shape] = plan.daysOfMonth(SHAPE_MONTHS[shape] / 16, SHAPE_MONTHS[shape] % 16);
+                final int length = 28 + shape / 7;
+                byLength &= shapes[shape] == shapes[shape(length, 1)];
+            }
+            final int base = shapes[shape(31, 1)];
+            for (int shape = 0; shape < SHAPES; shape++) {
+                plain &= shapes[shape] == (base & lengthMask(28 + shape / 7));
+            }
+            if (plain) {
+                days = new int[] { base };
+                daysFlags = 0;
+            } else if (byLength) {
+                days = new int[] { shapes[shape(28, 1)], shapes[shape(29, 1)], shapes[shape(30, 1)], shapes[shape(31, 1)] };
+                daysFlags = DAYS_BY_LENGTH;
+            } else {
+                days = shapes;
+                daysFlags = DAYS_BY_SHAPE;
+            }
+
+            final FieldConstraints years = definition.containsFieldDefinition(CronFieldName.YEAR)
+                    ? definition.getFieldDefinition(CronFieldName.YEAR).getConstraints()
+                    : null;
+            if (years == null) {
+                // crons without years match any year the engine handles
+                yearsBitmap = false;
+                firstYear = 0;
+                lastYear = Integer.MAX_VALUE;
+                yearWords = null;
+                return;
+            }
+            final int start = years.getStartRange();
+            final int end = years.getEndRange();
+            Preconditions.checkArgument(end - start < MAX_YEAR_WORDS * Long.SIZE
+                            && !plan.isYearMatch(start - 1) && !plan.isYearMatch(end + 1),
+                    "Years can not be compacted");
+            int first = 1;
+            int last = 0;
+            boolean contiguous = true;
+            for (int year = start; year <= end; year++) {
+                if (plan.isYearMatch(year)) {
+                    if (first > last) {
+                        first = year;
+                    } else {
+                        contiguous &= year == last + 1;
+                    }
+                    last = year;
+                }
+            }
+            firstYear = first;
+            lastYear = last;
+            yearsBitmap = !contiguous;
+            if (contiguous) {
+                yearWords = null;
+                return;
+            }
+            yearWords = new long[(last - first) / Long.SIZE + 1];
+            for (int year = first; year <= last; year++) {
+                if (plan.isYearMatch(year)) {
+                    yearWords[(year - first) / Long.SIZE] |= 1L << (year - first);
+                }
+            }
+        }
+
+        private int flags() {
+            return (secondGranularity ? SECOND_GRANULARITY : 0) | daysFlags | (yearsBitmap ? YEARS_BITMAP : 0);
+        }
+
+        private int size() {
+            return CompactExecutionPlan.size(flags(), yearsBitmap ? yearWords.length : 0);
+        }
+
+        private void write(final ByteBuffer target) {
+            target.put((byte) flags());
+            target.put((byte) (yearsBitmap ? yearWords.length : 0));
+            target.putShort((short) plan.months());
+            target.putInt((int) plan.hours());
+            target.putLong(plan.seconds());
+            target.putLong(plan.minutes());
+            for (final int mask : days) {
+                target.putInt(mask);
+            }
+            target.putInt(firstYear);
+            if (yearsBitmap) {
+                for (final long word : yearWords) {
+                    target.putLong(word);
+                }
+            } else {
+                target.putInt(lastYear);
+            }
+        }
+    }
+
+    /**
+     * ExecutionPlan reading a compact plan in place.
+     */
+    private static final class View implements ExecutionPlan {
+        private final ByteBuffer buffer;
+        private final int offset;
+        private final int flags;
+        private final int yearsOffset;
+        private final int yearWords;
+
+        private View(final ByteBuffer buffer, final int offset) {
+            this.buffer = buffer;
+            this.offset = offset;
+            this.flags = buffer.get(offset);
+            this.yearWords = buffer.get(offset + 1) & 0xFF;
+            this.yearsOffset = offset + DAYS_OFFSET + 4 * dayMasks(flags);
+        }
+
+        @Override
+        public long seconds() {
+            return buffer.getLong(offset + SECONDS_OFFSET);
+        }
+
+        @Override
+        public long minutes() {
+            return buffer.getLong(offset + MINUTES_OFFSET);
+        }
+
+        @Override
+        public long hours() {
+            return Integer.toUnsignedLong(buffer.getInt(offset + HOURS_OFFSET));
+        }
+
+        @Override
+        public int months() {
+            return buffer.getShort(offset + MONTHS_OFFSET) & 0xFFFF;
+        }
+
+        @Override
+        public int daysOfMonth(final int year, final int month) {
+            final int length = PackedDateTime.lengthOfMonth(year, month);
+            if ((flags & DAYS_BY_SHAPE) != 0) {
+                return buffer.getInt(offset + DAYS_OFFSET + 4 * shape(length, PackedDateTime.firstDayOfWeek(year, month)));
+            }
+            if ((flags & DAYS_BY_LENGTH) != 0) {
+                return buffer.getInt(offset + DAYS_OFFSET + 4 * (length - 28));
+            }
+            return buffer.getInt(offset + DAYS_OFFSET) & lengthMask(length);
+        }
+
+        @Override
+        public boolean isYearMatch(final int year) {
+            final int first = buffer.getInt(yearsOffset);
+            if ((flags & YEARS_BITMAP) == 0) {
+                return year >= first && year <= buffer.getInt(yearsOffset + 4);
+            }
+            final long index = (long) year - first;
+            return index >= 0 && index < (long) yearWords * Long.SIZE
+                    && (buffer.getLong(yearsOffset + 4 + 8 * (int) (index / Long.SIZE)) & (1L << index)) != 0;
+        }
+
+        @Override
+        public int nextYear(final int year) {
+            final int first = buffer.getInt(yearsOffset);
+            if ((flags & YEARS_BITMAP) == 0) {
+                final int last = buffer.getInt(yearsOffset + 4);
+                if (first > last || year >= last) {
+                    return NO_YEAR;
+                }
+                return year < first ? first : year + 1;
+            }
+            for (long index = Math.max(0, (long) year - first + 1); index < (long) yearWords * Long.SIZE; index++) {
+                if ((buffer.getLong(yearsOffset + 4 + 8 * (int) (index / Long.SIZE)) & (1L << index)) != 0) {
+                    return (int) (first + index);
+                }
+            }
+            return NO_YEAR;
+        }
+
+        @Override
+        public int previousYear(final int year) {
+            final int first = buffer.getInt(yearsOffset);
+            if ((flags & YEARS_BITMAP) == 0) {
+                final int last = buffer.getInt(yearsOffset + 4);
+                if (first > last || year <= first) {
+                    return NO_YEAR;
+                }
+                return year > last ? last : year - 1;
+            }
+            for (long index = Math.min((long) yearWords * Long.SIZE, (long) year - first) - 1; index >= 0; index--) {
+                if ((buffer.getLong(yearsOffset + 4 + 8 * (int) (index / Long.SIZE)) & (1L << index)) != 0) {
+                    return (int) (first + index);
+                }
+            }
+            return NO_YEAR;
+        }
+    }
+}
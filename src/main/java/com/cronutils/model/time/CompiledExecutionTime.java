@@ -0,0 +1,760 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.Cron;
+import com.cronutils.model.SingleCron;
+import com.cronutils.utils.Preconditions;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.time.temporal.ChronoUnit.SECONDS;
+
+/**
+ * ExecutionTime implementation that evaluates an ExecutionPlan: second, minute, hour and month fields
+ * are compiled into bit masks once, and searches jump to the next (or previous) matching value
+ * scanning bits, instead of iterating over candidate lists.
+ *
+ * Crons execute on local instance time. Local times that fall into a daylight saving gap are skipped.
+ * Local times repeated by a daylight saving overlap are executed once, except for crons that match every hour,
+ * which are executed on both offsets. When created with an execution time to resolve offset transitions, searches
+ * and matches within a day of a transition are delegated to it instead, so that both agree around transitions.
+ */
+public class CompiledExecutionTime implements ExecutionTime {
+    private static final int MAX_YEARS = 400;
+    private static final long ALL_HOURS = (1L << 24) - 1;
+    private static final int HIGHEST_TIME_OF_DAY = PackedDateTime.timeOfDay(23, 59, 59);
+    private static final int NO_OFFSET = Integer.MIN_VALUE;
+    // offsets are within 18 hours: a local date time maps to instants within this margin
+    private static final long TRANSITION_MARGIN = 86_400L;
+
+    private final ExecutionPlan plan;
+    private final boolean secondGranularity;
+    private final boolean repeatsOnOverlap;
+    private final long seconds;
+    private final long minutes;
+    private final long hours;
+    private final int months;
+    private final boolean empty;
+    private final ExecutionTime nearTransitions;
+
+    CompiledExecutionTime(final ExecutionPlan plan, final boolean secondGranularity) {
+        this(plan, secondGranularity, null);
+    }
+
+    /**
+     * @param plan              - compiled fields, never null
+     * @param secondGranularity - true if dates are truncated to seconds, false if they are truncated to minutes
+     * @param nearTransitions   - execution time used within a day of offset transitions; null to apply the rules above
+     */
+    CompiledExecutionTime(final ExecutionPlan plan, final boolean secondGranularity, final ExecutionTime nearTransitions) {
+        this.plan = Preconditions.checkNotNull(plan);
+        this.nearTransitions = nearTransitions;
+        this.secondGranularity = secondGranularity;
+        this.seconds = plan.seconds();
+        this.minutes = plan.minutes();
+        this.hours = plan.hours();
+        this.months = plan.months();
+        this.repeatsOnOverlap = hours == ALL_HOURS;
+        this.empty = seconds == 0 || minutes == 0 || hours == 0 || months == 0;
+    }
+
+    /**
+     * Creates a compiled execution time for given Cron.
+     *
+     * @param cron - Cron instance
+     * @return ExecutionTime instance
+     */
+    public static ExecutionTime forCron(final Cron cron) {
+        if (cron instanceof SingleCron) {
+            return ExecutionTimeBuilder.forCronFields(cron).compile();
+        } else {
+            return new CompositeExecutionTime(((CompositeCron) cron).getCrons().stream().map(CompiledExecutionTime::forCron).collect(Collectors.toList()));
+        }
+    }
+
+    ExecutionPlan plan() {
+        return plan;
+    }
+
+    @Override
+    public Optional<ZonedDateTime> nextExecution(final ZonedDateTime date) {
+        Preconditions.checkNotNull(date);
+        final long next = plannedNextEpochSecond(date.toEpochSecond() + 1, date.getZone());
+        if (isResolvedNearTransitions(date.getZone(), date.toEpochSecond(), next)) {
+            return nearTransitions.nextExecution(date);
+        }
+        return next == NO_EXECUTION ? Optional.empty() : Optional.of(toZonedDateTime(next, date.getZone()));
+    }
+
+    @Override
+    public Optional<Duration> timeToNextExecution(final ZonedDateTime date) {
+        return nextExecution(date).map(zonedDateTime -> Duration.between(date, zonedDateTime));
+    }
+
+    @Override
+    public Optional<ZonedDateTime> lastExecution(final ZonedDateTime date) {
+        Preconditions.checkNotNull(date);
+        final long limit = date.getNano() > 0 ? date.toEpochSecond() : date.toEpochSecond() - 1;
+        final long previous = plannedPreviousEpochSecond(limit, date.getZone());
+        if (isResolvedNearTransitions(date.getZone(), previous, date.toEpochSecond())) {
+            return nearTransitions.lastExecution(date);
+        }
+        return previous == NO_EXECUTION ? Optional.empty() : Optional.of(toZonedDateTime(previous, date.getZone()));
+    }
+
+    @Override
+    public Optional<Duration> timeFromLastExecution(final ZonedDateTime date) {
+        return lastExecution(date).map(zonedDateTime -> Duration.between(zonedDateTime, date));
+    }
+
+    @Override
+    public boolean isMatch(ZonedDateTime date) {
+        // Issue #200: Truncating the date to the least granular precision supported by different cron systems.
+        date = date.truncatedTo(secondGranularity ? SECONDS : ChronoUnit.MINUTES);
+        if (nearTransitions != null && isNearOffsetTransition(date)) {
+            return nearTransitions.isMatch(date);
+        }
+        if (!matches(PackedDateTime.of(date.toLocalDateTime()))) {
+            return false;
+        }
+        if (!repeatsOnOverlap) {
+            final ZoneOffsetTransition transition = date.getZone().getRules().getTransition(date.toLocalDateTime());
+            return transition == null || !date.getOffset().equals(transition.getOffsetAfter());
+        }
+        return true;
+    }
+
+    @Override
+    public Stream<ZonedDateTime> executionsAfter(final ZonedDateTime start) {
+        Preconditions.checkNotNull(start);
+        final ZoneId zone = start.getZone();
+        return ExecutionStreams.iterate(start.toEpochSecond(), zone, epochSecond -> nextEpochSecond(epochSecond + 1, zone));
+    }
+
+    @Override
+    public Stream<ZonedDateTime> executionsBefore(final ZonedDateTime end) {
+        Preconditions.checkNotNull(end);
+        final ZoneId zone = end.getZone();
+        // as in lastExecution, an end with nanos is after its epoch second, which is then included
+        final long limit = end.getNano() > 0 ? end.toEpochSecond() + 1 : end.toEpochSecond();
+        return ExecutionStreams.iterate(limit, zone, epochSecond -> previousEpochSecond(epochSecond - 1, zone));
+    }
+
+    /**
+     * Counts executions instead of searching them: matching days of each month are counted from their bit mask,
+     * each of them contributing the matching times of a day, and partial days at the window edges are corrected.
+     * On zones with offset transitions, the window is split at each transition, so that local times in gaps are not
+     * counted, and local times repeated by an overlap are counted once, unless the cron matches every hour.
+     * Executions within a day of a transition resolved by another execution time are searched one by one instead,
+     * since they depend on the previous execution.
+     */
+    @Override
+    public long countExecutions(final ZonedDateTime start, final ZonedDateTime end) {
+        Preconditions.checkNotNull(start);
+        Preconditions.checkNotNull(end);
+        return countEpochSeconds(start.toEpochSecond() + 1, end.toEpochSecond(), start.getZone());
+    }
+
+    /**
+     * Counts executions from one epoch second to another, both included.
+     */
+    long countEpochSeconds(final long from, final long to, final ZoneId zone) {
+        if (from > to) {
+            return 0;
+        }
+        final long[] count = new long[1];
+        countEpochSeconds(from, to, zone, to - from + 1, count);
+        return count[0];
+    }
+
+    /**
+     * Adds executions from one epoch second to another, both included, to the histogram buckets they fall into.
+     * Executions are those found searching from the second before the first one, as a loop on
+     * nextExecutionEpochSecond would.
+     *
+     * @param bucketSeconds - duration of each bucket; the first bucket starts at the first epoch second
+     * @param histogram     - execution counts per bucket, updated in place
+     */
+    void countEpochSeconds(final long from, final long to, final ZoneId zone, final long bucketSeconds, final long[] histogram) {
+        if (empty || from > to) {
+            return;
+        }
+        if (nearTransitions == null || zone.getRules().isFixedOffset()) {
+            countPlanned(from, to, zone, from, bucketSeconds, histogram);
+            return;
+        }
+        final ZoneRules rules = zone.getRules();
+        // last execution counted, or the second before the window
+        long position = from - 1;
+        while (true) {
+            final ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(position - TRANSITION_MARGIN));
+            // searches ending before it are not resolved by nearTransitions
+            final long resolvedFrom = transition == null ? Long.MAX_VALUE : transition.toEpochSecond() - TRANSITION_MARGIN - 1;
+            if (resolvedFrom > to) {
+                countPlanned(position + 1, to, zone, from, bucketSeconds, histogram);
+                return;
+            }
+            if (resolvedFrom > position) {
+                countPlanned(position + 1, resolvedFrom, zone, from, bucketSeconds, histogram);
+                position = Math.max(position, plannedPreviousEpochSecond(resolvedFrom, zone));
+            }
+            final long resolvedTo = transition.toEpochSecond() + TRANSITION_MARGIN;
+            while (position <= resolvedTo) {
+                final long next = nextEpochSecond(position + 1, zone);
+                if (next == NO_EXECUTION || next > to) {
+                    return;
+                }
+                histogram[(int) ((next - from) / bucketSeconds)]++;
+                position = next;
+            }
+        }
+    }
+
+    /**
+     * @param origin - start of the first bucket
+     */
+    private void countPlanned(final long from, final long to, final ZoneId zone, final long origin, final long bucketSeconds,
+            final long[] histogram) {
+        for (long bucketStart = from; bucketStart <= to; ) {
+            final int bucket = (int) ((bucketStart - origin) / bucketSeconds);
+            final long bucketEnd = Math.min(to, origin + (bucket + 1) * bucketSeconds - 1);
+            histogram[bucket] += countPlanned(bucketStart, bucketEnd, zone);
+            bucketStart = bucketEnd + 1;
+        }
+    }
+
+    /**
+     * Counts matching epoch seconds from one to another, both included, following the rules of the class.
+     */
+    private long countPlanned(final long from, final long to, final ZoneId zone) {
+        if (from > to) {
+            return 0;
+        }
+        if (zone instanceof ZoneOffset) {
+            final int offset = ((ZoneOffset) zone).getTotalSeconds();
+            return countLocal(from + offset, to + offset);
+        }
+        final ZoneRules rules = zone.getRules();
+        if (rules.isFixedOffset()) {
+            final int offset = rules.getOffset(Instant.ofEpochSecond(from)).getTotalSeconds();
+            return countLocal(from + offset, to + offset);
+        }
+        long count = 0;
+        long segmentStart = from;
+        // transition that started the offset in effect at segmentStart
+        ZoneOffsetTransition previous = rules.previousTransition(Instant.ofEpochSecond(from + 1));
+        ZoneOffsetTransition next = rules.nextTransition(Instant.ofEpochSecond(from));
+        while (true) {
+            final int offset = rules.getOffset(Instant.ofEpochSecond(segmentStart)).getTotalSeconds();
+            final long segmentEnd = next == null || next.toEpochSecond() > to ? to : next.toEpochSecond() - 1;
+            count += countLocal(segmentStart + offset, segmentEnd + offset);
+            if (!repeatsOnOverlap && previous != null && previous.isOverlap()) {
+                // local times repeated after the overlap were executed on the first offset
+                final long repeatedFrom = previous.toEpochSecond() + previous.getOffsetAfter().getTotalSeconds();
+                final long repeatedTo = previous.toEpochSecond() + previous.getOffsetBefore().getTotalSeconds() - 1;
+                count -= countLocal(Math.max(repeatedFrom, segmentStart + offset), Math.min(repeatedTo, segmentEnd + offset));
+            }
+            if (segmentEnd == to) {
+                return count;
+            }
+            segmentStart = next.toEpochSecond();
+            previous = next;
+            next = rules.nextTransition(next.getInstant());
+        }
+    }
+
+    /**
+     * Counts matching local date times from one local epoch second to another, both included.
+     */
+    private long countLocal(final long fromLocalEpochSecond, final long toLocalEpochSecond) {
+        if (fromLocalEpochSecond > toLocalEpochSecond) {
+            return 0;
+        }
+        final long from = PackedDateTime.ofEpochSecond(fromLocalEpochSecond);
+        final long to = PackedDateTime.ofEpochSecond(toLocalEpochSecond);
+        final int fromYear = PackedDateTime.year(from);
+        final int fromMonth = PackedDateTime.month(from);
+        final int toYear = PackedDateTime.year(to);
+        final int toMonth = PackedDateTime.month(to);
+        final long timesPerDay = (long) Long.bitCount(hours) * Long.bitCount(minutes) * Long.bitCount(seconds);
+        long days = 0;
+        for (int year = fromYear; year != ExecutionPlan.NO_YEAR && year <= toYear; year = plan.nextYear(year)) {
+            if (!plan.isYearMatch(year)) {
+                continue;
+            }
+            int yearMonths = months;
+            if (year == fromYear) {
+                yearMonths &= -1 << fromMonth;
+            }
+            if (year == toYear) {
+                yearMonths &= (1 << (toMonth + 1)) - 1;
+            }
+            for (int m = nextBit(yearMonths, 1); m >= 0; m = nextBit(yearMonths, m + 1)) {
+                long monthDays = Integer.toUnsignedLong(plan.daysOfMonth(year, m));
+                if (year == fromYear && m == fromMonth) {
+                    monthDays &= -1L << PackedDateTime.day(from);
+                }
+                if (year == toYear && m == toMonth) {
+                    monthDays &= (1L << (PackedDateTime.day(to) + 1)) - 1;
+                }
+                days += Long.bitCount(monthDays);
+            }
+        }
+        long count = days * timesPerDay;
+        if (isDayMatch(from)) {
+            count -= timesBefore(PackedDateTime.timeOfDay(from));
+        }
+        if (isDayMatch(to)) {
+            final int timeOfDay = PackedDateTime.timeOfDay(to);
+            count -= timesPerDay - timesBefore(timeOfDay) - (isTimeMatch(timeOfDay) ? 1 : 0);
+        }
+        return count;
+    }
+
+    private boolean isDayMatch(final long local) {
+        final int year = PackedDateTime.year(local);
+        final int month = PackedDateTime.month(local);
+        return (months & (1 << month)) != 0 && plan.isYearMatch(year) && (plan.daysOfMonth(year, month) & (1 << PackedDateTime.day(local))) != 0;
+    }
+
+    private boolean isTimeMatch(final int timeOfDay) {
+        return (hours & (1L << PackedDateTime.hour(timeOfDay))) != 0
+                && (minutes & (1L << PackedDateTime.minute(timeOfDay))) != 0
+                && (seconds & (1L << PackedDateTime.second(timeOfDay))) != 0;
+    }
+
+    /**
+     * @return number of matching times of day before given one
+     */
+    private long timesBefore(final int timeOfDay) {
+        final int hour = PackedDateTime.hour(timeOfDay);
+        final int minute = PackedDateTime.minute(timeOfDay);
+        final long secondsPerMinute = Long.bitCount(seconds);
+        long count = bitsBelow(hours, hour) * Long.bitCount(minutes) * secondsPerMinute;
+        if ((hours & (1L << hour)) != 0) {
+            count += bitsBelow(minutes, minute) * secondsPerMinute;
+            if ((minutes & (1L << minute)) != 0) {
+                count += bitsBelow(seconds, PackedDateTime.second(timeOfDay));
+            }
+        }
+        return count;
+    }
+
+    private static long bitsBelow(final long mask, final int index) {
+        return Long.bitCount(mask & ((1L << index) - 1));
+    }
+
+    @Override
+    public long nextExecutionEpochSecond(final long epochSecond, final ZoneId zone) {
+        return nextEpochSecond(epochSecond + 1, Preconditions.checkNotNull(zone));
+    }
+
+    @Override
+    public long lastExecutionEpochSecond(final long epochSecond, final ZoneId zone) {
+        return previousEpochSecond(epochSecond - 1, Preconditions.checkNotNull(zone));
+    }
+
+    /**
+     * Earliest execution at or after given epoch second.
+     *
+     * @return epoch second or NO_EXECUTION if there is no such execution
+     */
+    long nextEpochSecond(final long limit, final ZoneId zone) {
+        final long next = plannedNextEpochSecond(limit, zone);
+        if (isResolvedNearTransitions(zone, limit - 1, next)) {
+            return toEpochSecond(nearTransitions.nextExecution(toZonedDateTime(limit - 1, zone)));
+        }
+        return next;
+    }
+
+    /**
+     * Latest execution at or before given epoch second.
+     *
+     * @return epoch second or NO_EXECUTION if there is no such execution
+     */
+    long previousEpochSecond(final long limit, final ZoneId zone) {
+        final long previous = plannedPreviousEpochSecond(limit, zone);
+        if (isResolvedNearTransitions(zone, previous, limit + 1)) {
+            return toEpochSecond(nearTransitions.lastExecution(toZonedDateTime(limit + 1, zone)));
+        }
+        return previous;
+    }
+
+    /**
+     * Checks if a search from one epoch second to another is resolved by nearTransitions, an offset transition
+     * happening within a day of them.
+     *
+     * @param from - earlier epoch second, or NO_EXECUTION if a backwards search found nothing
+     * @param to   - later epoch second, or NO_EXECUTION if a forward search found nothing
+     */
+    private boolean isResolvedNearTransitions(final ZoneId zone, final long from, final long to) {
+        if (nearTransitions == null) {
+            return false;
+        }
+        final ZoneRules rules = zone.getRules();
+        if (rules.isFixedOffset()) {
+            return false;
+        }
+        if (from == NO_EXECUTION) {
+            return rules.previousTransition(Instant.ofEpochSecond(to + TRANSITION_MARGIN + 1)) != null;
+        }
+        final ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(from - TRANSITION_MARGIN - 1));
+        return transition != null && (to == NO_EXECUTION || transition.toEpochSecond() <= to + TRANSITION_MARGIN);
+    }
+
+    /**
+     * Earliest execution at or after given epoch second, following the rules of the class.
+     *
+     * @return epoch second or NO_EXECUTION if there is no such execution
+     */
+    private long plannedNextEpochSecond(final long limit, final ZoneId zone) {
+        if (zone instanceof ZoneOffset) {
+            final int offset = ((ZoneOffset) zone).getTotalSeconds();
+            return toEpochSecond(nextMatch(PackedDateTime.ofEpochSecond(limit + offset)), offset);
+        }
+        final ZoneRules rules = zone.getRules();
+        final ZoneOffset offset = rules.getOffset(Instant.ofEpochSecond(limit));
+        final long local = PackedDateTime.ofEpochSecond(limit + offset.getTotalSeconds());
+        if (rules.isFixedOffset()) {
+            return toEpochSecond(nextMatch(local), offset.getTotalSeconds());
+        }
+        long result = NO_EXECUTION;
+        for (long candidate = nextMatch(local); candidate != PackedDateTime.NONE; candidate = nextMatch(candidate + 1)) {
+            final long localEpochSecond = PackedDateTime.toEpochSecond(candidate);
+            final int candidateOffset = unambiguousOffset(rules, localEpochSecond);
+            if (candidateOffset != NO_OFFSET) {
+                result = localEpochSecond - candidateOffset;
+                break;
+            }
+            final List<ZoneOffset> validOffsets = rules.getValidOffsets(PackedDateTime.toLocalDateTime(candidate));
+            if (validOffsets.size() == 1) {
+                result = localEpochSecond - validOffsets.get(0).getTotalSeconds();
+                break;
+            }
+            if (validOffsets.size() == 2) {
+                final long first = localEpochSecond - validOffsets.get(0).getTotalSeconds();
+                if (first >= limit) {
+                    result = first;
+                    break;
+                }
+                if (repeatsOnOverlap) {
+                    result = localEpochSecond - validOffsets.get(1).getTotalSeconds();
+                    break;
+                }
+            }
+            // local time in a gap, or already executed before the overlap
+        }
+        if (repeatsOnOverlap && unambiguousOffset(rules, limit + offset.getTotalSeconds()) == NO_OFFSET) {
+            // limit may be on the first offset of an overlap: local times before it are repeated later
+            final ZoneOffsetTransition transition = rules.getTransition(PackedDateTime.toLocalDateTime(local));
+            if (transition != null && transition.isOverlap() && offset.equals(transition.getOffsetBefore())) {
+                final long repeated = nextMatch(PackedDateTime.of(transition.getDateTimeAfter()));
+                if (repeated != PackedDateTime.NONE && repeated < PackedDateTime.of(transition.getDateTimeBefore())) {
+                    final long epochSecond = toEpochSecond(repeated, transition.getOffsetAfter().getTotalSeconds());
+                    result = result == NO_EXECUTION ? epochSecond : Math.min(result, epochSecond);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Latest execution at or before given epoch second, following the rules of the class.
+     *
+     * @return epoch second or NO_EXECUTION if there is no such execution
+     */
+    private long plannedPreviousEpochSecond(final long limit, final ZoneId zone) {
+        if (zone instanceof ZoneOffset) {
+            final int offset = ((ZoneOffset) zone).getTotalSeconds();
+            return toEpochSecond(previousMatch(PackedDateTime.ofEpochSecond(limit + offset)), offset);
+        }
+        final ZoneRules rules = zone.getRules();
+        final ZoneOffset offset = rules.getOffset(Instant.ofEpochSecond(limit));
+        final long local = PackedDateTime.ofEpochSecond(limit + offset.getTotalSeconds());
+        if (rules.isFixedOffset()) {
+            return toEpochSecond(previousMatch(local), offset.getTotalSeconds());
+        }
+        long result = NO_EXECUTION;
+        for (long candidate = previousMatch(local); candidate != PackedDateTime.NONE; candidate = previousMatch(candidate - 1)) {
+            final long localEpochSecond = PackedDateTime.toEpochSecond(candidate);
+            final int candidateOffset = unambiguousOffset(rules, localEpochSecond);
+            if (candidateOffset != NO_OFFSET) {
+                result = localEpochSecond - candidateOffset;
+                break;
+            }
+            final List<ZoneOffset> validOffsets = rules.getValidOffsets(PackedDateTime.toLocalDateTime(candidate));
+            if (validOffsets.size() == 1) {
+                result = localEpochSecond - validOffsets.get(0).getTotalSeconds();
+                break;
+            }
+            if (validOffsets.size() == 2) {
+                final long second = localEpochSecond - validOffsets.get(1).getTotalSeconds();
+                result = repeatsOnOverlap && second <= limit ? second : localEpochSecond - validOffsets.get(0).getTotalSeconds();
+                break;
+            }
+            // local time in a gap
+        }
+        if (unambiguousOffset(rules, limit + offset.getTotalSeconds()) == NO_OFFSET) {
+            // limit may be on the second offset of an overlap: local times after it were executed on the first offset
+            final ZoneOffsetTransition transition = rules.getTransition(PackedDateTime.toLocalDateTime(local));
+            if (transition != null && transition.isOverlap() && offset.equals(transition.getOffsetAfter())) {
+                final long executed = previousMatch(PackedDateTime.of(transition.getDateTimeBefore()) - 1);
+                if (executed != PackedDateTime.NONE && executed >= PackedDateTime.of(transition.getDateTimeAfter())) {
+                    final long epochSecond = toEpochSecond(executed, transition.getOffsetBefore().getTotalSeconds());
+                    result = result == NO_EXECUTION ? epochSecond : Math.max(result, epochSecond);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Offset of a local time, as epoch second of the local date time at UTC, provided that no transition
+     * happens nearby; otherwise the local time may fall into a gap or an overlap, and offsets must be resolved
+     * through ZoneRules.getValidOffsets. Avoids creating java.time objects besides the instant looked up.
+     *
+     * @return offset in seconds, or NO_OFFSET if there is a transition nearby
+     */
+    private static int unambiguousOffset(final ZoneRules rules, final long localEpochSecond) {
+        final ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(localEpochSecond - TRANSITION_MARGIN));
+        if (transition == null) {
+            return rules.getOffset(Instant.ofEpochSecond(localEpochSecond)).getTotalSeconds();
+        }
+        if (transition.toEpochSecond() > localEpochSecond + TRANSITION_MARGIN) {
+            return transition.getOffsetBefore().getTotalSeconds();
+        }
+        return NO_OFFSET;
+    }
+
+    /**
+     * Checks each field of a local date time against the plan, without searching matches.
+     *
+     * @param local - packed local date time
+     * @return true if all fields match
+     */
+    boolean matches(final long local) {
+        if (empty) {
+            return false;
+        }
+        final int year = PackedDateTime.year(local);
+        final int month = PackedDateTime.month(local);
+        final int timeOfDay = PackedDateTime.timeOfDay(local);
+        return (months & (1 << month)) != 0
+                && (hours & (1L << PackedDateTime.hour(timeOfDay))) != 0
+                && (minutes & (1L << PackedDateTime.minute(timeOfDay))) != 0
+                && (seconds & (1L << PackedDateTime.second(timeOfDay))) != 0
+                && plan.isYearMatch(year)
+                && (plan.daysOfMonth(year, month) & (1 << PackedDateTime.day(local))) != 0;
+    }
+
+    /**
+     * @param date - date to be checked
+     * @return true if an offset transition of the date zone happens within a day of it.
+     */
+    static boolean isNearOffsetTransition(final ZonedDateTime date) {
+        return unambiguousOffset(date.getZone().getRules(), date.toLocalDateTime().toEpochSecond(ZoneOffset.UTC)) == NO_OFFSET;
+    }
+
+    /**
+     * Earliest matching local date time at or after given one.
+     *
+     * @param from - packed local date time; fields may exceed their range by one unit, meaning the next value.
+     * @return packed local date time or PackedDateTime.NONE if there is no match
+     */
+    long nextMatch(final long from) {
+        if (empty) {
+            return PackedDateTime.NONE;
+        }
+        int year = PackedDateTime.year(from);
+        int month = PackedDateTime.month(from);
+        int day = PackedDateTime.day(from);
+        int timeOfDay = PackedDateTime.timeOfDay(from);
+        for (int i = 0; i < MAX_YEARS; i++) {
+            if (plan.isYearMatch(year)) {
+                for (int m = nextBit(months, month); m >= 0; m = nextBit(months, m + 1)) {
+                    if (m != month) {
+                        day = 1;
+                        timeOfDay = 0;
+                    }
+                    final long days = Integer.toUnsignedLong(plan.daysOfMonth(year, m));
+                    for (int d = nextBit(days, day); d >= 0; d = nextBit(days, d + 1)) {
+                        final int time = nextTimeOfDay(d == day ? timeOfDay : 0);
+                        if (time >= 0) {
+                            return PackedDateTime.of(year, m, d, time);
+                        }
+                    }
+                }
+            }
+            year = plan.nextYear(year);
+            if (year == ExecutionPlan.NO_YEAR) {
+                return PackedDateTime.NONE;
+            }
+            month = 1;
+            day = 1;
+            timeOfDay = 0;
+        }
+        return PackedDateTime.NONE;
+    }
+
+    /**
+     * Latest matching local date time at or before given one.
+     *
+     * @param from - packed local date time; fields may be borrowed from, meaning the previous value.
+     * @return packed local date time or PackedDateTime.NONE if there is no match
+     */
+    long previousMatch(final long from) {
+        if (empty) {
+            return PackedDateTime.NONE;
+        }
+        int year = PackedDateTime.year(from);
+        int month = PackedDateTime.month(from);
+        int day = PackedDateTime.day(from);
+        int timeOfDay = PackedDateTime.timeOfDay(from);
+        for (int i = 0; i < MAX_YEARS; i++) {
+            if (plan.isYearMatch(year)) {
+                for (int m = previousBit(months, month); m >= 0; m = previousBit(months, m - 1)) {
+                    if (m != month) {
+                        day = 31;
+                        timeOfDay = HIGHEST_TIME_OF_DAY;
+                    }
+                    final long days = Integer.toUnsignedLong(plan.daysOfMonth(year, m));
+                    for (int d = previousBit(days, day); d >= 0; d = previousBit(days, d - 1)) {
+                        final int time = previousTimeOfDay(d == day ? timeOfDay : HIGHEST_TIME_OF_DAY);
+                        if (time >= 0) {
+                            return PackedDateTime.of(year, m, d, time);
+                        }
+                    }
+                }
+            }
+            year = plan.previousYear(year);
+            if (year == ExecutionPlan.NO_YEAR) {
+                return PackedDateTime.NONE;
+            }
+            month = 12;
+            day = 31;
+            timeOfDay = HIGHEST_TIME_OF_DAY;
+        }
+        return PackedDateTime.NONE;
+    }
+
+    private int nextTimeOfDay(final int from) {
+        int hour = nextBit(hours, PackedDateTime.hour(from));
+        if (hour < 0) {
+            return -1;
+        }
+        int minute = 0;
+        int second = 0;
+        if (hour == PackedDateTime.hour(from)) {
+            minute = PackedDateTime.minute(from);
+            second = PackedDateTime.second(from);
+        }
+        int m = nextBit(minutes, minute);
+        if (m != minute) {
+            second = 0;
+        }
+        int s = m < 0 ? -1 : nextBit(seconds, second);
+        if (s < 0) {
+            // seconds exhausted: move to the next minute, and to the next hour if needed
+            s = Long.numberOfTrailingZeros(seconds);
+            m = m < 0 ? -1 : nextBit(minutes, m + 1);
+            if (m < 0) {
+                hour = nextBit(hours, hour + 1);
+                if (hour < 0) {
+                    return -1;
+                }
+                m = Long.numberOfTrailingZeros(minutes);
+            }
+        }
+        return PackedDateTime.timeOfDay(hour, m, s);
+    }
+
+    private int previousTimeOfDay(final int from) {
+        int hour = previousBit(hours, PackedDateTime.hour(from));
+        if (hour < 0) {
+            return -1;
+        }
+        int minute = 59;
+        int second = 59;
+        if (hour == PackedDateTime.hour(from)) {
+            minute = PackedDateTime.minute(from);
+            second = PackedDateTime.second(from);
+        }
+        int m = previousBit(minutes, minute);
+        if (m != minute) {
+            second = 59;
+        }
+        int s = m < 0 ? -1 : previousBit(seconds, second);
+        if (s < 0) {
+            // seconds exhausted: move to the previous minute, and to the previous hour if needed
+            s = 63 - Long.numberOfLeadingZeros(seconds);
+            m = m < 0 ? -1 : previousBit(minutes, m - 1);
+            if (m < 0) {
+                hour = previousBit(hours, hour - 1);
+                if (hour < 0) {
+                    return -1;
+                }
+                m = 63 - Long.numberOfLeadingZeros(minutes);
+            }
+        }
+        return PackedDateTime.timeOfDay(hour, m, s);
+    }
+
+    /**
+     * @return lowest set bit at or above given index, -1 if none
+     */
+    static int nextBit(final long mask, final int from) {
+        if (from > 63) {
+            return -1;
+        }
+        final long candidates = mask & (-1L << Math.max(from, 0));
+        return candidates == 0 ? -1 : Long.numberOfTrailingZeros(candidates);
+    }
+
+    /**
+     * @return highest set bit at or below given index, -1 if none
+     */
+    static int previousBit(final long mask, final int from) {
+        if (from < 0) {
+            return -1;
+        }
+        final long candidates = from >= 63 ? mask : mask & ((1L << (from + 1)) - 1);
+        return candidates == 0 ? -1 : 63 - Long.numberOfLeadingZeros(candidates);
+    }
+
+    private static long toEpochSecond(final long local, final int offset) {
+        return local == PackedDateTime.NONE ? NO_EXECUTION : PackedDateTime.toEpochSecond(local) - offset;
+    }
+
+    private static long toEpochSecond(final Optional<ZonedDateTime> execution) {
+        return execution.map(ZonedDateTime::toEpochSecond).orElse(NO_EXECUTION);
+    }
+
+    private static ZonedDateTime toZonedDateTime(final long epochSecond, final ZoneId zone) {
+        return ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), zone);
+    }
+}
@@ -3,32 +3,46 @@ package com.cronutils.model.time;
 import com.cronutils.utils.Preconditions;
 
 import java.time.Duration;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
+/**
+ * ExecutionTime for a composite cron: executions of any member are executions of the composite.
+ * Members are evaluated sequentially on the calling thread, unless an Executor is given and the composite has at least
+ * PARALLEL_THRESHOLD members.
+ */
 public class CompositeExecutionTime implements ExecutionTime {
+    static final int PARALLEL_THRESHOLD = 16;
+
     private List<ExecutionTime> executionTimes;
+    private final Executor executor;
 
     public CompositeExecutionTime(List<ExecutionTime> executionTimes){
+        this(executionTimes, null);
+    }
+
+    /**
+     * @param executionTimes - member execution times, never null nor empty
+     * @param executor       - executor evaluating members of large composites; if null, members are always evaluated sequentially
+     */
+    public CompositeExecutionTime(List<ExecutionTime> executionTimes, Executor executor){
         Preconditions.checkNotNullNorEmpty(executionTimes, "ExecutionTime list cannot be null or empty");
         this.executionTimes = Collections.unmodifiableList(executionTimes);
+        this.executor = executor;
     }
 
     @Override
     public Optional<ZonedDateTime> nextExecution(ZonedDateTime date) {
-        Optional<Optional<ZonedDateTime>> next = executionTimes.parallelStream().map(e->e.nextExecution(date)).filter(Optional::isPresent).sorted(
-                (o1, o2) -> {
-                    if(o1.isPresent() && o2.isPresent()){
-                        ZonedDateTime first = o1.get();
-                        ZonedDateTime second = o2.get();
-                        return first.compareTo(second);
-                    }
-                    return 0;
-                }
-        ).findFirst();
-        return next.orElseGet(Optional::empty);
+        return reduce(e -> e.nextExecution(date), true);
     }
 
     @Override
@@ -39,16 +53,7 @@ public class CompositeExecutionTime implements ExecutionTime {
 
     @Override
     public Optional<ZonedDateTime> lastExecution(ZonedDateTime date) {
-        Optional<Optional<ZonedDateTime>> next = executionTimes.parallelStream().map(e->e.lastExecution(date)).filter(Optional::isPresent).sorted(
-                (o1, o2) -> {
-                    if(o1.isPresent() && o2.isPresent()){
-                        ZonedDateTime first = o1.get();
-                        ZonedDateTime second = o2.get();
-                        return second.compareTo(first);
-                    }
-                    return 0;
-                }).findFirst();
-        return next.orElseGet(Optional::empty);
+        return reduce(e -> e.lastExecution(date), false);
     }
 
     @Override
@@ -56,8 +61,118 @@ public class CompositeExecutionTime implements ExecutionTime {
         return lastExecution(date).map(zonedDateTime -> Duration.between(zonedDateTime, date));
     }
 
+    @Override
+    public long nextExecutionEpochSecond(long epochSecond, ZoneId zone) {
+        long next = NO_EXECUTION;
+        for (ExecutionTime executionTime : executionTimes) {
+            long candidate = executionTime.nextExecutionEpochSecond(epochSecond, zone);
+            if (candidate != NO_EXECUTION && (next == NO_EXECUTION || candidate < next)) {
+                next = candidate;
+            }
+        }
+        return next;
+    }
+
+    @Override
+    public long lastExecutionEpochSecond(long epochSecond, ZoneId zone) {
+        long last = NO_EXECUTION;
+        for (ExecutionTime executionTime : executionTimes) {
+            last = Math.max(last, executionTime.lastExecutionEpochSecond(epochSecond, zone));
+        }
+        return last;
+    }
+
     @Override
     public boolean isMatch(ZonedDateTime date) {
-        return executionTimes.parallelStream().map(e->e.isMatch(date)).filter(v-> v).count()>0;
+        if (isParallel()) {
+            return evaluate(e -> e.isMatch(date)).stream().anyMatch(CompletableFuture::join);
+        }
+        for (ExecutionTime executionTime : executionTimes) {
+            if (executionTime.isMatch(date)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Merges the executions of all members, keeping a heap with the next execution of each of them.
+     *
+     * @param start - reference date, not included in the stream.
+     * @return lazy Stream instance, never null.
+     */
+    @Override
+    public Stream<ZonedDateTime> executionsAfter(ZonedDateTime start) {
+        List<Iterator<ZonedDateTime>> sources = new ArrayList<>(executionTimes.size());
+        for (ExecutionTime executionTime : executionTimes) {
+            sources.add(executionTime.executionsAfter(start).iterator());
+        }
+        if (isParallel()) {
+            // first executions are the costly ones: look them up concurrently, iterators keep them
+            CompletableFuture.allOf(sources.stream().map(s -> CompletableFuture.runAsync(s::hasNext, executor))
+                    .toArray(CompletableFuture[]::new)).join();
+        }
+        return ExecutionStreams.merge(sources, false);
+    }
+
+    /**
+     * Merges the executions of all members backwards, keeping a heap with the previous execution of each of them.
+     *
+     * @param end - reference date, not included in the stream.
+     * @return lazy Stream instance, never null.
+     */
+    @Override
+    public Stream<ZonedDateTime> executionsBefore(ZonedDateTime end) {
+        List<Iterator<ZonedDateTime>> sources = new ArrayList<>(executionTimes.size());
+        for (ExecutionTime executionTime : executionTimes) {
+            sources.add(executionTime.executionsBefore(end).iterator());
+        }
+        if (isParallel()) {
+            CompletableFuture.allOf(sources.stream().map(s -> CompletableFuture.runAsync(s::hasNext, executor))
+                    .toArray(CompletableFuture[]::new)).join();
+        }
+        return ExecutionStreams.merge(sources, true);
+    }
+
+    private boolean isParallel() {
+        return executor != null && executionTimes.size() >= PARALLEL_THRESHOLD;
+    }
+
+    private <T> List<CompletableFuture<T>> evaluate(Function<ExecutionTime, T> query) {
+        List<CompletableFuture<T>> results = new ArrayList<>(executionTimes.size());
+        for (ExecutionTime executionTime : executionTimes) {
+            results.add(CompletableFuture.supplyAsync(() -> query.apply(executionTime), executor));
+        }
+        return results;
+    }
+
+    /**
+     * @param query    - execution looked up in each member
+     * @param earliest - if the earliest execution should be kept; otherwise the latest one is kept
+     * @return execution kept among members results, if any
+     */
+    private Optional<ZonedDateTime> reduce(Function<ExecutionTime, Optional<ZonedDateTime>> query, boolean earliest) {
+        ZonedDateTime result = null;
+        if (isParallel()) {
+            for (CompletableFuture<Optional<ZonedDateTime>> candidate : evaluate(query)) {
+                result = select(result, candidate.join().orElse(null), earliest);
+            }
+        } else {
+            for (ExecutionTime executionTime : executionTimes) {
+                result = select(result, query.apply(executionTime).orElse(null), earliest);
+            }
+        }
+        return Optional.ofNullable(result);
+    }
+
+    private static ZonedDateTime select(ZonedDateTime current, ZonedDateTime candidate, boolean earliest) {
+        if (candidate == null) {
+            return current;
+        }
+        if (current == null) {
+            return candidate;
+        }
+        int comparison = candidate.compareTo(current);
+        return (earliest ? comparison < 0 : comparison > 0) ? candidate : current;
     }
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.Cron;
+import com.cronutils.utils.Preconditions;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Finds which crons of a set match a given date, with the same semantics as ExecutionTime.isMatch.
+ * Crons are compiled into inverted bitmaps: for each value of each field, a bitmap with the crons matching that value.
+ * Matching crons are found intersecting the bitmaps for the date values, 64 crons per word.
+ * Local times repeated by an offset transition are rare, and checked against candidate crons one by one.
+ * Days of month depend on the calendar: their bitmaps are built when a month is first queried, and kept in a small
+ * direct mapped cache, so that queries alternating between nearby months do not rebuild them.
+ * Crons are identified by their position in the list given on creation.
+ * Instances are thread safe.
+ */
+public final class CronIndex {
+    private static final int MONTH_SLOTS = 8;
+
+    private final List<Cron> crons;
+    private final List<ExecutionPlan> plans = new ArrayList<>();
+    private final int[] owners;
+    private final boolean composite;
+    private final int words;
+    private final long[][] seconds = new long[60][];
+    private final long[][] minutes = new long[60][];
+    private final long[][] hours = new long[24][];
+    private final long[][] months = new long[13][];
+    private final AtomicReferenceArray<MonthIndex> monthIndexes = new AtomicReferenceArray<>(MONTH_SLOTS);
+
+    /**
+     * @param crons - crons to be indexed, never null
+     */
+    public CronIndex(final List<Cron> crons) {
+        Preconditions.checkNotNull(crons, "Crons must not be null");
+        this.crons = Collections.unmodifiableList(new ArrayList<>(crons));
+        final List<SingleExecutionTime> members = new ArrayList<>();
+        final List<Integer> memberOwners = new ArrayList<>();
+        for (int id = 0; id < this.crons.size(); id++) {
+            final Cron cron = Preconditions.checkNotNull(this.crons.get(id), "Cron must not be null");
+            final List<Cron> singles = cron instanceof CompositeCron ? ((CompositeCron) cron).getCrons() : Collections.singletonList(cron);
+            for (final Cron single : singles) {
+                final ExecutionTime executionTime = single.executionTime();
+                members.add(executionTime instanceof SingleExecutionTime
+                        ? (SingleExecutionTime) executionTime
+                        : ExecutionTimeBuilder.forCronFields(single).build());
+                memberOwners.add(id);
+            }
+        }
+        this.owners = memberOwners.stream().mapToInt(Integer::intValue).toArray();
+        this.composite = owners.length != this.crons.size();
+        this.words = (owners.length + Long.SIZE - 1) / Long.SIZE;
+        allocate(seconds);
+        allocate(minutes);
+        allocate(hours);
+        allocate(months);
+        for (int member = 0; member < members.size(); member++) {
+            final SingleExecutionTime executionTime = members.get(member);
+            final ExecutionPlan plan = new SingleExecutionPlan(executionTime);
+            plans.add(plan);
+            // dates are truncated to minutes for crons without seconds, so any second matches if second zero does
+            final long secondsMask = executionTime.isSecondGranularity() ? plan.seconds() : ((plan.seconds() & 1) == 0 ? 0 : -1L);
+            index(seconds, secondsMask, member);
+            index(minutes, plan.minutes(), member);
+            index(hours, plan.hours(), member);
+            index(months, Integer.toUnsignedLong(plan.months()), member);
+        }
+    }
+
+    public int size() {
+        return crons.size();
+    }
+
+    /**
+     * @param id - cron position in the list given on creation
+     * @return Cron instance, never null
+     */
+    public Cron getCron(final int id) {
+        return crons.get(id);
+    }
+
+    /**
+     * @param date - date to be matched, never null
+     * @return positions of the crons matching the date, never null
+     */
+    public BitSet matching(final ZonedDateTime date) {
+        Preconditions.checkNotNull(date, "Date must not be null");
+        final MonthIndex days = monthIndex(date.getYear(), date.getMonthValue());
+        final long[] result = new long[words];
+        final long[] second = seconds[date.getSecond()];
+        final long[] minute = minutes[date.getMinute()];
+        final long[] hour = hours[date.getHour()];
+        final long[] month = months[date.getMonthValue()];
+        final long[] day = days.days[date.getDayOfMonth()];
+        for (int j = 0; j < words; j++) {
+            result[j] = second[j] & minute[j] & hour[j] & month[j] & day[j];
+        }
+        final BitSet members = BitSet.valueOf(result);
+        final boolean repeated = date.getZone().getRules().getTransition(date.toLocalDateTime()) != null;
+        if (!composite && !repeated) {
+            return members;
+        }
+        final BitSet ids = new BitSet(crons.size());
+        for (int member = members.nextSetBit(0); member >= 0; member = members.nextSetBit(member + 1)) {
+            final int id = owners[member];
+            // local times repeated by an offset transition match depending on the cron: candidates are checked one by one
+            if (!ids.get(id) && (!repeated || crons.get(id).executionTime().isMatch(date))) {
+                ids.set(id);
+            }
+        }
+        return ids;
+    }
+
+    private MonthIndex monthIndex(final int year, final int month) {
+        final long key = (long) year * 12 + month - 1;
+        // consecutive months, and the same month of consecutive years, never share a slot
+        final int slot = (int) key & (MONTH_SLOTS - 1);
+        final MonthIndex current = monthIndexes.get(slot);
+        if (current != null && current.key == key) {
+            return current;
+        }
+        final MonthIndex built = new MonthIndex(key, new long[32][words]);
+        for (int member = 0; member < plans.size(); member++) {
+            final ExecutionPlan plan = plans.get(member);
+            if ((plan.months() & (1 << month)) != 0 && plan.isYearMatch(year)) {
+                for (int mask = plan.daysOfMonth(year, month); mask != 0; mask &= mask - 1) {
+                    set(built.days[Integer.numberOfTrailingZeros(mask)], member);
+                }
+            }
+        }
+        monthIndexes.set(slot, built);
+        return built;
+    }
+
+    private void allocate(final long[][] bitmaps) {
+        for (int j = 0; j < bitmaps.length; j++) {
+            bitmaps[j] = new long[words];
+        }
+    }
+
+    private static void index(final long[][] bitmaps, final long mask, final int member) {
+        for (int value = 0; value < bitmaps.length; value++) {
+            if ((mask & (1L << value)) != 0) {
+                set(bitmaps[value], member);
+            }
+        }
+    }
+
+    private static void set(final long[] bitmap, final int member) {
+        bitmap[member / Long.SIZE] |= 1L << member;
+    }
+
+    private static final class MonthIndex {
+        private final long key;
+        private final long[][] days;
+
+        private MonthIndex(final long key, final long[][] days) {
+            this.key = key;
+            this.days = days;
+        }
+    }
+}
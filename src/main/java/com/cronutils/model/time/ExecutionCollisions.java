@@ -0,0 +1,292 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.Cron;
+import com.cronutils.utils.Preconditions;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Finds instants where two crons execute at once. Crons are compared field by field: the bit masks of both execution
+ * plans are intersected into a plan that matches the local times matching both crons, and its executions are searched
+ * as CompiledExecutionTime does, instead of enumerating the executions of each cron.
+ * Searches have the same limits as CompiledExecutionTime ones: they give up after 400 candidate years.
+ */
+public final class ExecutionCollisions {
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    // offsets are within 18 hours: local dates of a window end within a day of it
+    private static final long OFFSET_MARGIN = 86_400L;
+
+    private ExecutionCollisions() {
+    }
+
+    /**
+     * Provides the first instant after given date where both crons execute.
+     *
+     * @param first  - Cron instance, never null
+     * @param second - Cron instance, never null
+     * @param date   - reference date, not included; executions are computed on its zone. Never null.
+     * @return Optional ZonedDateTime instance, never null. Empty if crons do not execute at once.
+     */
+    public static Optional<ZonedDateTime> firstCollision(final Cron first, final Cron second, final ZonedDateTime date) {
+        Preconditions.checkNotNull(first, "Cron must not be null");
+        Preconditions.checkNotNull(second, "Cron must not be null");
+        Preconditions.checkNotNull(date, "Date must not be null");
+        final long collision = firstCollision(plans(first), plans(second), date.toEpochSecond() + 1, Long.MAX_VALUE, date.getZone());
+        return collision == ExecutionTime.NO_EXECUTION ? Optional.empty() : Optional.of(toZonedDateTime(collision, date.getZone()));
+    }
+
+    /**
+     * Finds the pairs of crons that execute at once after start date and up to end date, included.
+     * Crons are indexed by the hours and minutes they execute on, so that only crons sharing some of them are compared.
+     *
+     * @param crons - crons to be compared, never null; they are identified by their position in the list
+     * @param start - start of the window, not included; executions are computed on its zone. Never null.
+     * @param end   - end of the window, included. Never null.
+     * @return collisions sorted by the positions of both crons, never null
+     */
+    public static List<Collision> collisions(final List<Cron> crons, final ZonedDateTime start, final ZonedDateTime end) {
+        Preconditions.checkNotNull(crons, "Crons must not be null");
+        Preconditions.checkNotNull(start, "Start must not be null");
+        Preconditions.checkNotNull(end, "End must not be null");
+        final List<ExecutionPlan> plans = new ArrayList<>();
+        final List<Integer> memberOwners = new ArrayList<>();
+        for (int id = 0; id < crons.size(); id++) {
+            for (final ExecutionPlan plan : plans(Preconditions.checkNotNull(crons.get(id), "Cron must not be null"))) {
+                plans.add(plan);
+                memberOwners.add(id);
+            }
+        }
+        final int[] owners = memberOwners.stream().mapToInt(Integer::intValue).toArray();
+        final int[][] index = index(plans);
+        final ZoneId zone = start.getZone();
+        final long from = start.toEpochSecond() + 1;
+        final long to = end.toEpochSecond();
+        final Map<Long, Long> found = new HashMap<>();
+        for (int key = 0; key < MINUTES_PER_DAY; key++) {
+            final int[] members = index[key];
+            for (int i = 1; i < members[0]; i++) {
+                final ExecutionPlan a = plans.get(members[i]);
+                for (int j = i + 1; j <= members[0]; j++) {
+                    final ExecutionPlan b = plans.get(members[j]);
+                    final int ownerA = owners[members[i]];
+                    final int ownerB = owners[members[j]];
+                    // each pair is compared on the first hour and minute both execute on
+                    if (ownerA == ownerB || firstSharedMinute(a, b) != key) {
+                        continue;
+                    }
+                    final long collision = firstCollision(Collections.singletonList(a), Collections.singletonList(b), from, to, zone);
+                    if (collision != ExecutionTime.NO_EXECUTION) {
+                        found.merge((long) Math.min(ownerA, ownerB) * crons.size() + Math.max(ownerA, ownerB), collision, Math::min);
+                    }
+                }
+            }
+        }
+        final List<Collision> collisions = new ArrayList<>(found.size());
+        for (final Map.Entry<Long, Long> entry : found.entrySet()) {
+            final int a = (int) (entry.getKey() / crons.size());
+            final int b = (int) (entry.getKey() % crons.size());
+            collisions.add(new Collision(a, b, toZonedDateTime(entry.getValue(), zone)));
+        }
+        collisions.sort((x, y) -> x.first != y.first ? Integer.compare(x.first, y.first) : Integer.compare(x.second, y.second));
+        return Collections.unmodifiableList(collisions);
+    }
+
+    /**
+     * @return for each minute of the day, the members executing on it: element 0 holds their count
+     */
+    private static int[][] index(final List<ExecutionPlan> plans) {
+        final int[][] index = new int[MINUTES_PER_DAY][];
+        for (int key = 0; key < MINUTES_PER_DAY; key++) {
+            index[key] = new int[] { 0 };
+        }
+        for (int member = 0; member < plans.size(); member++) {
+            final ExecutionPlan plan = plans.get(member);
+            if (plan.seconds() == 0 || plan.months() == 0) {
+                continue;
+            }
+            for (long hours = plan.hours(); hours != 0; hours &= hours - 1) {
+                final int hour = Long.numberOfTrailingZeros(hours);
+                for (long minutes = plan.minutes(); minutes != 0; minutes &= minutes - 1) {
+                    final int key = hour * 60 + Long.numberOfTrailingZeros(minutes);
+                    int[] members = index[key];
+                    if (members[0] + 1 == members.length) {
+                        members = index[key] = Arrays.copyOf(members, members.length * 2);
+                    }
+                    members[++members[0]] = member;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * @return first minute of the day both plans execute on, -1 if none
+     */
+    private static int firstSharedMinute(final ExecutionPlan a, final ExecutionPlan b) {
+        final long hours = a.hours() & b.hours();
+        final long minutes = a.minutes() & b.minutes();
+        if (hours == 0 || minutes == 0 || (a.seconds() & b.seconds()) == 0 || (a.months() & b.months()) == 0) {
+            return -1;
+        }
+        return Long.numberOfTrailingZeros(hours) * 60 + Long.numberOfTrailingZeros(minutes);
+    }
+
+    private static long firstCollision(final List<ExecutionPlan> first, final List<ExecutionPlan> second, final long from, final long to,
+            final ZoneId zone) {
+        // searches stop on the last year of the window, instead of looking for a collision in later years
+        final int lastYear = to > Long.MAX_VALUE - OFFSET_MARGIN ? Integer.MAX_VALUE : PackedDateTime.year(PackedDateTime.ofEpochSecond(to + OFFSET_MARGIN));
+        long result = ExecutionTime.NO_EXECUTION;
+        for (final ExecutionPlan a : first) {
+            for (final ExecutionPlan b : second) {
+                final long collision = new CompiledExecutionTime(new IntersectionPlan(a, b, lastYear), true).nextEpochSecond(from, zone);
+                if (collision != ExecutionTime.NO_EXECUTION && collision <= to && (result == ExecutionTime.NO_EXECUTION || collision < result)) {
+                    result = collision;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static List<ExecutionPlan> plans(final Cron cron) {
+        if (cron instanceof CompositeCron) {
+            final List<ExecutionPlan> plans = new ArrayList<>();
+            for (final Cron member : ((CompositeCron) cron).getCrons()) {
+                plans.addAll(plans(member));
+            }
+            return plans;
+        }
+        final ExecutionTime executionTime = cron.executionTime();
+        final SingleExecutionTime single = executionTime instanceof SingleExecutionTime
+                ? (SingleExecutionTime) executionTime
+                : ExecutionTimeBuilder.forCronFields(cron).build();
+        return Collections.singletonList(single.compiled().plan());
+    }
+
+    private static ZonedDateTime toZonedDateTime(final long epochSecond, final ZoneId zone) {
+        return ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), zone);
+    }
+
+    /**
+     * Two crons executing at once.
+     */
+    public static final class Collision {
+        private final int first;
+        private final int second;
+        private final ZonedDateTime date;
+
+        private Collision(final int first, final int second, final ZonedDateTime date) {
+            this.first = first;
+            this.second = second;
+            this.date = date;
+        }
+
+        /**
+         * @return position of the first cron in the list given, lower than the second one
+         */
+        public int getFirst() {
+            return first;
+        }
+
+        /**
+         * @return position of the second cron in the list given
+         */
+        public int getSecond() {
+            return second;
+        }
+
+        /**
+         * @return first instant in the window where both crons execute
+         */
+        public ZonedDateTime getDate() {
+            return date;
+        }
+
+        @Override
+        public String toString() {
+            return "Collision{" + "first=" + first + ", second=" + second + ", date=" + date + '}';
+        }
+    }
+
+    /**
+     * Plan matching the local times both plans match, up to a given year.
+     * Candidate years of both plans are merged: any year matching both is a candidate of each of them.
+     */
+    private static final class IntersectionPlan implements ExecutionPlan {
+        private final ExecutionPlan a;
+        private final ExecutionPlan b;
+        private final int lastYear;
+
+        private IntersectionPlan(final ExecutionPlan a, final ExecutionPlan b, final int lastYear) {
+            this.a = a;
+            this.b = b;
+            this.lastYear = lastYear;
+        }
+
+        @Override
+        public long seconds() {
+            return a.seconds() & b.seconds();
+        }
+
+        @Override
+        public long minutes() {
+            return a.minutes() & b.minutes();
+        }
+
+        @Override
+        public long hours() {
+            return a.hours() & b.hours();
+        }
+
+        @Override
+        public int months() {
+            return a.months() & b.months();
+        }
+
+        @Override
+        public int daysOfMonth(final int year, final int month) {
+            return a.daysOfMonth(year, month) & b.daysOfMonth(year, month);
+        }
+
+        @Override
+        public boolean isYearMatch(final int year) {
+            return year <= lastYear && a.isYearMatch(year) && b.isYearMatch(year);
+        }
+
+        @Override
+        public int nextYear(final int year) {
+            final int nextA = a.nextYear(year);
+            final int nextB = b.nextYear(year);
+            return nextA == NO_YEAR || nextB == NO_YEAR || Math.max(nextA, nextB) > lastYear ? NO_YEAR : Math.max(nextA, nextB);
+        }
+
+        @Override
+        public int previousYear(final int year) {
+            final int previousA = a.previousYear(year);
+            final int previousB = b.previousYear(year);
+            return previousA == NO_YEAR || previousB == NO_YEAR ? NO_YEAR : Math.min(previousA, previousB);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.Cron;
+import com.cronutils.utils.Preconditions;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Counts the executions of many crons in consecutive buckets of a time window, such as the jobs starting on each minute
+ * of a day. The window starts at a date, truncated to seconds, and is split into buckets of the same size; the last one
+ * may be shorter. Executions are computed on the zone of the start date.
+ * Crons are split into chunks counted on a ForkJoinPool, and the histograms of the chunks are added up.
+ * Crons compiled into bit masks that execute more times than there are buckets are counted bucket by bucket,
+ * instead of iterating their executions. Instances are immutable and thread safe.
+ */
+public final class ExecutionHistogram {
+    private static final int CHUNK_SIZE = 64;
+
+    private final ZoneId zone;
+    private final long start;
+    private final long end;
+    private final long bucketSeconds;
+    private final int buckets;
+
+    /**
+     * @param start      - start of the window, included; never null
+     * @param end        - end of the window, excluded; never null
+     * @param bucketSize - duration of each bucket, a positive number of whole seconds; never null
+     */
+    public ExecutionHistogram(final ZonedDateTime start, final ZonedDateTime end, final Duration bucketSize) {
+        Preconditions.checkNotNull(start, "Start must not be null");
+        Preconditions.checkNotNull(end, "End must not be null");
+        Preconditions.checkNotNull(bucketSize, "Bucket size must not be null");
+        Preconditions.checkArgument(bucketSize.getSeconds() > 0 && bucketSize.getNano() == 0, "Bucket size must be a positive number of seconds");
+        Preconditions.checkArgument(!end.isBefore(start), "End must not be before start");
+        this.zone = start.getZone();
+        this.start = start.toEpochSecond();
+        this.end = Math.max(this.start, end.getNano() > 0 ? end.toEpochSecond() + 1 : end.toEpochSecond());
+        this.bucketSeconds = bucketSize.getSeconds();
+        final long count = (this.end - this.start + bucketSeconds - 1) / bucketSeconds;
+        Preconditions.checkArgument(count <= Integer.MAX_VALUE, "Too many buckets");
+        this.buckets = (int) count;
+    }
+
+    /**
+     * @return number of buckets in the window
+     */
+    public int buckets() {
+        return buckets;
+    }
+
+    /**
+     * @param bucket - bucket index, from zero
+     * @return start of the bucket, on the zone of the window
+     */
+    public ZonedDateTime bucketStart(final int bucket) {
+        Preconditions.checkArgument(bucket >= 0 && bucket < buckets, "Bucket out of range");
+        return ZonedDateTime.ofInstant(Instant.ofEpochSecond(start + bucket * bucketSeconds), zone);
+    }
+
+    /**
+     * Counts the executions of given crons on the common ForkJoinPool.
+     *
+     * @param crons - crons to be counted, never null
+     * @return executions per bucket, never null
+     */
+    public long[] countCrons(final Collection<Cron> crons) {
+        Preconditions.checkNotNull(crons, "Crons must not be null");
+        final List<ExecutionTime> executionTimes = new ArrayList<>(crons.size());
+        for (final Cron cron : crons) {
+            executionTimes.add(Preconditions.checkNotNull(cron, "Cron must not be null").executionTime());
+        }
+        return count(executionTimes);
+    }
+
+    /**
+     * Counts the executions of given execution times on the common ForkJoinPool.
+     *
+     * @param executionTimes - execution times to be counted, never null
+     * @return executions per bucket, never null
+     */
+    public long[] count(final Collection<ExecutionTime> executionTimes) {
+        return count(executionTimes, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Counts the executions of given execution times.
+     *
+     * @param executionTimes - execution times to be counted, never null
+     * @param pool           - pool running the chunks, never null
+     * @return executions per bucket, never null
+     */
+    public long[] count(final Collection<ExecutionTime> executionTimes, final ForkJoinPool pool) {
+        Preconditions.checkNotNull(executionTimes, "Execution times must not be null");
+        Preconditions.checkNotNull(pool, "Pool must not be null");
+        final ExecutionTime[] items = executionTimes.toArray(new ExecutionTime[0]);
+        for (final ExecutionTime executionTime : items) {
+            Preconditions.checkNotNull(executionTime, "Execution time must not be null");
+        }
+        if (items.length <= CHUNK_SIZE) {
+            return countChunk(items, 0, items.length);
+        }
+        return pool.invoke(new ChunkTask(items, 0, items.length));
+    }
+
+    private long[] countChunk(final ExecutionTime[] items, final int from, final int to) {
+        final long[] histogram = new long[buckets];
+        for (int j = from; j < to; j++) {
+            add(items[j], histogram);
+        }
+        return histogram;
+    }
+
+    private void add(final ExecutionTime executionTime, final long[] histogram) {
+        if (buckets == 0) {
+            return;
+        }
+        final CompiledExecutionTime compiled = compiled(executionTime);
+        if (compiled != null && compiled.countEpochSeconds(start, end - 1, zone) > buckets) {
+            compiled.countEpochSeconds(start, end - 1, zone, bucketSeconds, histogram);
+            return;
+        }
+        for (long execution = executionTime.nextExecutionEpochSecond(start - 1, zone);
+                execution != ExecutionTime.NO_EXECUTION && execution < end;
+                execution = executionTime.nextExecutionEpochSecond(execution, zone)) {
+            histogram[(int) ((execution - start) / bucketSeconds)]++;
+        }
+    }
+
+    private static CompiledExecutionTime compiled(final ExecutionTime executionTime) {
+        if (executionTime instanceof CompiledExecutionTime) {
+            return (CompiledExecutionTime) executionTime;
+        }
+        if (executionTime instanceof SingleExecutionTime) {
+            return ((SingleExecutionTime) executionTime).compiled();
+        }
+        return null;
+    }
+
+    private final class ChunkTask extends RecursiveTask<long[]> {
+        private static final long serialVersionUID = 1L;
+        private final transient ExecutionTime[] items;
+        private final int from;
+        private final int to;
+
+        private ChunkTask(final ExecutionTime[] items, final int from, final int to) {
+            this.items = items;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= CHUNK_SIZE) {
+                return countChunk(items, from, to);
+            }
+            final int middle = (from + to) >>> 1;
+            final ChunkTask left = new ChunkTask(items, from, middle);
+            left.fork();
+            final long[] histogram = new ChunkTask(items, middle, to).compute();
+            final long[] other = left.join();
+            for (int j = 0; j < histogram.length; j++) {
+                histogram[j] += other[j];
+            }
+            return histogram;
+        }
+    }
+}
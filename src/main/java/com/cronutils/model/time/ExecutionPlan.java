@@ -0,0 +1,65 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+/**
+ * Cron fields compiled into bit masks: bit n is set if value n matches the field.
+ * Days of month and years depend on the calendar, so they are resolved on demand.
+ */
+interface ExecutionPlan {
+    int NO_YEAR = Integer.MIN_VALUE;
+
+    /**
+     * @return bit mask with matching seconds, bits 0 to 59
+     */
+    long seconds();
+
+    /**
+     * @return bit mask with matching minutes, bits 0 to 59
+     */
+    long minutes();
+
+    /**
+     * @return bit mask with matching hours, bits 0 to 23
+     */
+    long hours();
+
+    /**
+     * @return bit mask with matching months, bits 1 to 12
+     */
+    int months();
+
+    /**
+     * Provides matching days for given year and month.
+     *
+     * @param year  - year
+     * @param month - month, from 1 to 12
+     * @return bit mask with matching days, bits 1 to the length of the month; zero if no day matches
+     */
+    int daysOfMonth(int year, int month);
+
+    boolean isYearMatch(int year);
+
+    /**
+     * @param year - reference year
+     * @return next candidate year greater than reference, or NO_YEAR if there is none
+     */
+    int nextYear(int year);
+
+    /**
+     * @param year - reference year
+     * @return previous candidate year lower than reference, or NO_YEAR if there is none
+     */
+    int previousYear(int year);
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy streams of executions: each element is computed from the previous one, when requested.
+ */
+final class ExecutionStreams {
+    private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL;
+
+    private ExecutionStreams() {
+    }
+
+    /**
+     * @param start - reference date, not included in the stream.
+     * @param step  - provides the execution that follows given one, if any.
+     * @return lazy Stream instance, never null.
+     */
+    static Stream<ZonedDateTime> iterate(final ZonedDateTime start, final Function<ZonedDateTime, Optional<ZonedDateTime>> step) {
+        return stream(new ExecutionIterator() {
+            private ZonedDateTime current = start;
+
+            @Override
+            protected ZonedDateTime computeNext() {
+                current = step.apply(current).orElse(null);
+                return current;
+            }
+        });
+    }
+
+    /**
+     * @param start - reference epoch second, not included in the stream.
+     * @param zone  - zone of the returned dates.
+     * @param step  - provides the epoch second of the execution that follows given one, or NO_EXECUTION.
+     * @return lazy Stream instance, never null.
+     */
+    static Stream<ZonedDateTime> iterate(final long start, final ZoneId zone, final LongUnaryOperator step) {
+        return stream(new ExecutionIterator() {
+            private long current = start;
+
+            @Override
+            protected ZonedDateTime computeNext() {
+                if (current == ExecutionTime.NO_EXECUTION) {
+                    return null;
+                }
+                current = step.applyAsLong(current);
+                return current == ExecutionTime.NO_EXECUTION ? null : ZonedDateTime.ofInstant(Instant.ofEpochSecond(current), zone);
+            }
+        });
+    }
+
+    /**
+     * Merges sorted executions into a single sorted stream, with a heap holding the next execution of each source.
+     * Executions at the same instant are returned once.
+     *
+     * @param sources    - iterators over executions, all of them in the same order.
+     * @param descending - true if sources provide executions in reverse chronological order.
+     * @return lazy Stream instance, never null.
+     */
+    static Stream<ZonedDateTime> merge(final List<Iterator<ZonedDateTime>> sources, final boolean descending) {
+        final int sign = descending ? -1 : 1;
+        return stream(new ExecutionIterator() {
+            private PriorityQueue<Head> heads;
+            private ZonedDateTime last;
+
+            @Override
+            protected ZonedDateTime computeNext() {
+                if (heads == null) {
+                    heads = new PriorityQueue<>(Math.max(1, sources.size()), (a, b) -> sign * a.value.compareTo(b.value));
+                    for (final Iterator<ZonedDateTime> source : sources) {
+                        if (source.hasNext()) {
+                            heads.add(new Head(source.next(), source));
+                        }
+                    }
+                }
+                while (!heads.isEmpty()) {
+                    final Head head = heads.poll();
+                    final ZonedDateTime value = head.value;
+                    if (head.source.hasNext()) {
+                        head.value = head.source.next();
+                        heads.add(head);
+                    }
+                    if (last == null || sign * value.toInstant().compareTo(last.toInstant()) > 0) {
+                        last = value;
+                        return value;
+                    }
+                }
+                return null;
+            }
+        });
+    }
+
+    private static Stream<ZonedDateTime> stream(final Iterator<ZonedDateTime> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, CHARACTERISTICS), false);
+    }
+
+    private abstract static class ExecutionIterator implements Iterator<ZonedDateTime> {
+        private ZonedDateTime next;
+        private boolean computed;
+        private boolean finished;
+
+        /**
+         * @return next execution, or null if there are no more executions.
+         */
+        protected abstract ZonedDateTime computeNext();
+
+        @Override
+        public boolean hasNext() {
+            if (!computed && !finished) {
+                next = computeNext();
+                computed = true;
+                finished = next == null;
+            }
+            return !finished;
+        }
+
+        @Override
+        public ZonedDateTime next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            computed = false;
+            return next;
+        }
+    }
+
+    private static final class Head {
+        private ZonedDateTime value;
+        private final Iterator<ZonedDateTime> source;
+
+        private Head(final ZonedDateTime value, final Iterator<ZonedDateTime> source) {
+            this.value = value;
+            this.source = source;
+        }
+    }
+}
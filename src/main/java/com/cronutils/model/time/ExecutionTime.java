@@ -16,65 +16,37 @@ package com.cronutils.model.time;
 import com.cronutils.model.CompositeCron;
 import com.cronutils.model.Cron;
 import com.cronutils.model.SingleCron;
-import com.cronutils.model.field.CronField;
-import com.cronutils.model.field.CronFieldName;
+import com.cronutils.utils.Preconditions;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Calculates execution time given a cron pattern.
  */
 public interface ExecutionTime {
+    /**
+     * Value returned by epoch second methods when there is no execution.
+     */
+    long NO_EXECUTION = Long.MIN_VALUE;
 
     /**
      * Creates execution time for given Cron.
+     * A new instance is built on each call; Cron.executionTime() builds it once per Cron instance.
      *
      * @param cron - Cron instance
      * @return ExecutionTime instance
      */
     public static ExecutionTime forCron(final Cron cron) {
         if(cron instanceof SingleCron){
-            final Map<CronFieldName, CronField> fields = cron.retrieveFieldsAsMap();
-            final ExecutionTimeBuilder executionTimeBuilder = new ExecutionTimeBuilder(cron);
-            for (final CronFieldName name : CronFieldName.values()) {
-                if (fields.get(name) != null) {
-                    switch (name) {
-                        case SECOND:
-                            executionTimeBuilder.forSecondsMatching(fields.get(name));
-                            break;
-                        case MINUTE:
-                            executionTimeBuilder.forMinutesMatching(fields.get(name));
-                            break;
-                        case HOUR:
-                            executionTimeBuilder.forHoursMatching(fields.get(name));
-                            break;
-                        case DAY_OF_WEEK:
-                            executionTimeBuilder.forDaysOfWeekMatching(fields.get(name));
-                            break;
-                        case DAY_OF_MONTH:
-                            executionTimeBuilder.forDaysOfMonthMatching(fields.get(name));
-                            break;
-                        case MONTH:
-                            executionTimeBuilder.forMonthsMatching(fields.get(name));
-                            break;
-                        case YEAR:
-                            executionTimeBuilder.forYearsMatching(fields.get(name));
-                            break;
-                        case DAY_OF_YEAR:
-                            executionTimeBuilder.forDaysOfYearMatching(fields.get(name));
-                            break;
-                        default:
-                            break;
-                    }
-                }
-            }
-            return executionTimeBuilder.build();
+            return ExecutionTimeBuilder.forCronFields(cron).build();
         }else{
-            return new CompositeExecutionTime(((CompositeCron)cron).getCrons().parallelStream().map(ExecutionTime::forCron).collect(Collectors.toList()));
+            return new CompositeExecutionTime(((CompositeCron)cron).getCrons().stream().map(Cron::executionTime).collect(Collectors.toList()));
         }
 
     }
@@ -130,4 +102,89 @@ public interface ExecutionTime {
      * @return true if date matches cron expression requirements, false otherwise.
      */
     boolean isMatch(ZonedDateTime date);
+
+    /**
+     * Provide executions after given date, lazily computed in chronological order.
+     * Implementations keep their position between elements, instead of searching each one from scratch.
+     *
+     * @param start - ZonedDateTime instance. If null, a NullPointerException will be raised. Not included in the stream.
+     * @return Stream of ZonedDateTime instances, never null. It is infinite unless the cron stops matching.
+     */
+    default Stream<ZonedDateTime> executionsAfter(final ZonedDateTime start) {
+        Preconditions.checkNotNull(start);
+        return ExecutionStreams.iterate(start, this::nextExecution);
+    }
+
+    /**
+     * Provide executions before given date, lazily computed in reverse chronological order.
+     * Implementations keep their position between elements, instead of searching each one from scratch.
+     *
+     * @param end - ZonedDateTime instance. If null, a NullPointerException will be raised. Not included in the stream.
+     * @return Stream of ZonedDateTime instances, never null. Executions are provided from the latest one backwards.
+     */
+    default Stream<ZonedDateTime> executionsBefore(final ZonedDateTime end) {
+        Preconditions.checkNotNull(end);
+        return ExecutionStreams.iterate(end, this::lastExecution);
+    }
+
+    /**
+     * Provide next executions after given date.
+     *
+     * @param start - ZonedDateTime instance. If null, a NullPointerException will be raised. Not included in the stream.
+     * @param count - maximum number of executions to provide.
+     * @return Stream of ZonedDateTime instances, never null. Executions are lazily computed in chronological order.
+     */
+    default Stream<ZonedDateTime> nextExecutions(final ZonedDateTime start, final int count) {
+        Preconditions.checkArgument(count >= 0, "Count must not be negative");
+        return executionsAfter(start).limit(count);
+    }
+
+    /**
+     * Provide executions after start date and up to end date, included.
+     *
+     * @param start - ZonedDateTime instance. If null, a NullPointerException will be raised. Not included in the stream.
+     * @param end   - ZonedDateTime instance. If null, a NullPointerException will be raised.
+     * @return Stream of ZonedDateTime instances, never null. Executions are lazily computed in chronological order.
+     */
+    default Stream<ZonedDateTime> executionsBetween(final ZonedDateTime start, final ZonedDateTime end) {
+        Preconditions.checkNotNull(end);
+        return executionsAfter(start).takeWhile(date -> !date.isAfter(end));
+    }
+
+    /**
+     * Count executions after start date and up to end date, included: those executionsBetween provides.
+     * Implementations override it to count executions from the compiled fields, without computing each of them.
+     *
+     * @param start - ZonedDateTime instance. If null, a NullPointerException will be raised. Not included in the count.
+     * @param end   - ZonedDateTime instance. If null, a NullPointerException will be raised.
+     * @return number of executions, zero if end is not after start.
+     */
+    default long countExecutions(final ZonedDateTime start, final ZonedDateTime end) {
+        return executionsBetween(start, end).count();
+    }
+
+    /**
+     * Provide nearest epoch second for next execution, without wrapping values into java.time objects.
+     * Implementations override it with a search that does not allocate intermediate objects.
+     *
+     * @param epochSecond - reference instant, as seconds from the epoch of 1970-01-01T00:00:00Z.
+     * @param zone        - ZoneId where the cron executes. If null, a NullPointerException will be raised.
+     * @return epoch second of next execution, or NO_EXECUTION if there is none.
+     */
+    default long nextExecutionEpochSecond(final long epochSecond, final ZoneId zone) {
+        return nextExecution(ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), zone))
+                .map(ZonedDateTime::toEpochSecond).orElse(NO_EXECUTION);
+    }
+
+    /**
+     * Provide nearest epoch second for last execution, without wrapping values into java.time objects.
+     *
+     * @param epochSecond - reference instant, as seconds from the epoch of 1970-01-01T00:00:00Z.
+     * @param zone        - ZoneId where the cron executes. If null, a NullPointerException will be raised.
+     * @return epoch second of last execution, or NO_EXECUTION if there is none.
+     */
+    default long lastExecutionEpochSecond(final long epochSecond, final ZoneId zone) {
+        return lastExecution(ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), zone))
+                .map(ZonedDateTime::toEpochSecond).orElse(NO_EXECUTION);
+    }
 }
@@ -25,6 +25,8 @@ import com.cronutils.model.time.generator.FieldValueGenerator;
 import com.cronutils.model.time.generator.FieldValueGeneratorFactory;
 import com.cronutils.utils.Preconditions;
 
+import java.util.Map;
+
 import static com.cronutils.model.field.expression.FieldExpression.always;
 
 /**
@@ -46,27 +48,71 @@ class ExecutionTimeBuilder {
         this.cron = cron;
     }
 
+    /**
+     * Creates a builder and registers all fields present at given cron.
+     *
+     * @param cron - Cron instance
+     * @return ExecutionTimeBuilder instance, never null
+     */
+    static ExecutionTimeBuilder forCronFields(final Cron cron) {
+        final Map<CronFieldName, CronField> fields = cron.retrieveFieldsAsMap();
+        final ExecutionTimeBuilder executionTimeBuilder = new ExecutionTimeBuilder(cron);
+        for (final CronFieldName name : CronFieldName.values()) {
+            if (fields.get(name) != null) {
+                switch (name) {
+                    case SECOND:
+                        executionTimeBuilder.forSecondsMatching(fields.get(name));
+                        break;
+                    case MINUTE:
+                        executionTimeBuilder.forMinutesMatching(fields.get(name));
+                        break;
+                    case HOUR:
+                        executionTimeBuilder.forHoursMatching(fields.get(name));
+                        break;
+                    case DAY_OF_WEEK:
+                        executionTimeBuilder.forDaysOfWeekMatching(fields.get(name));
+                        break;
+                    case DAY_OF_MONTH:
+                        executionTimeBuilder.forDaysOfMonthMatching(fields.get(name));
+                        break;
+                    case MONTH:
+                        executionTimeBuilder.forMonthsMatching(fields.get(name));
+                        break;
+                    case YEAR:
+                        executionTimeBuilder.forYearsMatching(fields.get(name));
+                        break;
+                    case DAY_OF_YEAR:
+                        executionTimeBuilder.forDaysOfYearMatching(fields.get(name));
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        return executionTimeBuilder;
+    }
+
     protected ExecutionTimeBuilder forSecondsMatching(final CronField cronField) {
         validate(CronFieldName.SECOND, cronField);
-        seconds = new TimeNode(FieldValueGeneratorFactory.forCronField(cronField).generateCandidates(0, 59));
+        seconds = new TimeNode(FieldValueGeneratorFactory.forCronField(cronField).candidatesMask(0, 59));
         return this;
     }
 
     protected ExecutionTimeBuilder forMinutesMatching(final CronField cronField) {
         validate(CronFieldName.MINUTE, cronField);
-        minutes = new TimeNode(FieldValueGeneratorFactory.forCronField(cronField).generateCandidates(0, 59));
+        minutes = new TimeNode(FieldValueGeneratorFactory.forCronField(cronField).candidatesMask(0, 59));
         return this;
     }
 
     protected ExecutionTimeBuilder forHoursMatching(final CronField cronField) {
         validate(CronFieldName.HOUR, cronField);
-        hours = new TimeNode(FieldValueGeneratorFactory.forCronField(cronField).generateCandidates(0, 23));
+        hours = new TimeNode(FieldValueGeneratorFactory.forCronField(cronField).candidatesMask(0, 23));
         return this;
     }
 
     protected ExecutionTimeBuilder forMonthsMatching(final CronField cronField) {
         validate(CronFieldName.MONTH, cronField);
-        months = new TimeNode(FieldValueGeneratorFactory.forCronField(cronField).generateCandidates(1, 12));
+        months = new TimeNode(FieldValueGeneratorFactory.forCronField(cronField).candidatesMask(1, 12));
         return this;
     }
 
@@ -94,7 +140,7 @@ class ExecutionTimeBuilder {
         return this;
     }
 
-    protected ExecutionTime build() {
+    protected SingleExecutionTime build() {
         boolean lowestAssigned = false;
         if (seconds == null) {
             seconds = timeNodeLowest(CronFieldName.SECOND, 0, 59);
@@ -148,19 +194,28 @@ class ExecutionTimeBuilder {
         );
     }
 
+    /**
+     * Builds execution time and compiles its fields into bit masks, so that execution times are resolved through bit scans.
+     *
+     * @return CompiledExecutionTime instance, never null
+     */
+    protected CompiledExecutionTime compile() {
+        return build().compiled();
+    }
+
     private TimeNode timeNodeLowest(final CronFieldName name, final int lower, final int higher) {
         final FieldConstraints constraints = getConstraint(name);
         return new TimeNode(
                 FieldValueGeneratorFactory.forCronField(
                         new CronField(name, new On(new IntegerFieldValue(lower)), constraints)
-                ).generateCandidates(lower, higher));
+                ).candidatesMask(lower, higher));
     }
 
     private TimeNode timeNodeAlways(final CronFieldName name, final int lower, final int higher) {
         return new TimeNode(
                 FieldValueGeneratorFactory.forCronField(
                         new CronField(name, always(), getConstraint(name))
-                ).generateCandidates(lower, higher));
+                ).candidatesMask(lower, higher));
     }
 
     private void validate(final CronFieldName name, final CronField cronField) {
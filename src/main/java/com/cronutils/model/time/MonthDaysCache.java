@@ -0,0 +1,111 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.utils.Preconditions;
+
+import java.time.YearMonth;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, thread-safe cache of valid days per (year, month).
+ * It is direct mapped: each (year, month) has a single slot, shared with months that are
+ * a multiple of the capacity apart, so consecutive months never evict each other.
+ * Lookups and updates are lock-free; concurrent misses may compute the same value twice.
+ */
+class MonthDaysCache {
+    static final int DEFAULT_CAPACITY = 64;
+
+    private final DaysGenerator generator;
+    private final AtomicReferenceArray<Entry> entries;
+    private final int indexMask;
+
+    /**
+     * @param generator - generates days for a year and month; must always return the same days for the same arguments.
+     */
+    MonthDaysCache(final DaysGenerator generator) {
+        this(generator, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param generator - generates days for a year and month; must always return the same days for the same arguments.
+     * @param capacity  - number of slots; must be a power of two.
+     */
+    MonthDaysCache(final DaysGenerator generator, final int capacity) {
+        this.generator = Preconditions.checkNotNull(generator);
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two");
+        }
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.indexMask = capacity - 1;
+    }
+
+    /**
+     * Provides cached days for given year and month, generating them if absent.
+     *
+     * @param year  - year
+     * @param month - month, from 1 to 12
+     * @return Entry instance, never null.
+     */
+    Entry get(final int year, final int month) {
+        final long key = (long) year * 12 + month - 1;
+        final int index = (int) key & indexMask;
+        final Entry cached = entries.get(index);
+        if (cached != null && cached.key == key) {
+            return cached;
+        }
+        final Entry entry = new Entry(key, generator.generate(year, month), YearMonth.of(year, month).lengthOfMonth());
+        entries.set(index, entry);
+        return entry;
+    }
+
+    interface DaysGenerator {
+        Optional<TimeNode> generate(int year, int month);
+    }
+
+    static final class Entry {
+        private final long key;
+        private final Optional<TimeNode> days;
+        private final int mask;
+
+        private Entry(final long key, final Optional<TimeNode> days, final int lengthOfMonth) {
+            this.key = key;
+            this.days = days;
+            int mask = 0;
+            if (days.isPresent()) {
+                for (final int day : days.get().values) {
+                    if (day >= 1 && day <= lengthOfMonth) {
+                        mask |= 1 << day;
+                    }
+                }
+            }
+            this.mask = mask;
+        }
+
+        /**
+         * @return valid days as generated; shared, so it must not be modified.
+         */
+        Optional<TimeNode> getDays() {
+            return days;
+        }
+
+        /**
+         * @return bit mask of valid days: bit n is set if day n is valid and exists in the month.
+         */
+        int getMask() {
+            return mask;
+        }
+    }
+}
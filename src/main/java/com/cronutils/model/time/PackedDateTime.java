@@ -0,0 +1,163 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import java.time.LocalDateTime;
+
+/**
+ * Local date time packed into a long, so that search algorithms do not allocate.
+ * Layout (from most to least significant bits): year, month (4 bits), day (5 bits),
+ * hour (5 bits), minute (6 bits), second (6 bits). Packed values keep chronological order.
+ */
+final class PackedDateTime {
+    static final long NONE = Long.MIN_VALUE;
+
+    private static final int YEAR_SHIFT = 26;
+    private static final int MONTH_SHIFT = 22;
+    private static final int DAY_SHIFT = 17;
+    private static final int HOUR_SHIFT = 12;
+    private static final int MINUTE_SHIFT = 6;
+    private static final int TIME_OF_DAY_MASK = (1 << DAY_SHIFT) - 1;
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final long DAYS_PER_CYCLE = 146_097L;
+    private static final long DAYS_0000_TO_1970 = (DAYS_PER_CYCLE * 5L) - (30L * 365L + 7L);
+
+    private PackedDateTime() {
+    }
+
+    static long of(final int year, final int month, final int day, final int timeOfDay) {
+        return ((long) year << YEAR_SHIFT) | ((long) month << MONTH_SHIFT) | ((long) day << DAY_SHIFT) | timeOfDay;
+    }
+
+    static int timeOfDay(final int hour, final int minute, final int second) {
+        return (hour << HOUR_SHIFT) | (minute << MINUTE_SHIFT) | second;
+    }
+
+    static long of(final LocalDateTime dateTime) {
+        return of(dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(),
+                timeOfDay(dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond()));
+    }
+
+    static int year(final long packed) {
+        return (int) (packed >> YEAR_SHIFT);
+    }
+
+    static int month(final long packed) {
+        return (int) (packed >>> MONTH_SHIFT) & 0xF;
+    }
+
+    static int day(final long packed) {
+        return (int) (packed >>> DAY_SHIFT) & 0x1F;
+    }
+
+    static int timeOfDay(final long packed) {
+        return (int) packed & TIME_OF_DAY_MASK;
+    }
+
+    static int hour(final int timeOfDay) {
+        return timeOfDay >>> HOUR_SHIFT;
+    }
+
+    static int minute(final int timeOfDay) {
+        return (timeOfDay >>> MINUTE_SHIFT) & 0x3F;
+    }
+
+    static int second(final int timeOfDay) {
+        return timeOfDay & 0x3F;
+    }
+
+    static LocalDateTime toLocalDateTime(final long packed) {
+        final int timeOfDay = timeOfDay(packed);
+        return LocalDateTime.of(year(packed), month(packed), day(packed), hour(timeOfDay), minute(timeOfDay), second(timeOfDay));
+    }
+
+    /**
+     * Same algorithm as LocalDateTime.toEpochSecond(ZoneOffset.UTC), without instantiating any object.
+     */
+    static long toEpochSecond(final long packed) {
+        final long year = year(packed);
+        final long month = month(packed);
+        long days = 365 * year;
+        if (year >= 0) {
+            days += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        } else {
+            days -= year / -4 - year / -100 + year / -400;
+        }
+        days += (367 * month - 362) / 12;
+        days += day(packed) - 1;
+        if (month > 2) {
+            days--;
+            if (!isLeapYear(year)) {
+                days--;
+            }
+        }
+        final int timeOfDay = timeOfDay(packed);
+        return (days - DAYS_0000_TO_1970) * SECONDS_PER_DAY
+                + hour(timeOfDay) * 3600L + minute(timeOfDay) * 60L + second(timeOfDay);
+    }
+
+    /**
+     * Same algorithm as LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC), without instantiating any object.
+     */
+    static long ofEpochSecond(final long epochSecond) {
+        final long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        final int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+
+        long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+        long adjust = 0;
+        if (zeroDay < 0) {
+            final long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+        }
+        long yearEst = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        yearEst += adjust;
+        final int marchDoy0 = (int) doyEst;
+        final int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+        final int month = (marchMonth0 + 2) % 12 + 1;
+        final int day = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+        yearEst += marchMonth0 / 10;
+
+        return of((int) yearEst, month, day,
+                timeOfDay(secondOfDay / 3600, (secondOfDay / 60) % 60, secondOfDay % 60));
+    }
+
+    /**
+     * @return number of days of given month
+     */
+    static int lengthOfMonth(final int year, final int month) {
+        if (month == 2) {
+            return isLeapYear(year) ? 29 : 28;
+        }
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    /**
+     * @return ISO day of week of the first day of given month, from 1 (Monday) to 7 (Sunday)
+     */
+    static int firstDayOfWeek(final int year, final int month) {
+        // 1970-01-01 was a Thursday
+        return (int) Math.floorMod(Math.floorDiv(toEpochSecond(of(year, month, 1, 0)), SECONDS_PER_DAY) + 3, 7L) + 1;
+    }
+
+    private static boolean isLeapYear(final long year) {
+        return ((year & 3) == 0) && ((year % 100) != 0 || (year % 400) == 0);
+    }
+}
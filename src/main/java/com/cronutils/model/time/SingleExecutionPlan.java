@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.time.generator.FieldValueGenerator;
+import com.cronutils.model.time.generator.NoSuchValueException;
+
+/**
+ * ExecutionPlan compiled from the time nodes and generators of a SingleExecutionTime.
+ */
+class SingleExecutionPlan implements ExecutionPlan {
+    private final SingleExecutionTime executionTime;
+    private final FieldValueGenerator yearsValueGenerator;
+    private final long seconds;
+    private final long minutes;
+    private final long hours;
+    private final int months;
+
+    SingleExecutionPlan(final SingleExecutionTime executionTime) {
+        this.executionTime = executionTime;
+        this.yearsValueGenerator = executionTime.getYearsValueGenerator();
+        this.seconds = mask(executionTime.getSeconds(), 0, 59);
+        this.minutes = mask(executionTime.getMinutes(), 0, 59);
+        this.hours = mask(executionTime.getHours(), 0, 23);
+        this.months = (int) mask(executionTime.getMonths(), 1, 12);
+    }
+
+    @Override
+    public long seconds() {
+        return seconds;
+    }
+
+    @Override
+    public long minutes() {
+        return minutes;
+    }
+
+    @Override
+    public long hours() {
+        return hours;
+    }
+
+    @Override
+    public int months() {
+        return months;
+    }
+
+    @Override
+    public int daysOfMonth(final int year, final int month) {
+        return executionTime.daysOfMonthMask(year, month);
+    }
+
+    @Override
+    public boolean isYearMatch(final int year) {
+        return yearsValueGenerator.isMatch(year);
+    }
+
+    @Override
+    public int nextYear(final int year) {
+        try {
+            return yearsValueGenerator.generateNextValue(year);
+        } catch (final NoSuchValueException e) {
+            return NO_YEAR;
+        }
+    }
+
+    @Override
+    public int previousYear(final int year) {
+        try {
+            return yearsValueGenerator.generatePreviousValue(year);
+        } catch (final NoSuchValueException e) {
+            return NO_YEAR;
+        }
+    }
+
+    /**
+     * Values out of the field range are dropped, since no date would ever match them.
+     */
+    private static long mask(final TimeNode node, final int lower, final int higher) {
+        long mask = 0;
+        for (final int value : node.values) {
+            if (value >= lower && value <= higher) {
+                mask |= 1L << value;
+            }
+        }
+        return mask;
+    }
+}
@@ -32,17 +32,17 @@ import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalField;
 import java.time.temporal.TemporalUnit;
-import java.util.HashSet;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.cronutils.model.field.CronFieldName.*;
 import static com.cronutils.model.field.value.SpecialChar.QUESTION_MARK;
 import static com.cronutils.model.time.generator.FieldValueGeneratorFactory.*;
-import static com.cronutils.utils.Predicates.not;
 import static java.time.temporal.ChronoUnit.DAYS;
 import static java.time.temporal.ChronoUnit.SECONDS;
 import static java.time.temporal.TemporalAdjusters.lastDayOfMonth;
@@ -52,6 +52,9 @@ import static java.time.temporal.TemporalAdjusters.lastDayOfMonth;
  */
 public class SingleExecutionTime implements ExecutionTime {
     private static final int MAX_ITERATIONS = 100_000;
+    // the Gregorian calendar repeats itself after this many years, and so do valid days of month
+    private static final int CALENDAR_CYCLE_YEARS = 400;
+    private static final int NO_VALUE = Integer.MIN_VALUE;
 
     private static final LocalTime MAX_SECONDS = LocalTime.MAX.truncatedTo(SECONDS);
 
@@ -66,6 +69,12 @@ public class SingleExecutionTime implements ExecutionTime {
     private final TimeNode minutes;
     private final TimeNode seconds;
 
+    private final MonthDaysCache daysCache = new MonthDaysCache(this::generateDaysUncached);
+    private final CompiledExecutionTime compiled;
+    private final boolean directMatch;
+    // whether some month has valid days; null until first needed
+    private volatile Boolean everFeasible;
+
     @VisibleForTesting
     SingleExecutionTime(final CronDefinition cronDefinition, final CronField yearsValueCronField, final CronField daysOfWeekCronField,
             final CronField daysOfMonthCronField, final CronField daysOfYearCronField, final TimeNode months, final TimeNode hours,
@@ -90,6 +99,9 @@ public class SingleExecutionTime implements ExecutionTime {
         this.hours = Preconditions.checkNotNull(hours);
         this.minutes = Preconditions.checkNotNull(minutes);
         this.seconds = Preconditions.checkNotNull(seconds);
+        this.compiled = new CompiledExecutionTime(new SingleExecutionPlan(this), isSecondGranularity(), this);
+        // fields missing from the definition match any value of the date
+        this.directMatch = Stream.of(MINUTE, HOUR, DAY_OF_MONTH, MONTH, DAY_OF_WEEK).allMatch(cronDefinition::containsFieldDefinition);
     }
 
     /**
@@ -131,13 +143,14 @@ public class SingleExecutionTime implements ExecutionTime {
      * @throws NoSuchValueException if there is no potential next year
      */
     private ZonedDateTime nextClosestMatch(final ZonedDateTime date) throws NoSuchValueException {
-        ExecutionTimeResult result = new ExecutionTimeResult(date, false);
+        final ZonedDateTime start = nextFeasibleMonth(date);
+        ExecutionTimeResult result = new ExecutionTimeResult(start, false);
         for (int i = 0; i < MAX_ITERATIONS; i++) {
             result = potentialNextClosestMatch(result.getTime());
             if (result.isMatch()) {
                 return result.getTime();
             }
-            if (result.getTime().getYear() - date.getYear() > 100) {
+            if (result.getTime().getYear() - start.getYear() > 100) {
                 throw new NoSuchValueException();
             }
         }
@@ -145,18 +158,51 @@ public class SingleExecutionTime implements ExecutionTime {
         throw new NoSuchValueException();
     }
 
+    /**
+     * Skips months where no execution is possible: those of years not matched by the years generator,
+     * months out of the months node and months without valid days.
+     *
+     * @param date - reference ZonedDateTime instance - never null;
+     * @return given date if its month may hold an execution; start of the first month that may hold one otherwise.
+     * @throws NoSuchValueException if no month within the following calendar cycle may hold an execution
+     */
+    private ZonedDateTime nextFeasibleMonth(final ZonedDateTime date) throws NoSuchValueException {
+        if (!isEverFeasible()) {
+            throw new NoSuchValueException();
+        }
+        int year = date.getYear();
+        int month = date.getMonthValue();
+        if (!yearsValueGenerator.isMatch(year)) {
+            year = yearsValueGenerator.generateNextValue(year);
+            month = 1;
+        }
+        for (int i = 0; i < CALENDAR_CYCLE_YEARS; i++) {
+            for (int m = month; m <= 12; m++) {
+                if (months.contains(m) && daysOfMonthMask(year, m) != 0) {
+                    if (year == date.getYear() && m == date.getMonthValue()) {
+                        return date;
+                    }
+                    return ZonedDateTime.of(year, m, 1, 0, 0, 0, 0, date.getZone());
+                }
+            }
+            year = yearsValueGenerator.generateNextValue(year);
+            month = 1;
+        }
+        throw new NoSuchValueException();
+    }
+
     private ExecutionTimeResult potentialNextClosestMatch(final ZonedDateTime date) throws NoSuchValueException {
         final List<Integer> year = yearsValueGenerator.generateCandidates(date.getYear(), date.getYear()).stream().filter(d->d>=date.getYear()).collect(Collectors.toList());
-        final int lowestMonth = months.getValues().get(0);
-        final int lowestHour = hours.getValues().get(0);
-        final int lowestMinute = minutes.getValues().get(0);
-        final int lowestSecond = seconds.getValues().get(0);
+        final int lowestMonth = months.getFirst();
+        final int lowestHour = hours.getFirst();
+        final int lowestMinute = minutes.getFirst();
+        final int lowestSecond = seconds.getFirst();
 
         if (year.isEmpty()) {
             return getNextPotentialYear(date, lowestMonth, lowestHour, lowestMinute, lowestSecond);
         }
 
-        if (!months.getValues().contains(date.getMonthValue())) {
+        if (!months.contains(date.getMonthValue())) {
             return getNextPotentialMonth(date, lowestHour, lowestMinute, lowestSecond);
         }
 
@@ -166,16 +212,16 @@ public class SingleExecutionTime implements ExecutionTime {
         }
         final TimeNode node = optionalDays.get();
 
-        if (!node.getValues().contains(date.getDayOfMonth())) {
+        if (!node.contains(date.getDayOfMonth())) {
             return getNextPotentialDayOfMonth(date, lowestHour, lowestMinute, lowestSecond, node);
         }
-        if (!hours.getValues().contains(date.getHour())) {
+        if (!hours.contains(date.getHour())) {
             return getNextPotentialHour(date);
         }
-        if (!minutes.getValues().contains(date.getMinute())) {
+        if (!minutes.contains(date.getMinute())) {
             return getNextPotentialMinute(date);
         }
-        if (!seconds.getValues().contains(date.getSecond())) {
+        if (!seconds.contains(date.getSecond())) {
             return getNextPotentialSecond(date);
         }
 
@@ -195,9 +241,8 @@ public class SingleExecutionTime implements ExecutionTime {
                 date.getZone())
         );
         if (optionalDays.isPresent()) {
-            final List<Integer> days = optionalDays.get().getValues();
             return new ExecutionTimeResult(ZonedDateTime.of(
-                    LocalDate.of(newYear, lowestMonth, days.get(0)),
+                    LocalDate.of(newYear, lowestMonth, optionalDays.get().getFirst()),
                     LocalTime.of(lowestHour, lowestMinute, lowestSecond), date.getZone()), false);
         } else {
             return new ExecutionTimeResult(toBeginOfNextMonth(date), false);
@@ -214,9 +259,8 @@ public class SingleExecutionTime implements ExecutionTime {
         final Optional<TimeNode> optionalDays = generateDays(cronDefinition,
                 ZonedDateTime.of(LocalDateTime.of(date.getYear(), nextMonths, 1, 0, 0), date.getZone()));
         if (optionalDays.isPresent()) {
-            final List<Integer> days = optionalDays.get().getValues();
             return new ExecutionTimeResult(
-                    date.truncatedTo(SECONDS).withMonth(nextMonths).withDayOfMonth(days.get(0))
+                    date.truncatedTo(SECONDS).withMonth(nextMonths).withDayOfMonth(optionalDays.get().getFirst())
                             .with(LocalTime.of(lowestHour, lowestMinute, lowestSecond)), false);
         } else {
             return new ExecutionTimeResult(toBeginOfNextMonth(date), false);
@@ -248,12 +292,50 @@ public class SingleExecutionTime implements ExecutionTime {
         return getNextPotentialValue(date, seconds, ChronoField.SECOND_OF_MINUTE);
     }
 
-    private static ExecutionTimeResult getNextPotentialValue(
+    /**
+     * Jumps to the next value of the field among node values, provided that no offset transition happens in between:
+     * the local value then grows one unit per unit of time. Otherwise, searches it one unit at a time.
+     */
+    @VisibleForTesting
+    static ExecutionTimeResult getNextPotentialValue(
             final ZonedDateTime date,
             final TimeNode node,
             final TemporalField field) throws NoSuchValueException {
-        Set<Integer> values = new HashSet<>(node.values);
+        final int minimum = (int) field.range().getMinimum();
+        final int maximum = (int) field.range().getMaximum();
+        final int current = date.get(field);
+        int target = NO_VALUE;
+        int first = NO_VALUE;
+        for (final int value : node.values) {
+            if (value > current && value <= maximum) {
+                target = value;
+                break;
+            }
+            if (first == NO_VALUE && value >= minimum && value <= maximum) {
+                first = value;
+            }
+        }
+        final long steps;
+        if (target != NO_VALUE) {
+            steps = target - current;
+        } else if (first != NO_VALUE) {
+            target = first;
+            steps = maximum - current + 1L + first - minimum;
+        } else {
+            throw new NoSuchValueException();
+        }
+        final ZonedDateTime newDate = date.plus(steps, field.getBaseUnit());
+        if (newDate.get(field) == target && !hasOffsetTransition(date, newDate)) {
+            return new ExecutionTimeResult(newDate.truncatedTo(field.getBaseUnit()), false);
+        }
+        return searchNextPotentialValue(date, node, field);
+    }
 
+    @VisibleForTesting
+    static ExecutionTimeResult searchNextPotentialValue(
+            final ZonedDateTime date,
+            final TimeNode node,
+            final TemporalField field) throws NoSuchValueException {
         TemporalUnit unit = field.getBaseUnit();
 
         long maximum = field.range().getMaximum();
@@ -264,7 +346,7 @@ public class SingleExecutionTime implements ExecutionTime {
         for (long i = 0; i < 2 * range; i++) {
             newDate = newDate.plus(1, unit);
 
-            if (values.contains(newDate.get(field))) {
+            if (node.contains(newDate.get(field))) {
                 newDate = newDate
                         .truncatedTo(unit);
                 return new ExecutionTimeResult(newDate, false);
@@ -274,6 +356,18 @@ public class SingleExecutionTime implements ExecutionTime {
         throw new NoSuchValueException();
     }
 
+    /**
+     * @return true if the zone offset changes after the earlier date, up to the later one included.
+     */
+    private static boolean hasOffsetTransition(final ZonedDateTime earlier, final ZonedDateTime later) {
+        final ZoneRules rules = earlier.getZone().getRules();
+        if (rules.isFixedOffset()) {
+            return false;
+        }
+        final ZoneOffsetTransition transition = rules.nextTransition(earlier.toInstant());
+        return transition != null && !transition.getInstant().isAfter(later.toInstant());
+    }
+
     private ZonedDateTime toBeginOfNextMonth(final ZonedDateTime datetime) {
         return datetime.truncatedTo(DAYS).plusMonths(1).withDayOfMonth(1);
     }
@@ -287,7 +381,7 @@ public class SingleExecutionTime implements ExecutionTime {
      * @throws NoSuchValueException if there is not previous year
      */
     private ZonedDateTime previousClosestMatch(final ZonedDateTime date) throws NoSuchValueException {
-        ExecutionTimeResult result = new ExecutionTimeResult(date, false);
+        ExecutionTimeResult result = new ExecutionTimeResult(previousFeasibleMonth(date), false);
 
         for (int i = 0; i < MAX_ITERATIONS; i++) {
             result = potentialPreviousClosestMatch(result.getTime());
@@ -298,22 +392,54 @@ public class SingleExecutionTime implements ExecutionTime {
         throw new NoSuchValueException();
     }
 
+    /**
+     * Skips months where no execution is possible, looking backwards. See nextFeasibleMonth.
+     *
+     * @param date - reference ZonedDateTime instance - never null;
+     * @return given date if its month may hold an execution; end of the last month before it that may hold one otherwise.
+     * @throws NoSuchValueException if no month within the preceding calendar cycle may hold an execution
+     */
+    private ZonedDateTime previousFeasibleMonth(final ZonedDateTime date) throws NoSuchValueException {
+        if (!isEverFeasible()) {
+            throw new NoSuchValueException();
+        }
+        int year = date.getYear();
+        int month = date.getMonthValue();
+        if (!yearsValueGenerator.isMatch(year)) {
+            year = yearsValueGenerator.generatePreviousValue(year);
+            month = 12;
+        }
+        for (int i = 0; i < CALENDAR_CYCLE_YEARS; i++) {
+            for (int m = month; m >= 1; m--) {
+                if (months.contains(m) && daysOfMonthMask(year, m) != 0) {
+                    if (year == date.getYear() && m == date.getMonthValue()) {
+                        return date;
+                    }
+                    return ZonedDateTime.of(LocalDate.of(year, m, 1).with(lastDayOfMonth()), MAX_SECONDS, date.getZone());
+                }
+            }
+            year = yearsValueGenerator.generatePreviousValue(year);
+            month = 12;
+        }
+        throw new NoSuchValueException();
+    }
+
     private ExecutionTimeResult potentialPreviousClosestMatch(final ZonedDateTime date) throws NoSuchValueException {
         //int startyear = cronDefinition.getFieldDefinition(CronFieldName.YEAR).getConstraints().getStartRange();
         //final List<Integer> year = yearsValueGenerator.generateCandidates(startyear, date.getYear());
         final List<Integer> year = yearsValueGenerator.generateCandidates(date.getYear(), date.getYear());
         final Optional<TimeNode> optionalDays = generateDays(cronDefinition, date);
         TimeNode days;
-        if (optionalDays.isPresent() && optionalDays.get().getValues().stream().anyMatch(i -> i <= date.getDayOfMonth())) {
+        if (optionalDays.isPresent() && optionalDays.get().getFirst() <= date.getDayOfMonth()) {
             days = optionalDays.get();
         } else {
             return new ExecutionTimeResult(toEndOfPreviousMonth(date), false);
         }
-        final int highestMonth = months.getValues().get(months.getValues().size() - 1);
-        final int highestDay = days.getValues().get(days.getValues().size() - 1);
-        final int highestHour = hours.getValues().get(hours.getValues().size() - 1);
-        final int highestMinute = minutes.getValues().get(minutes.getValues().size() - 1);
-        final int highestSecond = seconds.getValues().get(seconds.getValues().size() - 1);
+        final int highestMonth = months.getLast();
+        final int highestDay = days.getLast();
+        final int highestHour = hours.getLast();
+        final int highestMinute = minutes.getLast();
+        final int highestSecond = seconds.getLast();
 
         if (year.isEmpty()) {
             return getPreviousPotentialYear(date, days, highestMonth, highestDay, highestHour, highestMinute, highestSecond);
@@ -329,19 +455,19 @@ public class SingleExecutionTime implements ExecutionTime {
             }
         }
 
-        if (!months.getValues().contains(date.getMonthValue())) {
+        if (!months.contains(date.getMonthValue())) {
             return getPreviousPotentialMonth(date, highestDay, highestHour, highestMinute, highestSecond);
         }
-        if (!days.getValues().contains(date.getDayOfMonth())) {
+        if (!days.contains(date.getDayOfMonth())) {
             return getPreviousPotentialDayOfMonth(date, days, highestHour, highestMinute, highestSecond);
         }
-        if (!hours.getValues().contains(date.getHour())) {
+        if (!hours.contains(date.getHour())) {
             return getPreviousPotentialHour(date);
         }
-        if (!minutes.getValues().contains(date.getMinute())) {
+        if (!minutes.contains(date.getMinute())) {
             return getPreviousPotentialMinute(date);
         }
-        if (!seconds.getValues().contains(date.getSecond())) {
+        if (!seconds.contains(date.getSecond())) {
             return getPreviousPotentialSecond(date);
         }
         return new ExecutionTimeResult(date.truncatedTo(SECONDS), true);
@@ -423,12 +549,53 @@ public class SingleExecutionTime implements ExecutionTime {
         return getPreviousPotentialValue(date, seconds, ChronoField.SECOND_OF_MINUTE);
     }
 
-    private static ExecutionTimeResult getPreviousPotentialValue(
+    /**
+     * Jumps to the previous value of the field among node values, provided that no offset transition happens in between:
+     * the local value then decreases one unit per unit of time. Otherwise, searches it one unit at a time.
+     */
+    @VisibleForTesting
+    static ExecutionTimeResult getPreviousPotentialValue(
             final ZonedDateTime date,
             final TimeNode node,
             final TemporalField field) throws NoSuchValueException {
-        Set<Integer> values = new HashSet<>(node.values);
+        final int minimum = (int) field.range().getMinimum();
+        final int maximum = (int) field.range().getMaximum();
+        final int current = date.get(field);
+        int target = NO_VALUE;
+        int last = NO_VALUE;
+        final int[] values = node.values;
+        for (int j = values.length - 1; j >= 0; j--) {
+            final int value = values[j];
+            if (value < current && value >= minimum) {
+                target = value;
+                break;
+            }
+            if (last == NO_VALUE && value >= minimum && value <= maximum) {
+                last = value;
+            }
+        }
+        final long steps;
+        if (target != NO_VALUE) {
+            steps = current - target;
+        } else if (last != NO_VALUE) {
+            target = last;
+            steps = current - minimum + 1L + maximum - last;
+        } else {
+            throw new NoSuchValueException();
+        }
+        final TemporalUnit unit = field.getBaseUnit();
+        final ZonedDateTime newDate = date.minus(steps, unit);
+        if (newDate.get(field) == target && !hasOffsetTransition(newDate, date)) {
+            return new ExecutionTimeResult(newDate.truncatedTo(unit).plus(1, unit).minusSeconds(1), false);
+        }
+        return searchPreviousPotentialValue(date, node, field);
+    }
 
+    @VisibleForTesting
+    static ExecutionTimeResult searchPreviousPotentialValue(
+            final ZonedDateTime date,
+            final TimeNode node,
+            final TemporalField field) throws NoSuchValueException {
         TemporalUnit unit = field.getBaseUnit();
 
         long maximum = field.range().getMaximum();
@@ -439,7 +606,7 @@ public class SingleExecutionTime implements ExecutionTime {
         for (long i = 0; i < 2 * range; i++) {
             newDate = newDate.minus(1, unit);
 
-            if (values.contains(newDate.get(field))) {
+            if (node.contains(newDate.get(field))) {
                 newDate = newDate
                         .truncatedTo(unit)
                         .plus(1, unit)
@@ -453,27 +620,75 @@ public class SingleExecutionTime implements ExecutionTime {
 
     private ZonedDateTime toEndOfPreviousMonth(final ZonedDateTime datetime) {
         final ZonedDateTime previousMonth = datetime.minusMonths(1).with(lastDayOfMonth());
-        final int highestHour = hours.getValues().get(hours.getValues().size() - 1);
-        final int highestMinute = minutes.getValues().get(minutes.getValues().size() - 1);
-        final int highestSecond = seconds.getValues().get(seconds.getValues().size() - 1);
+        final int highestHour = hours.getLast();
+        final int highestMinute = minutes.getLast();
+        final int highestSecond = seconds.getLast();
         return ZonedDateTime
                 .of(previousMonth.getYear(), previousMonth.getMonth().getValue(), previousMonth.getDayOfMonth(), highestHour, highestMinute, highestSecond, 0,
                         previousMonth.getZone());
     }
 
     private Optional<TimeNode> generateDays(final CronDefinition cronDefinition, final ZonedDateTime date) {
+        return generateDays(cronDefinition, date.getYear(), date.getMonthValue());
+    }
+
+    private Optional<TimeNode> generateDays(final CronDefinition cronDefinition, final int year, final int month) {
+        return daysCache.get(year, month).getDays();
+    }
+
+    private Optional<TimeNode> generateDaysUncached(final int year, final int month) {
         if (isGenerateDaysAsDoY(cronDefinition)) {
-            return generateDayCandidatesUsingDoY(date);
+            return generateDayCandidatesUsingDoY(year, month);
         }
         //If DoW is not supported in custom definition, we just return an empty list.
         if (cronDefinition.getFieldDefinition(DAY_OF_WEEK) != null && cronDefinition.getFieldDefinition(DAY_OF_MONTH) != null) {
-            return generateDaysDoWAndDoMSupported(cronDefinition, date);
+            return generateDaysDoWAndDoMSupported(cronDefinition, year, month);
         }
         if (cronDefinition.getFieldDefinition(DAY_OF_WEEK) == null) {
-            return Optional.of(generateDayCandidatesUsingDoM(date));
+            return generateDayCandidatesUsingDoM(year, month);
         }
-        return Optional
-                .of(generateDayCandidatesUsingDoW(date, ((DayOfWeekFieldDefinition) cronDefinition.getFieldDefinition(DAY_OF_WEEK)).getMondayDoWValue()));
+        return generateDayCandidatesUsingDoW(year, month, ((DayOfWeekFieldDefinition) cronDefinition.getFieldDefinition(DAY_OF_WEEK)).getMondayDoWValue());
+    }
+
+    /**
+     * Provides valid days of month for given year and month as a bit mask: bit n is set if day n is valid.
+     *
+     * @param year  - year
+     * @param month - month, from 1 to 12
+     * @return int bit mask with valid days of month; zero if no day matches
+     */
+    int daysOfMonthMask(final int year, final int month) {
+        if (!isEverFeasible()) {
+            return 0;
+        }
+        return daysCache.get(year, month).getMask();
+    }
+
+    private boolean isEverFeasible() {
+        Boolean feasible = everFeasible;
+        if (feasible == null) {
+            feasible = hasFeasibleMonth();
+            everFeasible = feasible;
+        }
+        return feasible;
+    }
+
+    /**
+     * Checks whether any month of the months node has valid days within a calendar cycle, ignoring years.
+     * Days are generated without the days cache: scanning the whole cycle for crons that never match,
+     * such as those on February 30th, would otherwise evict every cached month.
+     *
+     * @return false if no date may ever match days of month, days of week and months
+     */
+    private boolean hasFeasibleMonth() {
+        for (int year = 2000; year < 2000 + CALENDAR_CYCLE_YEARS; year++) {
+            for (final int month : months.values) {
+                if (month >= 1 && month <= 12 && generateDaysUncached(year, month).isPresent()) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     private boolean isGenerateDaysAsDoY(final CronDefinition cronDefinition) {
@@ -488,46 +703,46 @@ public class SingleExecutionTime implements ExecutionTime {
         return !(daysOfYearCronField.getExpression() instanceof QuestionMark);
     }
 
-    private Optional<TimeNode> generateDayCandidatesUsingDoY(final ZonedDateTime reference) {
-        final int year = reference.getYear();
-        final int month = reference.getMonthValue();
+    private Optional<TimeNode> generateDayCandidatesUsingDoY(final int year, final int month) {
         final LocalDate date = LocalDate.of(year, 1, 1);
         final int lengthOfYear = date.lengthOfYear();
 
-        final List<Integer> candidates = createDayOfYearValueGeneratorInstance(daysOfYearCronField, year).generateCandidates(1, lengthOfYear);
+        final BitSet candidates = createDayOfYearValueGeneratorInstance(daysOfYearCronField, year).candidatesSet(1, lengthOfYear);
 
         final int low = LocalDate.of(year, month, 1).getDayOfYear();
         final int high = month == 12
                 ? LocalDate.of(year, 12, 31).getDayOfYear() + 1
                 : LocalDate.of(year, month + 1, 1).getDayOfYear();
 
-        final List<Integer> collectedCandidates = candidates.stream().filter(dayOfYear -> dayOfYear >= low && dayOfYear < high)
-                .map(dayOfYear -> LocalDate.ofYearDay(reference.getYear(), dayOfYear).getDayOfMonth())
-                .collect(Collectors.toList());
-
-        return Optional.of(collectedCandidates).filter(not(List::isEmpty)).map(TimeNode::new);
+        long days = 0L;
+        for (int dayOfYear = candidates.nextSetBit(low); dayOfYear >= 0 && dayOfYear < high; dayOfYear = candidates.nextSetBit(dayOfYear + 1)) {
+            days |= 1L << (dayOfYear - low + 1);
+        }
+        return toDays(days);
     }
 
-    private Optional<TimeNode> generateDaysDoWAndDoMSupported(final CronDefinition cronDefinition, final ZonedDateTime date) {
+    private Optional<TimeNode> generateDaysDoWAndDoMSupported(final CronDefinition cronDefinition, final int year, final int month) {
         final boolean questionMarkSupported = cronDefinition.getFieldDefinition(DAY_OF_WEEK).getConstraints().getSpecialChars().contains(QUESTION_MARK);
         if (questionMarkSupported) {
-            final List<Integer> candidates = generateDayCandidatesQuestionMarkSupportedUsingDoWAndDoM(
-                    date.getYear(),
-                    date.getMonthValue(),
+            return toDays(generateDayCandidatesQuestionMarkSupportedUsingDoWAndDoM(
+                    year,
+                    month,
                     ((DayOfWeekFieldDefinition) cronDefinition.getFieldDefinition(DAY_OF_WEEK)).getMondayDoWValue()
-            );
-            return Optional.of(candidates).filter(not(List::isEmpty)).map(TimeNode::new);
+            ));
         } else {
-            final List<Integer> candidates = generateDayCandidatesQuestionMarkNotSupportedUsingDoWAndDoM(
-                    date.getYear(), date.getMonthValue(),
+            return toDays(generateDayCandidatesQuestionMarkNotSupportedUsingDoWAndDoM(
+                    year, month,
                     ((DayOfWeekFieldDefinition)
                             cronDefinition.getFieldDefinition(DAY_OF_WEEK)
                     ).getMondayDoWValue()
-            );
-            return Optional.of(candidates).filter(not(List::isEmpty)).map(TimeNode::new);
+            ));
         }
     }
 
+    private static Optional<TimeNode> toDays(final long days) {
+        return days == 0L ? Optional.empty() : Optional.of(new TimeNode(days));
+    }
+
     /**
      * Provide nearest time for next execution.
      *
@@ -583,7 +798,22 @@ public class SingleExecutionTime implements ExecutionTime {
         } else {
             date = date.truncatedTo(ChronoUnit.MINUTES);
         }
+        // far from offset transitions a date matches if its fields do; around them, the search below
+        // decides how gaps and overlaps are handled
+        if (directMatch && !CompiledExecutionTime.isNearOffsetTransition(date)) {
+            return compiled.matches(PackedDateTime.of(date.toLocalDateTime()));
+        }
+        return isMatchBySearch(date);
+    }
 
+    /**
+     * Checks if the date is the execution that follows the last execution before it.
+     *
+     * @param date - ZonedDateTime instance, truncated to the cron granularity.
+     * @return true if date matches cron expression requirements, false otherwise.
+     */
+    @VisibleForTesting
+    boolean isMatchBySearch(final ZonedDateTime date) {
         final Optional<ZonedDateTime> last = lastExecution(date);
         if (last.isPresent()) {
             final Optional<ZonedDateTime> next = nextExecution(last.get());
@@ -613,6 +843,71 @@ public class SingleExecutionTime implements ExecutionTime {
         return false;
     }
 
+    /**
+     * Provide executions after given date, lazily computed in chronological order through the bitmask search
+     * of CompiledExecutionTime, which resumes from the previous execution.
+     * Within a day of an offset transition, each execution is the one nextExecution provides after the previous one.
+     *
+     * @param start - ZonedDateTime instance. If null, a NullPointerException will be raised. Not included in the stream.
+     * @return Stream of ZonedDateTime instances, never null. It is infinite unless the cron stops matching.
+     */
+    @Override
+    public Stream<ZonedDateTime> executionsAfter(final ZonedDateTime start) {
+        return compiled.executionsAfter(start);
+    }
+
+    /**
+     * Provide executions before given date, lazily computed in reverse chronological order through the bitmask search
+     * of CompiledExecutionTime, which resumes from the previous execution.
+     * Within a day of an offset transition, each execution is the one lastExecution provides before the previous one.
+     *
+     * @param end - ZonedDateTime instance. If null, a NullPointerException will be raised. Not included in the stream.
+     * @return Stream of ZonedDateTime instances, never null. Executions are provided from the latest one backwards.
+     */
+    @Override
+    public Stream<ZonedDateTime> executionsBefore(final ZonedDateTime end) {
+        return compiled.executionsBefore(end);
+    }
+
+    /**
+     * Count executions after start date and up to end date, included, from the bit masks of CompiledExecutionTime.
+     * Within a day of an offset transition, executions are searched one by one as a nextExecution loop would.
+     *
+     * @param start - ZonedDateTime instance. If null, a NullPointerException will be raised. Not included in the count.
+     * @param end   - ZonedDateTime instance. If null, a NullPointerException will be raised.
+     * @return number of executions, zero if end is not after start.
+     */
+    @Override
+    public long countExecutions(final ZonedDateTime start, final ZonedDateTime end) {
+        return compiled.countExecutions(start, end);
+    }
+
+    /**
+     * Provide nearest epoch second for next execution, through the bitmask search of CompiledExecutionTime.
+     * Within a day of an offset transition, it is the one nextExecution provides.
+     *
+     * @param epochSecond - reference instant, as seconds from the epoch of 1970-01-01T00:00:00Z.
+     * @param zone        - ZoneId where the cron executes. If null, a NullPointerException will be raised.
+     * @return epoch second of next execution, or NO_EXECUTION if there is none.
+     */
+    @Override
+    public long nextExecutionEpochSecond(final long epochSecond, final ZoneId zone) {
+        return compiled.nextExecutionEpochSecond(epochSecond, zone);
+    }
+
+    /**
+     * Provide nearest epoch second for last execution, through the bitmask search of CompiledExecutionTime.
+     * Within a day of an offset transition, it is the one lastExecution provides.
+     *
+     * @param epochSecond - reference instant, as seconds from the epoch of 1970-01-01T00:00:00Z.
+     * @param zone        - ZoneId where the cron executes. If null, a NullPointerException will be raised.
+     * @return epoch second of last execution, or NO_EXECUTION if there is none.
+     */
+    @Override
+    public long lastExecutionEpochSecond(final long epochSecond, final ZoneId zone) {
+        return compiled.lastExecutionEpochSecond(epochSecond, zone);
+    }
+
     private boolean dateValuesInExpectedRanges(final ZonedDateTime validCronDate, final ZonedDateTime date) {
         boolean everythingInRange = true;
         if (cronDefinition.getFieldDefinition(YEAR) != null) {
@@ -639,91 +934,93 @@ public class SingleExecutionTime implements ExecutionTime {
         return everythingInRange;
     }
 
-    private List<Integer> generateDayCandidatesQuestionMarkNotSupportedUsingDoWAndDoM(final int year, final int month, final WeekDay mondayDoWValue) {
+    private long generateDayCandidatesQuestionMarkNotSupportedUsingDoWAndDoM(final int year, final int month, final WeekDay mondayDoWValue) {
         final LocalDate date = LocalDate.of(year, month, 1);
         final int lengthOfMonth = date.lengthOfMonth();
         if (daysOfMonthCronField.getExpression() instanceof Always && daysOfWeekCronField.getExpression() instanceof Always) {
             return createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month)
-                    .generateCandidates(1, lengthOfMonth)
-                    .stream().distinct().sorted()
-                    .collect(Collectors.toList());
+                    .candidatesMask(1, lengthOfMonth);
         } else if (daysOfMonthCronField.getExpression() instanceof Always) {
             return createDayOfWeekValueGeneratorInstance(daysOfWeekCronField, year, month, mondayDoWValue)
-                    .generateCandidates(1, lengthOfMonth)
-                    .stream().distinct().sorted()
-                    .collect(Collectors.toList());
+                    .candidatesMask(1, lengthOfMonth);
         } else if (daysOfWeekCronField.getExpression() instanceof Always) {
             return createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month)
-                    .generateCandidates(1, lengthOfMonth)
-                    .stream().distinct().sorted()
-                    .collect(Collectors.toList());
+                    .candidatesMask(1, lengthOfMonth);
         } else {
-            final List<Integer> dayOfWeekCandidates = createDayOfWeekValueGeneratorInstance(daysOfWeekCronField,
-                    year, month, mondayDoWValue).generateCandidates(1, lengthOfMonth);
-            final List<Integer> dayOfMonthCandidates = createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month)
-                    .generateCandidates(1, lengthOfMonth);
+            final long dayOfWeekCandidates = createDayOfWeekValueGeneratorInstance(daysOfWeekCronField,
+                    year, month, mondayDoWValue).candidatesMask(1, lengthOfMonth);
+            final long dayOfMonthCandidates = createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month)
+                    .candidatesMask(1, lengthOfMonth);
             if (cronDefinition.isMatchDayOfWeekAndDayOfMonth()) {
-                final Set<Integer> intersection = new HashSet<>(dayOfWeekCandidates);
-                return dayOfMonthCandidates
-                        .stream().filter(intersection::contains)
-                        .distinct().sorted()
-                        .collect(Collectors.toList());
+                return dayOfMonthCandidates & dayOfWeekCandidates;
             } else {
-                return Stream.concat(dayOfWeekCandidates.stream(), dayOfMonthCandidates.stream())
-                        .distinct().sorted()
-                        .collect(Collectors.toList());
+                return dayOfMonthCandidates | dayOfWeekCandidates;
             }
         }
     }
 
-    private List<Integer> generateDayCandidatesQuestionMarkSupportedUsingDoWAndDoM(final int year, final int month, final WeekDay mondayDoWValue) {
+    private long generateDayCandidatesQuestionMarkSupportedUsingDoWAndDoM(final int year, final int month, final WeekDay mondayDoWValue) {
         final LocalDate date = LocalDate.of(year, month, 1);
         final int lengthOfMonth = date.lengthOfMonth();
         if (daysOfMonthCronField.getExpression() instanceof Always && daysOfWeekCronField.getExpression() instanceof Always) {
             return createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month)
-                    .generateCandidates(1, lengthOfMonth)
-                    .stream().distinct().sorted()
-                    .collect(Collectors.toList());
+                    .candidatesMask(1, lengthOfMonth);
         } else if (daysOfMonthCronField.getExpression() instanceof QuestionMark) {
             return createDayOfWeekValueGeneratorInstance(daysOfWeekCronField, year, month, mondayDoWValue)
-                    .generateCandidates(1, lengthOfMonth)
-                    .stream().distinct().sorted()
-                    .collect(Collectors.toList());
+                    .candidatesMask(1, lengthOfMonth);
         } else if (daysOfWeekCronField.getExpression() instanceof QuestionMark) {
             return createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month)
-                    .generateCandidates(1, lengthOfMonth)
-                    .stream().distinct().sorted()
-                    .collect(Collectors.toList());
+                    .candidatesMask(1, lengthOfMonth);
         } else {
-            Set<Integer> candidates = new HashSet<>(createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month).generateCandidates(1, lengthOfMonth));
-            Set<Integer> daysOfWeek = new HashSet<>(createDayOfWeekValueGeneratorInstance(daysOfWeekCronField, year, month, mondayDoWValue).generateCandidates(1, lengthOfMonth));
             // Only the intersection of valid days from the days of week and valid days of month should be returned.
-            candidates.retainAll(daysOfWeek);
-            return candidates.stream().sorted().collect(Collectors.toList());
+            return createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month).candidatesMask(1, lengthOfMonth)
+                    & createDayOfWeekValueGeneratorInstance(daysOfWeekCronField, year, month, mondayDoWValue).candidatesMask(1, lengthOfMonth);
         }
     }
 
-    private TimeNode generateDayCandidatesUsingDoM(final ZonedDateTime reference) {
-        final LocalDate date = LocalDate.of(reference.getYear(), reference.getMonthValue(), 1);
+    private Optional<TimeNode> generateDayCandidatesUsingDoM(final int year, final int month) {
+        final LocalDate date = LocalDate.of(year, month, 1);
         final int lengthOfMonth = date.lengthOfMonth();
-        final List<Integer> candidates = createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, reference.getYear(), reference.getMonthValue())
-                .generateCandidates(1, lengthOfMonth)
-                .stream().distinct().sorted()
-                .collect(Collectors.toList());
-        return new TimeNode(candidates);
+        return toDays(createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month)
+                .candidatesMask(1, lengthOfMonth));
     }
 
-    private TimeNode generateDayCandidatesUsingDoW(final ZonedDateTime reference, final WeekDay mondayDoWValue) {
-        final LocalDate date = LocalDate.of(reference.getYear(), reference.getMonthValue(), 1);
+    private Optional<TimeNode> generateDayCandidatesUsingDoW(final int year, final int month, final WeekDay mondayDoWValue) {
+        final LocalDate date = LocalDate.of(year, month, 1);
         final int lengthOfMonth = date.lengthOfMonth();
-        final List<Integer> candidates = createDayOfWeekValueGeneratorInstance(daysOfWeekCronField, reference.getYear(), reference.getMonthValue(), mondayDoWValue)
-                .generateCandidates(1, lengthOfMonth)
-                .stream().distinct().sorted()
-                .collect(Collectors.toList());
-        return new TimeNode(candidates);
+        return toDays(createDayOfWeekValueGeneratorInstance(daysOfWeekCronField, year, month, mondayDoWValue)
+                .candidatesMask(1, lengthOfMonth));
+    }
+
+    FieldValueGenerator getYearsValueGenerator() {
+        return yearsValueGenerator;
+    }
+
+    TimeNode getMonths() {
+        return months;
+    }
+
+    TimeNode getHours() {
+        return hours;
+    }
+
+    TimeNode getMinutes() {
+        return minutes;
+    }
+
+    TimeNode getSeconds() {
+        return seconds;
+    }
+
+    CompiledExecutionTime compiled() {
+        return compiled;
+    }
+
+    boolean isSecondGranularity() {
+        return cronDefinition.containsFieldDefinition(SECOND);
     }
 
-    private static final class ExecutionTimeResult {
+    static final class ExecutionTimeResult {
         private final ZonedDateTime time;
         private final boolean isMatch;
 
@@ -16,31 +16,66 @@ package com.cronutils.model.time;
 import com.cronutils.utils.Preconditions;
 import com.cronutils.utils.VisibleForTesting;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Sorted, distinct values of a cron field. Values are kept in an int array and looked up through binary search.
+ */
 class TimeNode {
-    protected List<Integer> values;
+    final int[] values;
+    private final List<Integer> valuesView;
 
     public TimeNode(final List<Integer> values) {
-        this.values = Preconditions.checkNotNullNorEmpty(values, "Values must not be empty");
-        Collections.sort(this.values);
+        Preconditions.checkNotNullNorEmpty(values, "Values must not be empty");
+        this.values = values.stream().mapToInt(Integer::intValue).sorted().distinct().toArray();
+        this.valuesView = new ValuesView(this.values);
+    }
+
+    /**
+     * @param mask - bit mask where bit n is set if n is a value; must not be zero
+     */
+    TimeNode(final long mask) {
+        Preconditions.checkArgument(mask != 0L, "Values must not be empty");
+        this.values = new int[Long.bitCount(mask)];
+        long remaining = mask;
+        for (int j = 0; j < values.length; j++) {
+            values[j] = Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+        }
+        this.valuesView = new ValuesView(this.values);
     }
 
     public NearestValue getNextValue(final int reference, final int shifts) {
         return getNearestForwardValue(reference, shifts);
     }
 
+    /**
+     * @return unmodifiable view of the values, in ascending order.
+     */
     public List<Integer> getValues() {
-        return Collections.unmodifiableList(values);
+        return valuesView;
     }
 
     public NearestValue getPreviousValue(final int reference, final int shifts) {
         return getNearestBackwardValue(reference, shifts);
     }
 
+    boolean contains(final int value) {
+        return Arrays.binarySearch(values, value) >= 0;
+    }
+
+    int getFirst() {
+        return values[0];
+    }
+
+    int getLast() {
+        return values[values.length - 1];
+    }
+
     /**
      * We return same reference value if matches or next one if does not match.
      * Then we start applying shifts.
@@ -52,31 +87,24 @@ class TimeNode {
      */
     @VisibleForTesting
     NearestValue getNearestForwardValue(final int reference, int shiftsToApply) {
-        final List<Integer> temporaryValues = new ArrayList<>(this.values);
-        int index = 0;
-        boolean foundGreater = false;
-        final AtomicInteger shift = new AtomicInteger(0);
-        if (!temporaryValues.contains(reference)) {
-            for (final Integer value : temporaryValues) {
-                if (value > reference) {
-                    index = temporaryValues.indexOf(value);
-                    shiftsToApply--;//we just moved a position!
-                    foundGreater = true;
-                    break;
-                }
+        final int position = Arrays.binarySearch(values, reference);
+        int index = position;
+        int shift = 0;
+        if (position < 0) {
+            index = -position - 1;
+            if (index < values.length) {
+                shiftsToApply--;//we just moved a position!
+            } else {
+                index = 0;
+                shift++;
             }
-            if (!foundGreater) {
-                shift.incrementAndGet();
-            }
-        } else {
-            index = temporaryValues.indexOf(reference);
         }
-        int value = temporaryValues.get(index);
-        for (int j = 0; j < shiftsToApply; j++) {
-            value = getValueFromList(temporaryValues, index + 1, shift);
-            index = temporaryValues.indexOf(value);
+        if (shiftsToApply > 0) {
+            index += shiftsToApply;
+            shift += index / values.length;
+            index %= values.length;
         }
-        return new NearestValue(value, shift.get());
+        return new NearestValue(values[index], shift);
     }
 
     /**
@@ -90,32 +118,27 @@ class TimeNode {
      */
     @VisibleForTesting
     NearestValue getNearestBackwardValue(final int reference, int shiftsToApply) {
-        final List<Integer> temporaryValues = new ArrayList<>(this.values);
-        Collections.reverse(temporaryValues);
-        int index = 0;
-        boolean foundSmaller = false;
-        final AtomicInteger shift = new AtomicInteger(0);
-        if (!temporaryValues.contains(reference)) {
-            for (final Integer value : temporaryValues) {
-                if (value < reference) {
-                    index = temporaryValues.indexOf(value);
-                    shiftsToApply--;//we just moved a position!
-                    foundSmaller = true;
-                    break;
-                }
-            }
-            if (!foundSmaller) {
-                shift.incrementAndGet();
+        final int position = Arrays.binarySearch(values, reference);
+        int index = position;
+        int shift = 0;
+        if (position < 0) {
+            index = -position - 2;
+            if (index >= 0) {
+                shiftsToApply--;//we just moved a position!
+            } else {
+                index = values.length - 1;
+                shift++;
             }
-        } else {
-            index = temporaryValues.indexOf(reference);
         }
-        int value = temporaryValues.get(index);
-        for (int j = 0; j < shiftsToApply; j++) {
-            value = getValueFromList(temporaryValues, index + 1, shift);
-            index = temporaryValues.indexOf(value);
+        if (shiftsToApply > 0) {
+            index -= shiftsToApply;
+            if (index < 0) {
+                final int wraps = (values.length - 1 - index) / values.length;
+                shift += wraps;
+                index += wraps * values.length;
+            }
         }
-        return new NearestValue(value, shift.get());
+        return new NearestValue(values[index], shift);
     }
 
     /**
@@ -141,4 +164,27 @@ class TimeNode {
         }
         return values.get(index);
     }
+
+    private static final class ValuesView extends AbstractList<Integer> implements RandomAccess {
+        private final int[] values;
+
+        private ValuesView(final int[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Integer get(final int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public boolean contains(final Object value) {
+            return value instanceof Integer && Arrays.binarySearch(values, (Integer) value) >= 0;
+        }
+    }
 }
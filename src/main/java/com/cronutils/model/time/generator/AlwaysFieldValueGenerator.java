@@ -18,7 +18,7 @@ import com.cronutils.model.field.CronFieldName;
 import com.cronutils.model.field.expression.Always;
 import com.cronutils.model.field.expression.FieldExpression;
 
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 class AlwaysFieldValueGenerator extends FieldValueGenerator {
@@ -48,11 +48,12 @@ class AlwaysFieldValueGenerator extends FieldValueGenerator {
 
     @Override
     protected List<Integer> generateCandidatesNotIncludingIntervalExtremes(final int start, final int end) {
-        final List<Integer> values = new ArrayList<>();
-        for (int j = start + 1; j < end; j++) {
-            values.add(j);
-        }
-        return values;
+        return collectedCandidatesNotIncludingIntervalExtremes(start, end);
+    }
+
+    @Override
+    protected void collectCandidatesNotIncludingIntervalExtremes(final int start, final int end, final BitSet candidates) {
+        setRange(candidates, start + 1, end - 1);
     }
 
     @Override
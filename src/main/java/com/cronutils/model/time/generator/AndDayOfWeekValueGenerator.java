@@ -20,7 +20,7 @@ import com.cronutils.model.field.expression.And;
 import com.cronutils.model.field.expression.FieldExpression;
 import com.cronutils.utils.Preconditions;
 
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 class AndDayOfWeekValueGenerator extends FieldValueGenerator {
@@ -38,22 +38,18 @@ class AndDayOfWeekValueGenerator extends FieldValueGenerator {
 
     @Override
     protected List<Integer> generateCandidatesNotIncludingIntervalExtremes(final int start, final int end) {
-        final List<Integer> values = new ArrayList<>();
-        final And and = (And) cronField.getExpression();
+        return collectedCandidatesNotIncludingIntervalExtremes(start, end);
+    }
 
+    @Override
+    protected void collectCandidatesNotIncludingIntervalExtremes(final int start, final int end, final BitSet candidates) {
+        final And and = (And) cronField.getExpression();
         for (final FieldExpression expression : and.getExpressions()) {
             final CronField cronField = new CronField(CronFieldName.DAY_OF_WEEK, expression, this.cronField.getConstraints());
-            final List<Integer> candidatesList = FieldValueGeneratorFactory.createDayOfWeekValueGeneratorInstance(
+            candidates.or(FieldValueGeneratorFactory.createDayOfWeekValueGeneratorInstance(
                     cronField, year, month, mondayDoWValue
-            ).generateCandidates(start, end);
-
-            // add them to the master list
-            if (candidatesList != null) {
-                values.addAll(candidatesList);
-            }
+            ).candidatesSet(start, end));
         }
-
-        return values;
     }
 
     @Override
@@ -20,6 +20,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 
@@ -70,17 +71,16 @@ class AndFieldValueGenerator extends FieldValueGenerator {
 
     @Override
     protected List<Integer> generateCandidatesNotIncludingIntervalExtremes(final int start, final int end) {
-        final List<Integer> values = new ArrayList<>();
-        try {
-            int reference = generateNextValue(start);
-            while (reference < end) {
-                values.add(reference);
-                reference = generateNextValue(reference);
-            }
-        } catch (final NoSuchValueException e) {
-            log.debug("Catched expected exception while generating candidates", e);
+        return collectedCandidatesNotIncludingIntervalExtremes(start, end);
+    }
+
+    @Override
+    protected void collectCandidatesNotIncludingIntervalExtremes(final int start, final int end, final BitSet candidates) {
+        final And and = (And) cronField.getExpression();
+        for (final FieldExpression expression : and.getExpressions()) {
+            createCandidateGeneratorInstance(new CronField(cronField.getField(), expression, cronField.getConstraints()))
+                    .collectCandidatesNotIncludingIntervalExtremes(start, end, candidates);
         }
-        return values;
     }
 
     @Override
@@ -13,24 +13,21 @@
 
 package com.cronutils.model.time.generator;
 
+import com.cronutils.mapper.ConstantsMapper;
 import com.cronutils.mapper.WeekDay;
 import com.cronutils.model.field.CronField;
 import com.cronutils.model.field.CronFieldName;
-import com.cronutils.model.field.constraint.FieldConstraintsBuilder;
 import com.cronutils.model.field.expression.Between;
 import com.cronutils.model.field.expression.FieldExpression;
-import com.cronutils.parser.CronParserField;
 import com.cronutils.utils.Preconditions;
 
-import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.IntStream;
 
 /**
  * This class generates the actual days of month matching the "days of week" specification if the.
  * specification is a range like SUN-TUE or MON-FRI. Only a range is supported. It accomplishes this
- * by creating an instance of the OnDayOfWeekValuesGenerator for each day of week needed and then
- * aggregating the values.
+ * by mapping each day of week in the range to its java.time value and checking every day of the month against them.
  *
  * <p>The methods:
  * <ul>
@@ -68,26 +65,21 @@ class BetweenDayOfWeekValueGenerator extends FieldValueGenerator {
 
     @Override
     protected List<Integer> generateCandidatesNotIncludingIntervalExtremes(final int start, final int end) {
-        final List<Integer> values = new ArrayList<>();
-        for (Integer dayOfWeek: dowValidValues) {
-            // Build a CronField representing a single day of the week
-            final FieldConstraintsBuilder fcb = FieldConstraintsBuilder.instance().forField(CronFieldName.DAY_OF_WEEK);
-            final CronParserField parser = new CronParserField(CronFieldName.DAY_OF_WEEK, fcb.createConstraintsInstance());
-            final CronField cronField = parser.parse(dayOfWeek.toString());
-
-            // now a generator for matching days
-            final OnDayOfWeekValueGenerator odow = new OnDayOfWeekValueGenerator(cronField, year, month, mondayDoWValue);
-
-            // get the list of matching days
-            final List<Integer> candidatesList = odow.generateCandidates(start, end);
+        return collectedCandidatesNotIncludingIntervalExtremes(start, end);
+    }
 
-            // add them to the master list
-            if (candidatesList != null) {
-                values.addAll(candidatesList);
+    @Override
+    protected void collectCandidatesNotIncludingIntervalExtremes(final int start, final int end, final BitSet candidates) {
+        // bit n is set if java.time day of week n is valid
+        int validDaysOfWeek = 0;
+        for (final int dayOfWeek : dowValidValues) {
+            validDaysOfWeek |= 1 << ConstantsMapper.weekDayMapping(mondayDoWValue, ConstantsMapper.JAVA8, dayOfWeek);
+        }
+        for (int day = Math.max(start, 1); day <= end; day++) {
+            if ((validDaysOfWeek & (1 << GregorianCycle.dayOfWeek(year, month, day))) != 0) {
+                candidates.set(day);
             }
         }
-        Collections.sort(values);
-        return values;
     }
 
     @Override
@@ -112,7 +104,7 @@ class BetweenDayOfWeekValueGenerator extends FieldValueGenerator {
         // DayOfWeek getValue returns 1 (Monday) - 7 (Sunday),
         // so we should factor in the monday DoW used to generate
         // the valid DoW values
-        final int localDateDoW = LocalDate.of(year, month, value).getDayOfWeek().getValue();
+        final int localDateDoW = GregorianCycle.dayOfWeek(year, month, value);
 
         // Sunday's value is mondayDoWValue-1 when generating the valid values
         // Ex.
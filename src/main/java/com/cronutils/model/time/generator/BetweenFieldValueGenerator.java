@@ -19,7 +19,7 @@ import com.cronutils.model.field.expression.FieldExpression;
 import com.cronutils.model.field.value.FieldValue;
 import com.cronutils.model.field.value.IntegerFieldValue;
 
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 class BetweenFieldValueGenerator extends FieldValueGenerator {
@@ -60,37 +60,22 @@ class BetweenFieldValueGenerator extends FieldValueGenerator {
 
     @Override
     protected List<Integer> generateCandidatesNotIncludingIntervalExtremes(final int start, final int end) {
-        final List<Integer> values = new ArrayList<>();
+        return collectedCandidatesNotIncludingIntervalExtremes(start, end);
+    }
+
+    @Override
+    protected void collectCandidatesNotIncludingIntervalExtremes(final int start, final int end, final BitSet candidates) {
         //check overlapping ranges: x1 <= y2 && y1 <= x2
         final Between between = (Between) cronField.getExpression();
         final int expressionStart = map(between.getFrom());
         final int expressionEnd = map(between.getTo());
-        int rangestart = start;
-        int rangeend = end;
         if (start <= expressionEnd && expressionStart <= end) { //ranges overlap
-            if (expressionEnd < end) {
-                rangeend = expressionEnd;
-            }
-            if (map(between.getFrom()) > start) {
-                rangestart = expressionStart;
-            }
-            try {
-                if (rangestart != start) {
-                    values.add(rangestart);
-                }
-                int reference = generateNextValue(rangestart);
-                while (reference < rangeend) {
-                    values.add(reference);
-                    reference = generateNextValue(reference);
-                }
-                if (rangeend != end) {
-                    values.add(reference);
-                }
-            } catch (final NoSuchValueException e) {
-                // TODO: Explain why this exception is ignored
+            final int rangestart = Math.max(start, expressionStart);
+            if (rangestart != start) {
+                candidates.set(rangestart);
             }
+            setRange(candidates, rangestart + 1, Math.min(end - 1, expressionEnd));
         }
-        return values;
     }
 
     @Override
@@ -21,11 +21,8 @@ import com.cronutils.model.field.expression.Every;
 import com.cronutils.utils.Preconditions;
 
 import java.time.DayOfWeek;
-import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.EnumSet;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Generates matching days for a given year and month for a given day of week cron field with an every expression.
@@ -34,15 +31,15 @@ class EveryDayOfWeekValueGenerator extends EveryFieldValueGenerator {
     private final int lastDayOfMonth;
     private int year;
     private int month;
-    private final Set<DayOfWeek> dowValidValues;
+    // bit n is set if java.time day of week n is valid
+    private final int dowValidValues;
 
     EveryDayOfWeekValueGenerator(final CronField cronField, final int year, final int month, WeekDay mondayDoWValue) {
         super(cronField);
         Preconditions.checkArgument(CronFieldName.DAY_OF_WEEK.equals(cronField.getField()), "CronField does not belong to day of week");
         this.year = year;
         this.month = month;
-        final LocalDate date = LocalDate.of(year, month, 1);
-        lastDayOfMonth = date.lengthOfMonth();
+        lastDayOfMonth = GregorianCycle.lengthOfMonth(year, month);
 
         // from is set by EveryFieldValueGenerator to be the first day of the week to start counting from
         // and to is set by EveryFieldValueGenerator to be the last day of the week
@@ -53,14 +50,14 @@ class EveryDayOfWeekValueGenerator extends EveryFieldValueGenerator {
         dowValidValues = getValidDays(mondayDoWValue, period, from, to);
     }
 
-    private static Set<DayOfWeek> getValidDays(WeekDay mondayDoWValue, int period, int from, int to) {
-        List<DayOfWeek> validDays = new ArrayList<>(7);
+    private static int getValidDays(WeekDay mondayDoWValue, int period, int from, int to) {
+        int validDays = 0;
         for (int day = from; day <= to; day += period) {
             // Convert from cron day of the week to Java DayOfWeek
             int javaDay = ConstantsMapper.weekDayMapping(mondayDoWValue, ConstantsMapper.JAVA8, day);
-            validDays.add(DayOfWeek.of(javaDay));
+            validDays |= 1 << DayOfWeek.of(javaDay).getValue();
         }
-        return EnumSet.copyOf(validDays);
+        return validDays;
     }
 
     @Override
@@ -88,21 +85,18 @@ class EveryDayOfWeekValueGenerator extends EveryFieldValueGenerator {
     }
 
     @Override
-    protected List<Integer> generateCandidatesNotIncludingIntervalExtremes(int start, int end) {
+    protected List<Integer> generateCandidatesNotIncludingIntervalExtremes(final int start, final int end) {
+        return collectedCandidatesNotIncludingIntervalExtremes(start, end);
+    }
+
+    @Override
+    protected void collectCandidatesNotIncludingIntervalExtremes(final int start, final int end, final BitSet candidates) {
         // start is the day of month to start from
-        List<Integer> candidates = new ArrayList<>();
-        int reference = start;
-        try {
-            while (reference < end) {
-                reference = generateNextValue(reference);
-                if (reference < end) {
-                    candidates.add(reference);
-                }
+        for (int day = Math.max(start + 1, 1); day < end && day <= lastDayOfMonth; day++) {
+            if (isMatch(day)) {
+                candidates.set(day);
             }
-        } catch (NoSuchValueException ignored) {
-            // next generated value would be beyond the end of the month, so just ignore it and finish
         }
-        return candidates;
     }
 
     @Override
@@ -111,7 +105,6 @@ class EveryDayOfWeekValueGenerator extends EveryFieldValueGenerator {
         if (value > lastDayOfMonth || value < 1) {
             return false;
         }
-        DayOfWeek dayOfWeek = LocalDate.of(year, month, value).getDayOfWeek();
-        return dowValidValues.contains(dayOfWeek);
+        return (dowValidValues & (1 << GregorianCycle.dayOfWeek(year, month, value))) != 0;
     }
 }
@@ -20,7 +20,7 @@ import com.cronutils.model.field.expression.FieldExpression;
 import com.cronutils.model.field.expression.On;
 import com.cronutils.utils.VisibleForTesting;
 
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 class EveryFieldValueGenerator extends FieldValueGenerator {
@@ -103,23 +103,24 @@ class EveryFieldValueGenerator extends FieldValueGenerator {
 
     @Override
     protected List<Integer> generateCandidatesNotIncludingIntervalExtremes(final int start, final int end) {
-        final List<Integer> values = new ArrayList<>();
+        return collectedCandidatesNotIncludingIntervalExtremes(start, end);
+    }
+
+    @Override
+    protected void collectCandidatesNotIncludingIntervalExtremes(final int start, final int end, final BitSet candidates) {
         try {
             final int offset = offset();
             if (start < offset && offset < end) {
-                values.add(offset);
+                candidates.set(offset);
             }
             int reference = generateNextValue(start);
             while (reference < end) {
-                if (reference != offset) {
-                    values.add(reference);
-                }
+                candidates.set(reference);
                 reference = generateNextValue(reference);
             }
         } catch (final NoSuchValueException ignored) {
             // We just skip, since we generate values until we get the exception
         }
-        return values;
     }
 
     @Override
@@ -17,9 +17,8 @@ import com.cronutils.model.field.CronField;
 import com.cronutils.model.field.expression.FieldExpression;
 import com.cronutils.utils.Preconditions;
 
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -55,20 +54,86 @@ public abstract class FieldValueGenerator {
 
     protected abstract List<Integer> generateCandidatesNotIncludingIntervalExtremes(int start, int end);
 
+    /**
+     * Sets candidate values between start and end, not including them, into given bit set.
+     * Defaults to generateCandidatesNotIncludingIntervalExtremes: generators may override it to avoid boxing values.
+     *
+     * @param start      - interval start, excluded
+     * @param end        - interval end, excluded
+     * @param candidates - bit set where bit n is set if n is a candidate
+     */
+    protected void collectCandidatesNotIncludingIntervalExtremes(final int start, final int end, final BitSet candidates) {
+        for (final int candidate : generateCandidatesNotIncludingIntervalExtremes(start, end)) {
+            candidates.set(candidate);
+        }
+    }
+
+    /**
+     * Lists candidates set by collectCandidatesNotIncludingIntervalExtremes, for generators overriding it.
+     */
+    protected final List<Integer> collectedCandidatesNotIncludingIntervalExtremes(final int start, final int end) {
+        final BitSet candidates = new BitSet();
+        collectCandidatesNotIncludingIntervalExtremes(start, end, candidates);
+        return toList(candidates);
+    }
+
     public abstract boolean isMatch(int value);
 
     public final List<Integer> generateCandidates(final int start, final int end) {
-        List<Integer> candidates = generateCandidatesNotIncludingIntervalExtremes(start, end);
+        return toList(candidatesSet(start, end));
+    }
+
+    /**
+     * Generates candidate values between start and end, both included.
+     *
+     * @param start - interval start
+     * @param end   - interval end
+     * @return BitSet instance, never null. Bit n is set if n is a candidate.
+     */
+    public final BitSet candidatesSet(final int start, final int end) {
+        final BitSet candidates = new BitSet();
+        collectCandidatesNotIncludingIntervalExtremes(start, end, candidates);
         if (isMatch(start)) {
-            candidates.add(start);
+            candidates.set(start);
         }
         if (isMatch(end)) {
-            candidates.add(end);
+            candidates.set(end);
         }
-        candidates = new LinkedList<>(new HashSet<>(candidates));
-        Collections.sort(candidates);
         return candidates;
     }
 
+    /**
+     * Generates candidate values between start and end, both included, as a bit mask.
+     *
+     * @param start - interval start; must not be negative
+     * @param end   - interval end; must be lower than 64
+     * @return bit mask where bit n is set if n is a candidate
+     */
+    public final long candidatesMask(final int start, final int end) {
+        Preconditions.checkArgument(start >= 0 && start <= end && end < Long.SIZE, "Mask interval must be within [0, 63]");
+        final long[] words = candidatesSet(start, end).toLongArray();
+        if (words.length == 0) {
+            return 0L;
+        }
+        return words[0] & (-1L << start) & (-1L >>> (Long.SIZE - 1 - end));
+    }
+
+    /**
+     * Sets values from start to end, both included, into given bit set. Does nothing if start is greater than end.
+     */
+    protected static void setRange(final BitSet candidates, final int start, final int end) {
+        if (start <= end) {
+            candidates.set(start, end + 1);
+        }
+    }
+
+    private static List<Integer> toList(final BitSet candidates) {
+        final List<Integer> values = new ArrayList<>(candidates.cardinality());
+        for (int value = candidates.nextSetBit(0); value >= 0; value = candidates.nextSetBit(value + 1)) {
+            values.add(value);
+        }
+        return values;
+    }
+
     protected abstract boolean matchesFieldExpressionClass(FieldExpression fieldExpression);
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time.generator;
+
+/**
+ * Day of week and length of every month in the 400 years Gregorian cycle, after which the calendar repeats itself.
+ * Allows day of week generators to resolve days through integer arithmetic. Days of week follow java.time values:
+ * 1 (Monday) to 7 (Sunday).
+ */
+final class GregorianCycle {
+    static final int YEARS = 400;
+
+    private static final int DAY_OF_WEEK_BITS = 3;
+    private static final int DAY_OF_WEEK_MASK = (1 << DAY_OF_WEEK_BITS) - 1;
+    private static final int MIN_LENGTH_OF_MONTH = 28;
+    private static final int[] LENGTH_OF_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    /**
+     * Per year in cycle and month: day of week of the first day of month in the lowest bits,
+     * length of month minus 28 in the highest bits.
+     */
+    private static final byte[] MONTHS = new byte[YEARS * 12];
+
+    static {
+        // January 1st, 2000 was a Saturday; 2000 mod 400 is zero, so the cycle starts there
+        int firstDayOfWeek = 6;
+        for (int year = 0; year < YEARS; year++) {
+            final boolean leap = year % 4 == 0 && (year % 100 != 0 || year == 0);
+            for (int month = 0; month < 12; month++) {
+                final int length = month == 1 && leap ? 29 : LENGTH_OF_MONTH[month];
+                MONTHS[year * 12 + month] = (byte) (firstDayOfWeek | (length - MIN_LENGTH_OF_MONTH) << DAY_OF_WEEK_BITS);
+                firstDayOfWeek = (firstDayOfWeek - 1 + length) % 7 + 1;
+            }
+        }
+    }
+
+    private GregorianCycle() {
+    }
+
+    /**
+     * @param year  - year
+     * @param month - month, from 1 to 12
+     * @return day of week of the first day of given month, from 1 (Monday) to 7 (Sunday)
+     */
+    static int firstDayOfWeek(final int year, final int month) {
+        return MONTHS[index(year, month)] & DAY_OF_WEEK_MASK;
+    }
+
+    /**
+     * @param year  - year
+     * @param month - month, from 1 to 12
+     * @return number of days in given month
+     */
+    static int lengthOfMonth(final int year, final int month) {
+        return (MONTHS[index(year, month)] >> DAY_OF_WEEK_BITS) + MIN_LENGTH_OF_MONTH;
+    }
+
+    /**
+     * @param year       - year
+     * @param month      - month, from 1 to 12
+     * @param dayOfMonth - day of month; days beyond the month end continue into the following weeks
+     * @return day of week of given day, from 1 (Monday) to 7 (Sunday)
+     */
+    static int dayOfWeek(final int year, final int month, final int dayOfMonth) {
+        return Math.floorMod(firstDayOfWeek(year, month) + dayOfMonth - 2, 7) + 1;
+    }
+
+    private static int index(final int year, final int month) {
+        return Math.floorMod(year, YEARS) * 12 + month - 1;
+    }
+}
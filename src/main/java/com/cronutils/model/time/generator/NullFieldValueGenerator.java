@@ -16,7 +16,7 @@ package com.cronutils.model.time.generator;
 import com.cronutils.model.field.CronField;
 import com.cronutils.model.field.expression.FieldExpression;
 
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 class NullFieldValueGenerator extends FieldValueGenerator {
@@ -36,7 +36,12 @@ class NullFieldValueGenerator extends FieldValueGenerator {
 
     @Override
     protected List<Integer> generateCandidatesNotIncludingIntervalExtremes(final int start, final int end) {
-        return new ArrayList<>();
+        return collectedCandidatesNotIncludingIntervalExtremes(start, end);
+    }
+
+    @Override
+    protected void collectCandidatesNotIncludingIntervalExtremes(final int start, final int end, final BitSet candidates) {
+        // no candidates
     }
 
     @Override
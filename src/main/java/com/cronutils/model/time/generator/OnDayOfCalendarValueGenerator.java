@@ -15,7 +15,7 @@ package com.cronutils.model.time.generator;
 
 import com.cronutils.model.field.CronField;
 
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 abstract class OnDayOfCalendarValueGenerator extends FieldValueGenerator {
@@ -30,14 +30,17 @@ abstract class OnDayOfCalendarValueGenerator extends FieldValueGenerator {
 
     @Override
     protected List<Integer> generateCandidatesNotIncludingIntervalExtremes(final int start, final int end) {
-        final List<Integer> values = new ArrayList<>();
+        return collectedCandidatesNotIncludingIntervalExtremes(start, end);
+    }
+
+    @Override
+    protected void collectCandidatesNotIncludingIntervalExtremes(final int start, final int end, final BitSet candidates) {
         try {
             int reference = generateNextValue(start);
             while (reference < end) {
-                values.add(reference);
+                candidates.set(reference);
                 reference = generateNextValue(reference);
             }
         } catch (final NoSuchValueException ignored) { /*NOP*/ }
-        return values;
     }
 }
@@ -20,7 +20,6 @@ import com.cronutils.model.field.expression.On;
 import com.cronutils.utils.Preconditions;
 
 import java.time.DayOfWeek;
-import java.time.LocalDate;
 
 class OnDayOfMonthValueGenerator extends OnDayOfCalendarValueGenerator {
 
@@ -71,27 +70,30 @@ class OnDayOfMonthValueGenerator extends OnDayOfCalendarValueGenerator {
         switch (on.getSpecialChar().getValue()) {
             case L:
                 final int daysBefore = on.getNth().getValue();
-                return LocalDate.of(year, month, 1).lengthOfMonth() - (daysBefore > 0 ? daysBefore : 0);
+                return GregorianCycle.lengthOfMonth(year, month) - (daysBefore > 0 ? daysBefore : 0);
             case W: // First work day of the week
-                final LocalDate doM = LocalDate.of(year, month, dayOfMonth);
-                if (doM.getDayOfWeek() == DayOfWeek.SATURDAY) { //dayOfWeek is Saturday!
+                final int lengthOfMonth = GregorianCycle.lengthOfMonth(year, month);
+                if (dayOfMonth > lengthOfMonth) { //day does not exist in this month
+                    throw new NoSuchValueException();
+                }
+                final int dayOfWeek = GregorianCycle.dayOfWeek(year, month, dayOfMonth);
+                if (dayOfWeek == DayOfWeek.SATURDAY.getValue()) { //dayOfWeek is Saturday!
                     if (dayOfMonth == 1) { //first day in month is Saturday! We execute on Monday
                         return 3;
                     }
                     return dayOfMonth - 1;
                 }
-                if (doM.getDayOfWeek() == DayOfWeek.SUNDAY && (dayOfMonth + 1) <= doM.lengthOfMonth()) {
+                if (dayOfWeek == DayOfWeek.SUNDAY.getValue() && (dayOfMonth + 1) <= lengthOfMonth) {
                     return dayOfMonth + 1;
                 }
                 return dayOfMonth;  // first day of week is a weekday
             case LW:
-                final LocalDate lastDayOfMonth = LocalDate.of(year, month, LocalDate.of(year, month, 1).lengthOfMonth());
-                final int dow = lastDayOfMonth.getDayOfWeek().getValue();
-                final int diff = dow - 5;
+                final int lastDayOfMonth = GregorianCycle.lengthOfMonth(year, month);
+                final int diff = GregorianCycle.dayOfWeek(year, month, lastDayOfMonth) - DayOfWeek.FRIDAY.getValue();
                 if (diff > 0) {
-                    return lastDayOfMonth.minusDays(diff).getDayOfMonth();
+                    return lastDayOfMonth - diff;
                 }
-                return lastDayOfMonth.getDayOfMonth();
+                return lastDayOfMonth;
             default:
                 throw new NoSuchValueException();
         }
@@ -22,9 +22,6 @@ import com.cronutils.model.field.expression.On;
 import com.cronutils.model.field.value.IntegerFieldValue;
 import com.cronutils.utils.Preconditions;
 
-import java.time.DayOfWeek;
-import java.time.LocalDate;
-
 class OnDayOfWeekValueGenerator extends OnDayOfCalendarValueGenerator {
 
     private static final On ON_SATURDAY = new On(new IntegerFieldValue(7));
@@ -88,11 +85,11 @@ class OnDayOfWeekValueGenerator extends OnDayOfCalendarValueGenerator {
     }
 
     private int generateHashValues(final On on, final int year, final int month) {
-        final DayOfWeek dowForFirstDoM = LocalDate.of(year, month, 1).getDayOfWeek();//1-7
+        final int dowForFirstDoM = GregorianCycle.firstDayOfWeek(year, month);//1-7
         final int requiredDoW = ConstantsMapper.weekDayMapping(mondayDoWValue, ConstantsMapper.JAVA8, on.getTime().getValue());//to normalize to jdk8-time value
         final int requiredNth = on.getNth().getValue();
         int baseDay = 1;//day 1 from given month
-        final int diff = dowForFirstDoM.getValue() - requiredDoW;
+        final int diff = dowForFirstDoM - requiredDoW;
         if (diff < 0) {
             baseDay = baseDay + Math.abs(diff);
         }
@@ -103,20 +100,19 @@ class OnDayOfWeekValueGenerator extends OnDayOfCalendarValueGenerator {
     }
 
     private int generateLValues(final On on, final int year, final int month) throws NoSuchValueException {
-        final int lastDoM = LocalDate.of(year, month, 1).lengthOfMonth();
-        final LocalDate lastDoMDateTime = LocalDate.of(year, month, lastDoM);
-        final int dowForLastDoM = lastDoMDateTime.getDayOfWeek().getValue();//1-7
+        final int lastDoM = GregorianCycle.lengthOfMonth(year, month);
+        final int dowForLastDoM = GregorianCycle.dayOfWeek(year, month, lastDoM);//1-7
         final int requiredDoW = ConstantsMapper.weekDayMapping(mondayDoWValue, ConstantsMapper.JAVA8, on.getTime().getValue());//to normalize to jdk8-time value
         final int dowDiff = dowForLastDoM - requiredDoW;
 
         if (dowDiff == 0) {
-            return lastDoMDateTime.getDayOfMonth();
+            return lastDoM;
         }
         if (dowDiff < 0) {
-            return lastDoMDateTime.minusDays(dowForLastDoM + (long)(7 - requiredDoW)).getDayOfMonth();
+            return lastDoM - (dowForLastDoM + 7 - requiredDoW);
         }
         if (dowDiff > 0) {
-            return lastDoMDateTime.minusDays(dowDiff).getDayOfMonth();
+            return lastDoM - dowDiff;
         }
         throw new NoSuchValueException();
     }
@@ -135,7 +131,7 @@ class OnDayOfWeekValueGenerator extends OnDayOfCalendarValueGenerator {
      */
     private int generateNoneValues(final On on, final int year, final int month, final int reference) {
         // the day of week the first of the month is on
-        final int dowForFirstDoM = LocalDate.of(year, month, 1).getDayOfWeek().getValue();// 1-7
+        final int dowForFirstDoM = GregorianCycle.firstDayOfWeek(year, month);// 1-7
         // the day of week we need, normalize to jdk8time
         final int requiredDoW = ConstantsMapper.weekDayMapping(mondayDoWValue, ConstantsMapper.JAVA8, on.getTime().getValue());
         // the first day of the month
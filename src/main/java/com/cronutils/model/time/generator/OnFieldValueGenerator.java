@@ -17,7 +17,7 @@ import com.cronutils.model.field.CronField;
 import com.cronutils.model.field.expression.FieldExpression;
 import com.cronutils.model.field.expression.On;
 
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 class OnFieldValueGenerator extends FieldValueGenerator {
@@ -45,12 +45,15 @@ class OnFieldValueGenerator extends FieldValueGenerator {
 
     @Override
     protected List<Integer> generateCandidatesNotIncludingIntervalExtremes(final int start, final int end) {
-        final List<Integer> values = new ArrayList<>();
+        return collectedCandidatesNotIncludingIntervalExtremes(start, end);
+    }
+
+    @Override
+    protected void collectCandidatesNotIncludingIntervalExtremes(final int start, final int end, final BitSet candidates) {
         final int time = ((On) cronField.getExpression()).getTime().getValue();
         if (time > start && time < end) {
-            values.add(time);
+            candidates.set(time);
         }
-        return values;
     }
 
     @Override
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.parser;
+
+import com.cronutils.model.Cron;
+import com.cronutils.model.definition.CronDefinition;
+import com.cronutils.utils.Preconditions;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CronParser that keeps parsed crons in a size bounded cache, evicting crons not used recently first.
+ * Expressions that only differ in whitespace share the same entry, and parsing them returns the same Cron instance.
+ * Failed parses are not cached. Instances are thread safe: cache hits do not lock, and eviction gives crons used
+ * since the last eviction pass a second chance, which approximates least recently used order.
+ */
+public class CachingCronParser extends CronParser {
+    private final int maxSize;
+    private final ConcurrentMap<String, Entry> cache = new ConcurrentHashMap<>();
+    // insertion order of cached keys, guarded by itself; only misses touch it
+    private final Queue<String> evictionOrder = new ArrayDeque<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param cronDefinition - cronDefinition of cron expressions to be parsed if null, a NullPointerException will be raised.
+     * @param maxSize        - maximum number of crons kept; must be positive.
+     */
+    public CachingCronParser(final CronDefinition cronDefinition, final int maxSize) {
+        super(cronDefinition);
+        Preconditions.checkArgument(maxSize > 0, "Cache size must be positive");
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Parse string with cron expression, or provide the Cron instance already parsed for it.
+     *
+     * @param expression - cron expression, never null
+     * @return Cron instance, corresponding to cron expression received
+     * @throws java.lang.IllegalArgumentException if expression does not match cron definition
+     */
+    @Override
+    public Cron parse(final String expression) {
+        Preconditions.checkNotNull(expression, "Expression must not be null");
+        final String key = normalize(expression);
+        final Entry cached = cache.get(key);
+        if (cached != null) {
+            if (!cached.used) {
+                cached.used = true;
+            }
+            hits.increment();
+            return cached.cron;
+        }
+        misses.increment();
+        final Entry entry = new Entry(super.parse(expression));
+        synchronized (evictionOrder) {
+            // another thread may have parsed the same expression meanwhile: keep a single instance
+            final Entry existing = cache.putIfAbsent(key, entry);
+            if (existing != null) {
+                return existing.cron;
+            }
+            evictionOrder.add(key);
+            evict();
+        }
+        return entry.cron;
+    }
+
+    /**
+     * Removes the oldest crons not used since they were last checked, until the cache fits its maximum size.
+     * Crons used meanwhile are moved to the back of the queue instead. Must hold the evictionOrder lock.
+     */
+    private void evict() {
+        while (cache.size() > maxSize) {
+            final String key = evictionOrder.poll();
+            final Entry entry = cache.get(key);
+            if (entry.used) {
+                entry.used = false;
+                evictionOrder.add(key);
+            } else {
+                cache.remove(key);
+            }
+        }
+    }
+
+    /**
+     * @return number of parses served from the cache.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of parses that were not found in the cache.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return number of crons currently cached.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Removes all cached crons. Counters are not reset.
+     */
+    public void clear() {
+        synchronized (evictionOrder) {
+            cache.clear();
+            evictionOrder.clear();
+        }
+    }
+
+    /**
+     * Trims the expression and collapses whitespace sequences into a single space, as done by CronParser
+     * before splitting fields. Already normalized expressions are returned as is, without running the regex.
+     */
+    static String normalize(final String expression) {
+        final int length = expression.length();
+        boolean normalized = length > 0 && expression.charAt(0) > ' ' && expression.charAt(length - 1) > ' ';
+        for (int j = 1; j < length - 1 && normalized; j++) {
+            final char c = expression.charAt(j);
+            normalized = c == ' ' ? expression.charAt(j - 1) != ' ' : !isWhitespace(c);
+        }
+        return normalized ? expression : expression.replaceAll("\\s+", " ").trim();
+    }
+
+    /**
+     * @return true if the character is matched by the regex whitespace class
+     */
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static final class Entry {
+        private final Cron cron;
+        // set by hits without locking; a lost update only costs the entry its second chance
+        private volatile boolean used;
+
+        private Entry(final Cron cron) {
+            this.cron = cron;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.parser;
+
+import com.cronutils.model.Cron;
+
+import java.util.Optional;
+
+/**
+ * Outcome of parsing a single expression in a batch: either the Cron parsed, or the error raised for it.
+ */
+public final class CronParseResult {
+    private final String expression;
+    private final Cron cron;
+    private final RuntimeException error;
+
+    private CronParseResult(final String expression, final Cron cron, final RuntimeException error) {
+        this.expression = expression;
+        this.cron = cron;
+        this.error = error;
+    }
+
+    static CronParseResult success(final String expression, final Cron cron) {
+        return new CronParseResult(expression, cron, null);
+    }
+
+    static CronParseResult failure(final String expression, final RuntimeException error) {
+        return new CronParseResult(expression, null, error);
+    }
+
+    /**
+     * @return expression as received, may be null.
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * @return true if the expression was parsed and validated.
+     */
+    public boolean isSuccess() {
+        return cron != null;
+    }
+
+    /**
+     * @return Cron parsed, or empty if parsing failed.
+     */
+    public Optional<Cron> getCron() {
+        return Optional.ofNullable(cron);
+    }
+
+    /**
+     * @return error raised while parsing, or empty if parsing succeeded.
+     */
+    public Optional<RuntimeException> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    @Override
+    public String toString() {
+        return "CronParseResult{" + "expression='" + expression + '\'' + (isSuccess() ? "" : ", error=" + error.getMessage()) + '}';
+    }
+}
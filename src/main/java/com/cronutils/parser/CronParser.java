@@ -16,23 +16,38 @@ package com.cronutils.parser;
 
 import com.cronutils.model.CompositeCron;
 import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
 import com.cronutils.model.SingleCron;
+import com.cronutils.model.definition.CronConstraint;
 import com.cronutils.model.definition.CronDefinition;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.model.definition.QuestionMarkCronConstraint;
 import com.cronutils.model.field.CronField;
+import com.cronutils.model.field.expression.QuestionMark;
 import com.cronutils.model.field.definition.FieldDefinition;
 import com.cronutils.utils.Preconditions;
 import com.cronutils.utils.StringUtils;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Collectors;
 
 /**
  * Parser for cron expressions.
  */
 public class CronParser {
+    private static final int BATCH_CHUNK_SIZE = 256;
+    private static final AtomicReferenceArray<CronParser> PARSERS = new AtomicReferenceArray<>(CronType.values().length);
+    private static final ThreadLocal<FieldScanner> SCANNERS = ThreadLocal.withInitial(FieldScanner::new);
 
     private final Map<Integer, List<CronParserField>> expressions = new HashMap<>();
     private final CronDefinition cronDefinition;
+    private final QuestionMarkCronConstraint[] cronConstraints;
+    private final boolean checkableConstraints;
+    private int maxFields;
 
     /**
      * @param cronDefinition - cronDefinition of cron expressions to be parsed if null, a NullPointerException will be raised.
@@ -40,6 +55,30 @@ public class CronParser {
     public CronParser(final CronDefinition cronDefinition) {
         this.cronDefinition = Preconditions.checkNotNull(cronDefinition, "CronDefinition must not be null");
         buildPossibleExpressions(cronDefinition);
+        boolean checkable = true;
+        for (final CronConstraint constraint : cronDefinition.getCronConstraints()) {
+            checkable &= constraint instanceof QuestionMarkCronConstraint;
+        }
+        checkableConstraints = checkable;
+        cronConstraints = checkable
+                ? cronDefinition.getCronConstraints().toArray(new QuestionMarkCronConstraint[0])
+                : new QuestionMarkCronConstraint[0];
+    }
+
+    /**
+     * Provides a shared parser for given cron type, built on the shared definition for it.
+     * Parsers hold no state besides the definition, so the same instance may be used concurrently.
+     *
+     * @param cronType - some cron type. If null, a RuntimeException will be raised.
+     * @return CronParser instance, never null
+     */
+    public static CronParser instanceFor(final CronType cronType) {
+        final CronParser cached = PARSERS.get(cronType.ordinal());
+        if (cached != null) {
+            return cached;
+        }
+        PARSERS.compareAndSet(cronType.ordinal(), null, new CronParser(CronDefinitionBuilder.instanceDefinitionFor(cronType)));
+        return PARSERS.get(cronType.ordinal());
     }
 
     /**
@@ -64,6 +103,7 @@ public class CronParser {
         }
 
         expressions.put(sortedExpression.size(), sortedExpression);
+        maxFields = sortedExpression.size();
     }
 
     private CronParserField toCronParserField(final FieldDefinition fieldDefinition) {
@@ -74,6 +114,16 @@ public class CronParser {
         return !fields.isEmpty() && fields.get(fields.size() - 1).isOptional();
     }
 
+    /**
+     * Creates a parser for the same cron definition, that caches parsed crons.
+     *
+     * @param maxSize - maximum number of crons kept; must be positive.
+     * @return CachingCronParser instance, never null.
+     */
+    public CachingCronParser withCache(final int maxSize) {
+        return new CachingCronParser(cronDefinition, maxSize);
+    }
+
     /**
      * Parse string with cron expression.
      *
@@ -83,6 +133,9 @@ public class CronParser {
      */
     public Cron parse(final String expression) {
         Preconditions.checkNotNull(expression, "Expression must not be null");
+        if (isSingleLine(expression)) {
+            return parseFields(expression);
+        }
         final String replaced = expression.replaceAll("\\s+", " ").trim();
         if (StringUtils.isEmpty(replaced)) {
             throw new IllegalArgumentException("Empty expression!");
@@ -132,5 +185,212 @@ public class CronParser {
             }
         }
     }
-}
 
+    /**
+     * Tells if given string is a valid cron expression, without throwing nor building the Cron.
+     * Single line expressions are checked in one pass with the grammar parse uses, and nothing is allocated
+     * when they are valid; fields the pass does not recognize, and expressions whose definition holds constraints
+     * that need the fields values, are parsed as usual and their errors reported.
+     *
+     * @param expression - cron expression, never null
+     * @return CronValidationResult instance, never null
+     */
+    public CronValidationResult validate(final String expression) {
+        Preconditions.checkNotNull(expression, "Expression must not be null");
+        if (!checkableConstraints || !isSingleLine(expression)) {
+            return validateParsing(expression);
+        }
+        final int length = expression.length();
+        int count = 0;
+        int j = 0;
+        while (j < length) {
+            while (j < length && isSeparator(expression.charAt(j))) {
+                j++;
+            }
+            if (j == length) {
+                break;
+            }
+            final int start = j;
+            while (j < length && !isSeparator(expression.charAt(j))) {
+                j++;
+            }
+            if (expression.charAt(j - 1) == ',') {
+                return CronValidationResult.invalid(j - 1, String.format("Invalid field value! Trailing commas not permitted! '%s'",
+                        expression.substring(start, j).toUpperCase()));
+            }
+            count++;
+        }
+        if (count == 0) {
+            return CronValidationResult.invalid(-1, "Empty expression!");
+        }
+        final List<CronParserField> fields = expressions.get(count);
+        if (fields == null) {
+            return CronValidationResult.invalid(-1,
+                    String.format("Cron expression contains %s parts but we expect one of %s", count, expressions.keySet()));
+        }
+        final FieldScanner scanner = SCANNERS.get();
+        int present = 0;
+        int questionMarks = 0;
+        j = 0;
+        for (int k = 0; k < count; k++) {
+            while (isSeparator(expression.charAt(j))) {
+                j++;
+            }
+            final int start = j;
+            while (j < length && !isSeparator(expression.charAt(j))) {
+                j++;
+            }
+            final CronParserField field = fields.get(k);
+            final int bit = 1 << field.getField().ordinal();
+            present |= bit;
+            switch (field.check(scanner, expression, start, j)) {
+                case FieldScanner.VALID:
+                    break;
+                case FieldScanner.QUESTION_MARK:
+                    questionMarks |= bit;
+                    break;
+                case FieldScanner.INVALID:
+                    return CronValidationResult.invalid(scanner.getViolationPosition(), scanner.getViolation());
+                default:
+                    try {
+                        if (field.parseValid(expression, start, j).getExpression() instanceof QuestionMark) {
+                            questionMarks |= bit;
+                        }
+                    } catch (final IllegalArgumentException e) {
+                        return CronValidationResult.invalid(scanner.getPosition(), e.getMessage());
+                    }
+            }
+        }
+        for (final QuestionMarkCronConstraint constraint : cronConstraints) {
+            if (!constraint.validate(present, questionMarks)) {
+                return CronValidationResult.invalid(-1, String.format("Invalid cron expression: %s. %s", expression, constraint.getDescription()));
+            }
+        }
+        return CronValidationResult.valid();
+    }
+
+    private CronValidationResult validateParsing(final String expression) {
+        try {
+            parse(expression);
+            return CronValidationResult.valid();
+        } catch (final IllegalArgumentException e) {
+            return CronValidationResult.invalid(-1, e.getMessage());
+        }
+    }
+
+    /**
+     * Parses and validates a batch of cron expressions on the common ForkJoinPool.
+     *
+     * @param expressions - cron expressions, never null
+     * @return results in the same order as expressions; failures are reported per item and never thrown.
+     */
+    public List<CronParseResult> parseAll(final Collection<String> expressions) {
+        return parseAll(expressions, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parses and validates a batch of cron expressions. Expressions are split into chunks run on the given executor,
+     * all of them sharing this parser's field parsers; small batches are parsed on the calling thread.
+     *
+     * @param expressions - cron expressions, never null
+     * @param executor    - executor running the chunks, never null
+     * @return results in the same order as expressions; failures are reported per item and never thrown.
+     */
+    public List<CronParseResult> parseAll(final Collection<String> expressions, final Executor executor) {
+        Preconditions.checkNotNull(expressions, "Expressions must not be null");
+        Preconditions.checkNotNull(executor, "Executor must not be null");
+        final String[] items = expressions.toArray(new String[0]);
+        final CronParseResult[] results = new CronParseResult[items.length];
+        if (items.length <= BATCH_CHUNK_SIZE) {
+            parseChunk(items, results, 0, items.length);
+        } else {
+            final List<CompletableFuture<Void>> chunks = new ArrayList<>(items.length / BATCH_CHUNK_SIZE + 1);
+            for (int start = 0; start < items.length; start += BATCH_CHUNK_SIZE) {
+                final int from = start;
+                final int to = Math.min(items.length, start + BATCH_CHUNK_SIZE);
+                chunks.add(CompletableFuture.runAsync(() -> parseChunk(items, results, from, to), executor));
+            }
+            CompletableFuture.allOf(chunks.toArray(new CompletableFuture<?>[0])).join();
+        }
+        return Collections.unmodifiableList(Arrays.asList(results));
+    }
+
+    private void parseChunk(final String[] items, final CronParseResult[] results, final int from, final int to) {
+        for (int j = from; j < to; j++) {
+            try {
+                results[j] = CronParseResult.success(items[j], parse(items[j]));
+            } catch (final RuntimeException e) {
+                results[j] = CronParseResult.failure(items[j], e);
+            }
+        }
+    }
+
+    /**
+     * Parses a single cron in one pass: fields are read in place, with no intermediate strings.
+     * Errors are the same ones the split based parse reports.
+     *
+     * @param expression - cron expression with no '|' nor control chars
+     * @return Cron instance, corresponding to cron expression received
+     */
+    private Cron parseFields(final String expression) {
+        final int length = expression.length();
+        final int[] bounds = new int[2 * maxFields];
+        int count = 0;
+        int j = 0;
+        while (j < length) {
+            while (j < length && isSeparator(expression.charAt(j))) {
+                j++;
+            }
+            if (j == length) {
+                break;
+            }
+            final int start = j;
+            while (j < length && !isSeparator(expression.charAt(j))) {
+                j++;
+            }
+            if (expression.charAt(j - 1) == ',') {
+                throw new IllegalArgumentException(String.format("Invalid field value! Trailing commas not permitted! '%s'",
+                        expression.substring(start, j).toUpperCase()));
+            }
+            if (2 * count < bounds.length) {
+                bounds[2 * count] = start;
+                bounds[2 * count + 1] = j;
+            }
+            count++;
+        }
+        if (count == 0) {
+            throw new IllegalArgumentException("Empty expression!");
+        }
+        final List<CronParserField> fields = expressions.get(count);
+        if (fields == null) {
+            throw new IllegalArgumentException(
+                    String.format("Cron expression contains %s parts but we expect one of %s", count, expressions.keySet()));
+        }
+        try {
+            final List<CronField> results = new ArrayList<>(count + 1);
+            for (int k = 0; k < count; k++) {
+                results.add(fields.get(k).parse(expression, bounds[2 * k], bounds[2 * k + 1]));
+            }
+            return new SingleCron(cronDefinition, results).validate();
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Failed to parse '%s'. %s", expression, e.getMessage()), e);
+        }
+    }
+
+    private static boolean isSingleLine(final String expression) {
+        for (int j = 0; j < expression.length(); j++) {
+            final char c = expression.charAt(j);
+            if (c == '|' || (c < ' ' && !isSeparator(c))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true for chars matched by regex \\s
+     */
+    private static boolean isSeparator(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
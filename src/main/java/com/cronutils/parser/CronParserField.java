@@ -16,6 +16,7 @@ package com.cronutils.parser;
 import com.cronutils.model.field.CronField;
 import com.cronutils.model.field.CronFieldName;
 import com.cronutils.model.field.constraint.FieldConstraints;
+import com.cronutils.model.field.expression.visitor.ValidationFieldExpressionVisitor;
 import com.cronutils.utils.Preconditions;
 
 import java.util.Comparator;
@@ -89,6 +90,55 @@ public class CronParserField {
         return new CronField(field, parser.parse(newExpression), constraints);
     }
 
+    /**
+     * Parses a region of a cron expression, reading letters as upper case ones.
+     *
+     * @param expression - cron expression
+     * @param start      - index of the first char of the field
+     * @param end        - index after the last char of the field
+     * @return parse result as CronFieldParseResult instance - never null. May throw a RuntimeException if cron expression is bad.
+     */
+    CronField parse(final String expression, final int start, final int end) {
+        final char last = expression.charAt(end - 1);
+        if (getField().equals(CronFieldName.DAY_OF_WEEK) && (last == 'L' || last == 'l')) {
+            return parse(expression.substring(start, end).toUpperCase());
+        }
+        return new CronField(field, parser.parse(expression, start, end, true), constraints);
+    }
+
+    /**
+     * Checks a region of a cron expression, reading letters as upper case ones, without building the field.
+     *
+     * @param scanner    - scanner to read the field with; it is reset to the region
+     * @param expression - cron expression
+     * @param start      - index of the first char of the field
+     * @param end        - index after the last char of the field
+     * @return one of FieldScanner check results; UNREAD fields should be checked with parseValid
+     */
+    int check(final FieldScanner scanner, final String expression, final int start, final int end) {
+        scanner.reset(parser, expression, start, end, true);
+        final char last = expression.charAt(end - 1);
+        if (getField().equals(CronFieldName.DAY_OF_WEEK) && (last == 'L' || last == 'l')) {
+            return FieldScanner.UNREAD;
+        }
+        return scanner.check();
+    }
+
+    /**
+     * Parses a region of a cron expression as parse does, and validates it against the field constraints.
+     *
+     * @param expression - cron expression
+     * @param start      - index of the first char of the field
+     * @param end        - index after the last char of the field
+     * @return parse result as CronFieldParseResult instance - never null.
+     * @throws IllegalArgumentException if the field can not be parsed or is not valid
+     */
+    CronField parseValid(final String expression, final int start, final int end) {
+        final CronField cronField = parse(expression, start, end);
+        cronField.getExpression().accept(new ValidationFieldExpressionVisitor(constraints));
+        return cronField;
+    }
+
     /**
      * Create a Comparator that compares CronField instances using CronFieldName value.
      *
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.parser;
+
+/**
+ * Outcome of validating a cron expression: valid, or the reason it is not and where it was found.
+ */
+public final class CronValidationResult {
+    private static final CronValidationResult VALID = new CronValidationResult(-1, null);
+
+    private final int position;
+    private final String reason;
+
+    private CronValidationResult(final int position, final String reason) {
+        this.position = position;
+        this.reason = reason;
+    }
+
+    static CronValidationResult valid() {
+        return VALID;
+    }
+
+    static CronValidationResult invalid(final int position, final String reason) {
+        return new CronValidationResult(position, reason);
+    }
+
+    /**
+     * @return true if the expression is a valid cron for the parser definition.
+     */
+    public boolean isValid() {
+        return reason == null;
+    }
+
+    /**
+     * @return index in the expression where the error was found; -1 if valid or if the error concerns the whole expression.
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * @return description of the error; null if valid.
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    @Override
+    public String toString() {
+        return "CronValidationResult{" + (isValid() ? "valid" : "position=" + position + ", reason='" + reason + '\'') + '}';
+    }
+}
@@ -14,45 +14,43 @@
 
 package com.cronutils.parser;
 
-import com.cronutils.StringValidations;
 import com.cronutils.model.field.constraint.FieldConstraints;
-import com.cronutils.model.field.expression.*;
+import com.cronutils.model.field.expression.FieldExpression;
+import com.cronutils.model.field.expression.On;
 import com.cronutils.model.field.value.FieldValue;
 import com.cronutils.model.field.value.IntegerFieldValue;
 import com.cronutils.model.field.value.SpecialChar;
 import com.cronutils.model.field.value.SpecialCharFieldValue;
 import com.cronutils.utils.Preconditions;
-import com.cronutils.utils.StringUtils;
 import com.cronutils.utils.VisibleForTesting;
 
-import java.util.regex.Pattern;
-
-import static com.cronutils.model.field.expression.FieldExpression.always;
-import static com.cronutils.model.field.expression.FieldExpression.questionMark;
-import static com.cronutils.model.field.value.SpecialChar.*;
+import java.util.Set;
 
 /**
  * Parses a field from a cron expression.
  */
 public class FieldParser {
-    private static final String SLASH = "/";
-    private static final String W_STRING = "W";
-    private static final String EMPTY_STRING = "";
-    private static final String LW_STRING = "LW";
-    private static final String HASH_TAG = "#";
-    private static final String L_STRING = "L";
-    private static final String QUESTION_MARK_STRING = "?";
-    private static final String ASTERISK = "*";
-    private static final char[] SPECIAL_CHARS_MINUS_STAR = new char[] { '/', '-', ',' };// universally supported
-
-    private static final Pattern L_PATTERN = Pattern.compile("[0-9]L", Pattern.CASE_INSENSITIVE);
-    private static final Pattern W_PATTERN = Pattern.compile("[0-9]W", Pattern.CASE_INSENSITIVE);
-    private static final String ASTERISK_ALWAYS_VALUE = "1";
-
     private final FieldConstraints fieldConstraints;
+    private final String[] names;
+    private final int[] nameValues;
+    private final int[] intMappingKeys;
+    private final int[] intMappingValues;
 
     public FieldParser(final FieldConstraints constraints) {
         fieldConstraints = Preconditions.checkNotNull(constraints, "FieldConstraints must not be null");
+        final Set<String> keys = constraints.getStringMappingKeySet();
+        names = keys.toArray(new String[0]);
+        nameValues = new int[names.length];
+        for (int j = 0; j < names.length; j++) {
+            nameValues[j] = constraints.getStringMappingValue(names[j]);
+        }
+        final Integer[] intKeys = constraints.getIntMappingKeySet().toArray(new Integer[0]);
+        intMappingKeys = new int[intKeys.length];
+        intMappingValues = new int[intKeys.length];
+        for (int j = 0; j < intKeys.length; j++) {
+            intMappingKeys[j] = intKeys[j];
+            intMappingValues[j] = constraints.getIntMappingValue(intKeys[j]);
+        }
     }
 
     /**
@@ -62,178 +60,245 @@ public class FieldParser {
      * @return CronFieldExpression object that with interpretation of given String parameter
      */
     public FieldExpression parse(final String expression) {
-        if (!StringUtils.containsAny(expression, SPECIAL_CHARS_MINUS_STAR)) {
-            if (expression.contains(QUESTION_MARK_STRING) && !fieldConstraints.getSpecialChars().contains(QUESTION_MARK)) {
-                throw new IllegalArgumentException("Invalid expression: " + expression);
-            }
+        return parse(expression, 0, expression.length(), false);
+    }
 
-            return noSpecialCharsNorStar(expression);
-        } else {
-            final String[] array = expression.split(",");
-            if (array.length > 1) {
-                return commaSplitResult(array);
-            } else {
-                final String[] splitted = expression.split("-");
-                if (expression.contains("-") && splitted.length != 2) {
-                    throw new IllegalArgumentException("Missing values for range: " + expression);
-                }
-                return splitted[0].equalsIgnoreCase(L_STRING)
-                        ? parseOnWithL(splitted[0], mapToIntegerFieldValue(splitted[1]))
-                        : dashSplitResult(expression, splitted);
-            }
+    /**
+     * Parse a region of the given string as a single cron field, in a single pass.
+     * Errors report the position in the given string where the field could not be read.
+     *
+     * @param input      - String holding the field
+     * @param start      - index of the first char of the field
+     * @param end        - index after the last char of the field
+     * @param ignoreCase - if letters should be read as upper case ones
+     * @return CronFieldExpression object that with interpretation of given field
+     */
+    FieldExpression parse(final String input, final int start, final int end, final boolean ignoreCase) {
+        final FieldScanner scanner = new FieldScanner(this, input, start, end, ignoreCase);
+        final FieldExpression expression = scanner.scan();
+        if (expression != null) {
+            return expression;
+        }
+        if (start == 0 && end == input.length()) {
+            throw new IllegalArgumentException(scanner.getError());
         }
+        throw new IllegalArgumentException(String.format("%s (at position %s)", scanner.getError(), scanner.getPosition()));
     }
 
-    private FieldExpression dashSplitResult(final String expression, final String[] betweenArray) {
-        if (betweenArray.length > 1) {
-            return parseBetween(betweenArray);
-        } else {
-            return slashSplit(expression, expression.split(SLASH));
+    /**
+     * Finds the longest name mapped at given index, followed by the end of the region or by one of ',', '-', '/' and '#'.
+     *
+     * @param input      - String holding the name
+     * @param start      - index of the first char of the name
+     * @param end        - index after the last char of the region
+     * @param ignoreCase - if letters should be read as upper case ones
+     * @return index of the name, or -1 if no name is mapped there
+     */
+    int nameAt(final String input, final int start, final int end, final boolean ignoreCase) {
+        int found = -1;
+        for (int j = 0; j < names.length; j++) {
+            final int length = names[j].length();
+            if (length > 0 && start + length <= end && (found < 0 || length > names[found].length())
+                    && names[j].regionMatches(ignoreCase, 0, input, start, length)
+                    && (start + length == end || isDelimiter(input.charAt(start + length)))) {
+                found = j;
+            }
         }
+        return found;
     }
 
-    private FieldExpression commaSplitResult(final String[] array) {
-        final And and = new And();
-        for (final String exp : array) {
-            and.and(parse(exp));
-        }
-        return and;
+    int nameLength(final int name) {
+        return names[name].length();
     }
 
-    private FieldExpression slashSplit(final String expression, final String[] values) {
-        if (values.length == 2) {
-            final String start = values[0];
-            final String value = values[1];
-            return asteriskOrempty(start, value);
-        } else if (values.length == 1) {
-            throw new IllegalArgumentException("Missing steps for expression: " + expression);
-        } else {
-            throw new IllegalArgumentException("Invalid expression: " + expression);
-        }
+    int nameValue(final int name) {
+        return nameValues[name];
     }
 
-    private FieldExpression asteriskOrempty(final String start, final String value) {
-        final String trimmedStart = start.trim();
-        if (ASTERISK.equals(trimmedStart) && value.equals(ASTERISK_ALWAYS_VALUE)) {
-            return noSpecialCharsNorStar(start);
+    /**
+     * Tells which chars of an upper case expression are neither digits, special chars, names nor special words
+     * the field supports, as field validation does.
+     *
+     * @param expression - upper case expression
+     * @return invalid chars, possibly empty
+     */
+    String invalidChars(final String expression) {
+        final StringBuilder invalid = new StringBuilder();
+        int j = 0;
+        while (j < expression.length()) {
+            final char c = expression.charAt(j);
+            if (isWordChar(c) && !(c >= '0' && c <= '9')) {
+                // words are read with digits removed, as their boundaries are
+                final StringBuilder word = new StringBuilder();
+                while (j < expression.length() && isWordChar(expression.charAt(j))) {
+                    if (!(expression.charAt(j) >= '0' && expression.charAt(j) <= '9')) {
+                        word.append(expression.charAt(j));
+                    }
+                    j++;
+                }
+                if (!isName(word.toString()) && !isSpecialWord(word.toString())) {
+                    invalid.append(word);
+                }
+                continue;
+            }
+            if ("#?/*0123456789,-".indexOf(c) < 0 && !Character.isWhitespace(c)) {
+                invalid.append(c);
+            }
+            j++;
         }
-        if (ASTERISK.equals(trimmedStart) || EMPTY_STRING.equals(start.trim())) {
-            return new Every(new IntegerFieldValue(Integer.parseInt(value)));
-        } else {
-            return new Every(new On(new IntegerFieldValue(Integer.parseInt(start))), new IntegerFieldValue(Integer.parseInt(value)));
+        return invalid.toString();
+    }
+
+    boolean supports(final SpecialChar specialChar) {
+        return fieldConstraints.getSpecialChars().contains(specialChar);
+    }
+
+    FieldConstraints getConstraints() {
+        return fieldConstraints;
+    }
+
+    private boolean isName(final String word) {
+        for (final String name : names) {
+            if (name.equals(word)) {
+                return true;
+            }
         }
+        return false;
     }
 
-    private FieldExpression noSpecialCharsNorStar(final String expression) {
-        if (ASTERISK.equals(expression)) { // all crons support asterisk
-            return always();
-        } else {
-            if (QUESTION_MARK_STRING.equals(expression)) {
-                return questionMark();
+    private boolean isSpecialWord(final String word) {
+        for (final SpecialChar specialChar : new SpecialChar[] { SpecialChar.L, SpecialChar.LW, SpecialChar.W }) {
+            if (specialChar.name().equals(word) && supports(specialChar)) {
+                return true;
             }
-            return parseOn(expression);
         }
+        return false;
+    }
+
+    private static boolean isWordChar(final char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '_';
     }
 
+    static boolean isDelimiter(final char c) {
+        return c == ',' || c == '-' || c == '/' || c == '#';
+    }
+
+    /**
+     * Parses a range, optionally followed by an increment.
+     *
+     * @param array - range start and range end, with the increment if any
+     * @return Between or Every expression
+     * @deprecated fields are read in a single pass by {@link #parse(String)}, which this method delegates to
+     */
+    @Deprecated
     @VisibleForTesting
     protected FieldExpression parseBetween(final String[] array) {
         if (array[0].isEmpty() || array[1].isEmpty()) {
             throw new IllegalArgumentException(
                     String.format("Invalid expression! Expression: %s-%s does not describe a range. Negative numbers are not allowed.", array[0], array[1]));
         }
-        if (array[1].contains(SLASH)) {
-            final String[] every = array[1].split(SLASH);
-            return new Every(new Between(map(array[0]), map(every[0])), mapToIntegerFieldValue(every[1]));
-        } else {
-            return new Between(map(array[0]), map(array[1]));
-        }
+        return parse(array[0] + "-" + array[1]);
     }
 
+    /**
+     * Parses a single value, possibly qualified by one of the special chars ?, #, L, W and LW.
+     *
+     * @param exp - expression to be parsed
+     * @return On expression
+     * @deprecated fields are read in a single pass by {@link #parse(String)}, which this method delegates to
+     */
+    @Deprecated
     @VisibleForTesting
     protected On parseOn(final String exp) {
-        if (QUESTION_MARK_STRING.equals(exp)) {
+        if ("?".equals(exp)) {
             return parseOnWithQuestionMark(exp);
-        } else if (exp.contains(HASH_TAG)) {
-            return parseOnWithHash(exp);
-        } else if (exp.contains(LW_STRING)) {
-            return parseOnWithLW(exp);
-        } else if (L_PATTERN.matcher(exp).find() || exp.equalsIgnoreCase(L_STRING)) {
-            return parseOnWithL(exp);
-        } else if (W_PATTERN.matcher(exp).find()) {
-            return parseOnWithW(exp);
-        } else {
-            return new On(mapToIntegerFieldValue(exp), new SpecialCharFieldValue(NONE), new IntegerFieldValue(-1));
         }
+        final FieldExpression expression = parse(exp);
+        if (expression instanceof On) {
+            return (On) expression;
+        }
+        throw new IllegalArgumentException("Invalid expression: " + exp);
     }
 
+    /**
+     * @deprecated fields are read in a single pass by {@link #parse(String)}
+     */
+    @Deprecated
     @VisibleForTesting
     protected On parseOnWithHash(final String exp) {
-        if (!fieldConstraints.getSpecialChars().contains(HASH)) {
+        if (!supports(SpecialChar.HASH)) {
             throw new IllegalArgumentException("Invalid expression: " + exp);
         }
-        final SpecialCharFieldValue specialChar = new SpecialCharFieldValue(HASH);
-        final String[] array = exp.split(HASH_TAG);
-        if (array.length == 0) {
-            throw new IllegalArgumentException("Invalid Position of # Character!");
-        }
-        final IntegerFieldValue nth = mapToIntegerFieldValue(array[1]);
-        if (array[0].isEmpty()) {
-            throw new IllegalArgumentException("Time should be specified!");
-        }
-        return new On(mapToIntegerFieldValue(array[0]), specialChar, nth);
+        return parseOn(exp);
     }
 
+    /**
+     * @deprecated fields are read in a single pass by {@link #parse(String)}
+     */
+    @Deprecated
     @VisibleForTesting
     protected On parseOnWithQuestionMark(final String exp) {
-        final SpecialCharFieldValue specialChar = new SpecialCharFieldValue(QUESTION_MARK);
-        final String questionMarkExpression = exp.replace(QUESTION_MARK_STRING, EMPTY_STRING);
-        if (EMPTY_STRING.equals(questionMarkExpression)) {
-            return new On(new IntegerFieldValue(-1), specialChar, new IntegerFieldValue(-1));
-        } else {
+        final String questionMarkExpression = exp.replace("?", "");
+        if (!questionMarkExpression.isEmpty()) {
             throw new IllegalArgumentException(String.format("Expected: '?', found: %s", questionMarkExpression));
         }
+        return new On(new IntegerFieldValue(-1), new SpecialCharFieldValue(SpecialChar.QUESTION_MARK), new IntegerFieldValue(-1));
     }
 
+    /**
+     * @deprecated fields are read in a single pass by {@link #parse(String)}
+     */
+    @Deprecated
     @VisibleForTesting
     protected On parseOnWithLW(final String exp) {
-        final SpecialCharFieldValue specialChar = new SpecialCharFieldValue(LW);
-        final String lwExpression = exp.replace(LW_STRING, EMPTY_STRING);
-        if (EMPTY_STRING.equals(lwExpression)) {
-            return new On(new IntegerFieldValue(-1), specialChar, new IntegerFieldValue(-1));
-        } else {
+        final String lwExpression = exp.replace("LW", "");
+        if (!lwExpression.isEmpty()) {
             throw new IllegalArgumentException(String.format("Expected: LW, found: %s", lwExpression));
         }
+        return parseOn(exp);
     }
 
+    /**
+     * @deprecated fields are read in a single pass by {@link #parse(String)}
+     */
+    @Deprecated
     @VisibleForTesting
     protected On parseOnWithL(final String exp) {
-        return parseOnWithL(exp, new IntegerFieldValue(-1));
+        return parseOn(exp);
     }
 
+    /**
+     * @deprecated fields are read in a single pass by {@link #parse(String)}
+     */
+    @Deprecated
     protected On parseOnWithL(final String exp, final IntegerFieldValue daysBefore) {
-        final SpecialCharFieldValue specialChar = new SpecialCharFieldValue(L);
-        final String expression = exp.replace(L_STRING, EMPTY_STRING);
-        IntegerFieldValue time = new IntegerFieldValue(-1);
-        if (!EMPTY_STRING.equals(expression)) {
-            time = mapToIntegerFieldValue(expression);
-        }
-        return new On(time, specialChar, daysBefore);
+        final String expression = exp.replace("L", "");
+        final IntegerFieldValue time = expression.isEmpty() ? new IntegerFieldValue(-1) : mapToIntegerFieldValue(expression);
+        return new On(time, new SpecialCharFieldValue(SpecialChar.L), daysBefore);
     }
 
+    /**
+     * @deprecated fields are read in a single pass by {@link #parse(String)}
+     */
+    @Deprecated
     @VisibleForTesting
     protected On parseOnWithW(final String exp) {
-        return new On(mapToIntegerFieldValue(exp.replace(W_STRING, EMPTY_STRING)), new SpecialCharFieldValue(W), new IntegerFieldValue(-1));
+        return parseOn(exp);
     }
 
+    /**
+     * @deprecated fields are read in a single pass by {@link #parse(String)}
+     */
+    @Deprecated
     @VisibleForTesting
     protected IntegerFieldValue mapToIntegerFieldValue(final String string) {
-        try {
-            return new IntegerFieldValue(intToInt(stringToInt(string)));
-        } catch (final NumberFormatException e) {
-            throw new IllegalArgumentException(String.format("Invalid value. Expected some integer, found %s", string));
-        }
+        return new IntegerFieldValue(mapInt(stringToInt(string)));
     }
 
+    /**
+     * @deprecated fields are read in a single pass by {@link #parse(String)}
+     */
+    @Deprecated
     @VisibleForTesting
     protected FieldValue<?> map(final String string) {
         for (final SpecialChar sc : SpecialChar.values()) {
@@ -249,19 +314,20 @@ public class FieldParser {
      *
      * @param exp - expression to be mapped
      * @return integer value for string expression
+     * @deprecated fields are read in a single pass by {@link #parse(String)}
      */
+    @Deprecated
     @VisibleForTesting
     protected int stringToInt(final String exp) {
         final Integer value = fieldConstraints.getStringMappingValue(exp);
         if (value != null) {
             return value;
-        } else {
-            try {
-                return Integer.parseInt(exp);
-            } catch (final NumberFormatException e) {
-                final String invalidChars = new StringValidations(fieldConstraints).removeValidChars(exp);
-                throw new IllegalArgumentException(String.format("Invalid chars in expression! Expression: %s Invalid chars: %s", exp, invalidChars));
-            }
+        }
+        try {
+            return Integer.parseInt(exp);
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid chars in expression! Expression: %s Invalid chars: %s", exp, invalidChars(exp.toUpperCase())));
         }
     }
 
@@ -274,9 +340,17 @@ public class FieldParser {
      */
     @VisibleForTesting
     protected int intToInt(final Integer exp) {
-        final Integer value = fieldConstraints.getIntMappingValue(exp);
-        if (value != null) {
-            return value;
+        return mapInt(exp);
+    }
+
+    /**
+     * Same as intToInt, without boxing the value.
+     */
+    int mapInt(final int exp) {
+        for (int j = 0; j < intMappingKeys.length; j++) {
+            if (intMappingKeys[j] == exp) {
+                return intMappingValues[j];
+            }
         }
         return exp;
     }
@@ -0,0 +1,606 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.parser;
+
+import com.cronutils.model.field.constraint.FieldConstraints;
+import com.cronutils.model.field.expression.And;
+import com.cronutils.model.field.expression.Between;
+import com.cronutils.model.field.expression.Every;
+import com.cronutils.model.field.expression.FieldExpression;
+import com.cronutils.model.field.expression.On;
+import com.cronutils.model.field.value.FieldValue;
+import com.cronutils.model.field.value.IntegerFieldValue;
+import com.cronutils.model.field.value.SpecialChar;
+import com.cronutils.model.field.value.SpecialCharFieldValue;
+
+import static com.cronutils.model.field.expression.FieldExpression.always;
+import static com.cronutils.model.field.expression.FieldExpression.questionMark;
+
+/**
+ * Single pass, character level scanner for a cron field.
+ * It reads the field region in place and builds the FieldExpression tree directly, without substrings nor regular expressions.
+ * On malformed fields it stops, keeping the position of the offending character and the kind of error, see {@link #getError()}.
+ * The same grammar is used to check fields without building them: see {@link #check()}.
+ */
+final class FieldScanner {
+    /**
+     * Field is well formed and valid for the field constraints.
+     */
+    static final int VALID = 0;
+    /**
+     * Field is a single question mark.
+     */
+    static final int QUESTION_MARK = 1;
+    /**
+     * Field is well formed, but some value is not valid for the field constraints.
+     */
+    static final int INVALID = 2;
+    /**
+     * Field is malformed, or holds values field validation checks through their text.
+     */
+    static final int UNREAD = 3;
+
+    private static final int NO_VALUE = Integer.MIN_VALUE;
+    private static final String OORANGE = "Value %s not in range [%s, %s]";
+    private static final SpecialChar[] SPECIAL_CHARS = SpecialChar.values();
+
+    private static final int INVALID_CHARS = 1;
+    private static final int INVALID_EXPRESSION = 2;
+    private static final int MISSING_STEPS = 3;
+    private static final int MISSING_RANGE_VALUES = 4;
+    private static final int NEGATIVE_RANGE = 5;
+    private static final int HASH_POSITION = 6;
+    private static final int HASH_TIME = 7;
+
+    private FieldParser parser;
+    private String input;
+    private int end;
+    private boolean ignoreCase;
+    private int position;
+    private int elementStart;
+    private boolean failed;
+    private boolean checking;
+    private String violation;
+    private int violationPosition;
+    private int error;
+    private int errorStart;
+    private int errorEnd;
+    private int errorElementStart;
+
+    /**
+     * Creates a scanner to be pointed at fields with {@link #reset(FieldParser, String, int, int, boolean)}.
+     */
+    FieldScanner() {
+    }
+
+    /**
+     * @param parser     - FieldParser providing field constraints and mappings
+     * @param input      - string holding the field
+     * @param start      - index of the first char of the field
+     * @param end        - index after the last char of the field
+     * @param ignoreCase - if letters should be read as upper case ones
+     */
+    FieldScanner(final FieldParser parser, final String input, final int start, final int end, final boolean ignoreCase) {
+        reset(parser, input, start, end, ignoreCase);
+    }
+
+    /**
+     * Points this scanner at another field, so that a single instance may check many of them.
+     *
+     * @param parser     - FieldParser providing field constraints and mappings
+     * @param input      - string holding the field
+     * @param start      - index of the first char of the field
+     * @param end        - index after the last char of the field
+     * @param ignoreCase - if letters should be read as upper case ones
+     */
+    void reset(final FieldParser parser, final String input, final int start, final int end, final boolean ignoreCase) {
+        this.parser = parser;
+        this.input = input;
+        this.end = end;
+        this.ignoreCase = ignoreCase;
+        this.position = start;
+        this.elementStart = start;
+        this.failed = false;
+        this.checking = false;
+        this.violation = null;
+        this.violationPosition = start;
+        this.error = 0;
+    }
+
+    /**
+     * Reads the field as {@link #scan()} does, applying the checks field validation performs on the expression it would build,
+     * but without building it. Nothing is allocated unless the field is invalid.
+     *
+     * @return VALID, QUESTION_MARK, INVALID (see {@link #getViolation()}) or UNREAD:
+     *     then it should be parsed and validated as usual, to tell if it is valid.
+     */
+    int check() {
+        checking = true;
+        final FieldExpression expression = scan();
+        if (expression == null) {
+            return UNREAD;
+        }
+        if (violation != null) {
+            return INVALID;
+        }
+        return expression == questionMark() ? QUESTION_MARK : VALID;
+    }
+
+    /**
+     * @return FieldExpression instance, or null if the field is malformed: see {@link #getError()}.
+     */
+    FieldExpression scan() {
+        final FieldExpression first = element();
+        if (failed || position == end) {
+            return failed ? null : first;
+        }
+        final And and = checking ? null : new And().and(first);
+        while (!failed && position < end) {
+            // elements end at a comma
+            position++;
+            final FieldExpression next = element();
+            if (next != null && and != null) {
+                and.and(next);
+            }
+        }
+        if (failed) {
+            return null;
+        }
+        // when checking, any non null expression but a question mark stands for a field read to its end
+        return checking ? always() : and;
+    }
+
+    /**
+     * @return index of the char where scanning stopped.
+     */
+    int getPosition() {
+        return position;
+    }
+
+    /**
+     * @return description of why the last scanned field is malformed, or null if it is not.
+     */
+    String getError() {
+        if (error == 0) {
+            return null;
+        }
+        final String text = text(errorStart, errorEnd);
+        switch (error) {
+            case INVALID_CHARS:
+                final String invalidChars = parser.invalidChars(text.toUpperCase());
+                if (invalidChars.isEmpty()) {
+                    // chars are misplaced rather than invalid
+                    return "Invalid expression: " + text(errorElementStart, elementEnd(errorElementStart));
+                }
+                return String.format("Invalid chars in expression! Expression: %s Invalid chars: %s", text, invalidChars);
+            case MISSING_STEPS:
+                return "Missing steps for expression: " + text;
+            case MISSING_RANGE_VALUES:
+                return "Missing values for range: " + text;
+            case NEGATIVE_RANGE:
+                return String.format("Invalid expression! Expression: %s does not describe a range. Negative numbers are not allowed.", text);
+            case HASH_POSITION:
+                return "Invalid Position of # Character!";
+            case HASH_TIME:
+                return "Time should be specified!";
+            default:
+                return "Invalid expression: " + text;
+        }
+    }
+
+    /**
+     * @return description of the constraint the last checked field violates, or null if none.
+     */
+    String getViolation() {
+        return violation;
+    }
+
+    /**
+     * @return index of the first char of the element holding the violation.
+     */
+    int getViolationPosition() {
+        return violationPosition;
+    }
+
+    private FieldExpression element() {
+        elementStart = position;
+        if (isElementEnd()) {
+            return invalidChars(position);
+        }
+        final char c = input.charAt(position);
+        if (c == '*') {
+            position++;
+            if (isElementEnd()) {
+                return always();
+            }
+            if (input.charAt(position) != '/') {
+                return invalidChars(elementStart);
+            }
+            position++;
+            final int stepStart = position;
+            final int step = step();
+            if (step == NO_VALUE) {
+                return null;
+            }
+            // '*/1' means always, while other spellings of one are kept as a period
+            return position - stepStart == 1 && step == 1 ? always() : every(always(), step);
+        }
+        if (c == '?') {
+            if (!parser.supports(SpecialChar.QUESTION_MARK)) {
+                return invalidElement(INVALID_EXPRESSION);
+            }
+            position++;
+            return isElementEnd() ? questionMark() : invalidChars(elementStart);
+        }
+        if (c == '/') {
+            position++;
+            final int step = step();
+            return step == NO_VALUE ? null : every(always(), step);
+        }
+        if (c == '#') {
+            if (!parser.supports(SpecialChar.HASH)) {
+                return invalidElement(INVALID_EXPRESSION);
+            }
+            position++;
+            return invalidElement(isElementEnd() ? HASH_POSITION : HASH_TIME);
+        }
+        if (c == '-') {
+            position++;
+            return invalidElement(isElementEnd() ? MISSING_RANGE_VALUES : NEGATIVE_RANGE);
+        }
+        if (isLetter(c) && upperCase(c) == 'L') {
+            final FieldExpression last = last();
+            if (last != null || failed) {
+                return last;
+            }
+        }
+        final int name = parser.nameAt(input, position, end, ignoreCase);
+        if (name >= 0) {
+            position += parser.nameLength(name);
+            return afterValue(parser.nameValue(name), true);
+        }
+        if (isDigit(c)) {
+            final int value = digits();
+            if (value == NO_VALUE) {
+                return null;
+            }
+            if (!isElementEnd() && isLetter(input.charAt(position))) {
+                // nL and nW
+                final char letter = upperCase(input.charAt(position));
+                position++;
+                if (!isElementEnd() || (letter != 'L' && letter != 'W')) {
+                    return invalidChars(elementStart);
+                }
+                return on(parser.mapInt(value), letter == 'L' ? SpecialChar.L : SpecialChar.W, -1);
+            }
+            return afterValue(value, false);
+        }
+        final int special = specialChar();
+        if (special != NO_VALUE && position < end && input.charAt(position) == '-') {
+            return afterValue(special, true);
+        }
+        return invalidChars(elementStart);
+    }
+
+    /**
+     * Reads L, L-n and LW elements.
+     *
+     * @return FieldExpression instance, or null if the element is not one of them or is malformed: then failed is set.
+     */
+    private FieldExpression last() {
+        final int next = position + 1;
+        if (next == end || input.charAt(next) == ',') {
+            position = next;
+            return on(-1, SpecialChar.L, -1);
+        }
+        if (input.charAt(next) == '-') {
+            position = next + 1;
+            final int valueStart = position;
+            final int daysBefore = mappedValue();
+            if (daysBefore == NO_VALUE) {
+                return failed ? null : missingValue(valueStart, MISSING_RANGE_VALUES);
+            }
+            return isElementEnd() ? on(-1, SpecialChar.L, daysBefore) : unexpected(valueStart);
+        }
+        if (upperCase(input.charAt(next)) == 'W' && (next + 1 == end || input.charAt(next + 1) == ',')) {
+            position = next + 1;
+            return on(-1, SpecialChar.LW, -1);
+        }
+        return null;
+    }
+
+    /**
+     * Continues an element after its first value.
+     *
+     * @param value  - value read, mapped from its name if any, but not through int mappings
+     * @param isName - if the value was written as a name or a special char
+     */
+    private FieldExpression afterValue(final int value, final boolean isName) {
+        if (isElementEnd()) {
+            return on(parser.mapInt(value), SpecialChar.NONE, -1);
+        }
+        final char c = input.charAt(position);
+        if (c == '#') {
+            if (!parser.supports(SpecialChar.HASH)) {
+                return invalidElement(INVALID_EXPRESSION);
+            }
+            position++;
+            final int nthStart = position;
+            final int nth = mappedValue();
+            if (nth == NO_VALUE) {
+                return failed ? null : missingValue(nthStart, HASH_POSITION);
+            }
+            return isElementEnd() ? on(parser.mapInt(value), SpecialChar.HASH, nth) : unexpected(nthStart);
+        }
+        if (c == '-') {
+            position++;
+            final int toStart = position;
+            int to = value();
+            if (to == NO_VALUE && !failed) {
+                to = specialChar();
+            }
+            if (to == NO_VALUE) {
+                return failed ? null : missingValue(toStart, MISSING_RANGE_VALUES);
+            }
+            // ranges keep values as written: int mappings are not applied
+            if (isElementEnd()) {
+                return between(value, to);
+            }
+            if (input.charAt(position) != '/') {
+                return unexpected(toStart);
+            }
+            position++;
+            final int stepStart = position;
+            final int step = mappedValue();
+            if (step == NO_VALUE) {
+                return failed ? null : missingValue(stepStart, MISSING_STEPS);
+            }
+            return isElementEnd() ? every(between(value, to), step) : unexpected(stepStart);
+        }
+        if (c == '/' && !isName) {
+            position++;
+            final int step = step();
+            return step == NO_VALUE ? null : every(on(value, SpecialChar.NONE, -1), step);
+        }
+        return invalidChars(elementStart);
+    }
+
+    private FieldExpression on(final int time, final SpecialChar specialChar, final int nth) {
+        if (!checking) {
+            return new On(new IntegerFieldValue(time), new SpecialCharFieldValue(specialChar), new IntegerFieldValue(nth));
+        }
+        if (specialChar != SpecialChar.NONE && !parser.supports(specialChar)) {
+            // reported as invalid chars by field validation
+            return unread();
+        }
+        if (time != -1) {
+            checkRange(time);
+        }
+        if (nth != -1) {
+            checkRange(nth);
+        }
+        return always();
+    }
+
+    private FieldExpression between(final int from, final int to) {
+        if (!checking) {
+            return new Between(fieldValue(from), fieldValue(to));
+        }
+        if (isSpecialChar(from) || isSpecialChar(to)) {
+            // field validation checks them through the text of the range
+            return unread();
+        }
+        checkRange(from);
+        checkRange(to);
+        if (parser.getConstraints().isStrictRange() && from > to) {
+            violation(String.format("Invalid range! [%s,%s]", from, to));
+        }
+        return always();
+    }
+
+    private FieldExpression every(final FieldExpression expression, final int period) {
+        if (!checking) {
+            return new Every(expression, new IntegerFieldValue(period));
+        }
+        final FieldConstraints constraints = parser.getConstraints();
+        if (!constraints.isPeriodInRange(period)) {
+            violation(String.format("Period %s not in range [%s, %s]", period, constraints.getStartRange(), constraints.getEndRange()));
+        }
+        return always();
+    }
+
+    private void checkRange(final int value) {
+        final FieldConstraints constraints = parser.getConstraints();
+        if (!constraints.isInRange(value)) {
+            violation(String.format(OORANGE, value, constraints.getStartRange(), constraints.getEndRange()));
+        }
+    }
+
+    /**
+     * Keeps the first violation found; the field is still read to the end, since malformed fields are reported as such.
+     */
+    private void violation(final String description) {
+        if (violation == null) {
+            violation = description;
+            violationPosition = elementStart;
+        }
+    }
+
+    /**
+     * @return step written as digits, or NO_VALUE if it is missing or malformed
+     */
+    private int step() {
+        final int stepStart = position;
+        final int step = digits();
+        if (step == NO_VALUE) {
+            if (!failed) {
+                missingValue(stepStart, MISSING_STEPS);
+            }
+            return NO_VALUE;
+        }
+        if (!isElementEnd()) {
+            unexpected(stepStart);
+            return NO_VALUE;
+        }
+        return step;
+    }
+
+    /**
+     * @return value written as digits or as a name, or NO_VALUE
+     */
+    private int value() {
+        final int name = parser.nameAt(input, position, end, ignoreCase);
+        if (name >= 0) {
+            position += parser.nameLength(name);
+            return parser.nameValue(name);
+        }
+        return digits();
+    }
+
+    /**
+     * @return value written as digits or as a name, through int mappings; or NO_VALUE
+     */
+    private int mappedValue() {
+        final int value = value();
+        return value == NO_VALUE ? NO_VALUE : parser.mapInt(value);
+    }
+
+    /**
+     * @return special char written by its name, followed by a delimiter, encoded as a negative value; or NO_VALUE
+     */
+    private int specialChar() {
+        for (final SpecialChar specialChar : SPECIAL_CHARS) {
+            final String name = specialChar.name();
+            final int nameEnd = position + name.length();
+            if (nameEnd <= end && name.regionMatches(ignoreCase, 0, input, position, name.length())
+                    && (nameEnd == end || FieldParser.isDelimiter(input.charAt(nameEnd)))) {
+                position = nameEnd;
+                return -2 - specialChar.ordinal();
+            }
+        }
+        return NO_VALUE;
+    }
+
+    private static boolean isSpecialChar(final int value) {
+        return value < -1 && value != NO_VALUE;
+    }
+
+    private static FieldValue<?> fieldValue(final int value) {
+        return isSpecialChar(value) ? new SpecialCharFieldValue(SPECIAL_CHARS[-2 - value]) : new IntegerFieldValue(value);
+    }
+
+    /**
+     * @return value written as digits, or NO_VALUE if there are none or if they do not fit an int: then failed is set
+     */
+    private int digits() {
+        final int digitsStart = position;
+        long value = 0;
+        while (position < end && isDigit(input.charAt(position))) {
+            value = Math.min(value * 10 + input.charAt(position) - '0', Integer.MAX_VALUE + 1L);
+            position++;
+        }
+        if (position == digitsStart) {
+            return NO_VALUE;
+        }
+        if (value > Integer.MAX_VALUE) {
+            invalidChars(digitsStart);
+            return NO_VALUE;
+        }
+        return (int) value;
+    }
+
+    private boolean isElementEnd() {
+        return position == end || input.charAt(position) == ',';
+    }
+
+    /**
+     * Reports a missing value: the given error if the element ends there, invalid chars otherwise.
+     */
+    private FieldExpression missingValue(final int valueStart, final int missing) {
+        if (isElementEnd() || (missing == MISSING_RANGE_VALUES && input.charAt(position) == '-')) {
+            return invalidElement(missing);
+        }
+        return invalidChars(valueStart);
+    }
+
+    /**
+     * Reports a char found where the element should end.
+     */
+    private FieldExpression unexpected(final int tokenStart) {
+        final char c = input.charAt(position);
+        if (c == '/' || c == '#') {
+            return invalidElement(INVALID_EXPRESSION);
+        }
+        if (c == '-') {
+            return invalidElement(MISSING_RANGE_VALUES);
+        }
+        return invalidChars(tokenStart);
+    }
+
+    /**
+     * Reports the chars from given index to the next delimiter as invalid.
+     */
+    private FieldExpression invalidChars(final int tokenStart) {
+        int tokenEnd = tokenStart;
+        while (tokenEnd < end && !FieldParser.isDelimiter(input.charAt(tokenEnd))) {
+            tokenEnd++;
+        }
+        return fail(INVALID_CHARS, tokenStart, tokenEnd);
+    }
+
+    /**
+     * Reports the whole current element as malformed.
+     */
+    private FieldExpression invalidElement(final int kind) {
+        return fail(kind, elementStart, elementEnd(elementStart));
+    }
+
+    private FieldExpression fail(final int kind, final int start, final int tokenEnd) {
+        failed = true;
+        error = kind;
+        errorStart = start;
+        errorEnd = tokenEnd;
+        errorElementStart = elementStart;
+        return null;
+    }
+
+    private int elementEnd(final int start) {
+        int elementEnd = start;
+        while (elementEnd < end && input.charAt(elementEnd) != ',') {
+            elementEnd++;
+        }
+        return elementEnd;
+    }
+
+    private String text(final int start, final int textEnd) {
+        final String text = input.substring(start, textEnd);
+        return ignoreCase ? text.toUpperCase() : text;
+    }
+
+    private FieldExpression unread() {
+        return fail(INVALID_EXPRESSION, elementStart, elementStart);
+    }
+
+    private boolean isLetter(final char c) {
+        return (c >= 'A' && c <= 'Z') || (ignoreCase && c >= 'a' && c <= 'z');
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static char upperCase(final char c) {
+        return c >= 'a' && c <= 'z' ? (char) (c - 'a' + 'A') : c;
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.scheduler;
+
+import com.cronutils.model.Cron;
+import com.cronutils.model.time.ExecutionTime;
+import com.cronutils.utils.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+/**
+ * Fires tasks at the executions of their crons.
+ * Registrations are kept in a hierarchical timing wheel, so that registering, cancelling and firing take constant time
+ * regardless of the number of registrations; fire times are computed in batches through the execution engine.
+ * A single scheduler thread keeps time and hands due tasks over to the given Executor, which runs them:
+ * any Executor can be used, including one creating a virtual thread per task.
+ *
+ * <p>Crons are evaluated in the zone of the scheduler clock. If the scheduler falls behind, e.g. after the system was
+ * suspended, each late task is fired once and then follows its cron from the current time on.
+ */
+public class CronScheduler implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CronScheduler.class);
+    private static final long MILLIS_PER_SECOND = 1000;
+
+    private final Executor executor;
+    private final Clock clock;
+    private final ZoneId zone;
+    private final Object lock = new Object();
+    private final TimingWheel wheel;
+    private Thread thread;
+    private boolean running;
+    private long wakeUpTick = Long.MAX_VALUE;
+
+    /**
+     * @param executor - executor running fired tasks, never null
+     */
+    public CronScheduler(final Executor executor) {
+        this(executor, Clock.systemDefaultZone());
+    }
+
+    /**
+     * @param executor - executor running fired tasks, never null
+     * @param clock    - clock providing current time, and the zone crons are evaluated in; never null
+     */
+    public CronScheduler(final Executor executor, final Clock clock) {
+        this.executor = Preconditions.checkNotNull(executor, "Executor must not be null");
+        this.clock = Preconditions.checkNotNull(clock, "Clock must not be null");
+        this.zone = clock.getZone();
+        this.wheel = new TimingWheel(clock.instant().getEpochSecond() + 1);
+    }
+
+    /**
+     * Registers a task, fired at each execution of the cron after current time.
+     *
+     * @param cron - cron, never null
+     * @param task - task to be run, never null
+     * @return registration, that may be used to cancel it; never null.
+     */
+    public ScheduledCron schedule(final Cron cron, final Runnable task) {
+        Preconditions.checkNotNull(cron, "Cron must not be null");
+        Preconditions.checkNotNull(task, "Task must not be null");
+        final ScheduledCron scheduled = new ScheduledCron(this, cron, task);
+        // fire times are computed before taking the lock, and only looked up again if the wheel moved past them
+        long deadline = scheduled.nextFireTime(clock.instant().getEpochSecond(), zone);
+        synchronized (lock) {
+            if (deadline != ExecutionTime.NO_EXECUTION && deadline < wheel.currentTick()) {
+                deadline = scheduled.nextFireTime(wheel.currentTick() - 1, zone);
+            }
+            if (deadline != ExecutionTime.NO_EXECUTION) {
+                scheduled.deadline = deadline;
+                wheel.add(scheduled);
+                if (deadline < wakeUpTick) {
+                    lock.notifyAll();
+                }
+            }
+        }
+        return scheduled;
+    }
+
+    /**
+     * Starts the scheduler thread. Tasks are not fired before the scheduler is started.
+     */
+    public void start() {
+        synchronized (lock) {
+            Preconditions.checkState(thread == null, "Scheduler already started");
+            running = true;
+            thread = new Thread(this::run, "cron-scheduler");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Stops the scheduler thread. Tasks already handed over to the executor are not affected.
+     */
+    public void shutdown() {
+        synchronized (lock) {
+            running = false;
+            lock.notifyAll();
+        }
+    }
+
+    @Override
+    public void close() {
+        shutdown();
+    }
+
+    public boolean isRunning() {
+        synchronized (lock) {
+            return running;
+        }
+    }
+
+    /**
+     * @return number of registrations waiting for their next fire time.
+     */
+    public int size() {
+        synchronized (lock) {
+            return wheel.size();
+        }
+    }
+
+    /**
+     * Fires all tasks due up to the given time, included.
+     *
+     * @param epochSecond - current time, as epoch second
+     */
+    void advanceTo(final long epochSecond) {
+        final List<ScheduledCron> due = new ArrayList<>();
+        synchronized (lock) {
+            wheel.advance(epochSecond, scheduled -> {
+                due.add(scheduled);
+                final long next = scheduled.nextFireTime(Math.max(scheduled.deadline, epochSecond), zone);
+                if (next != ExecutionTime.NO_EXECUTION) {
+                    scheduled.deadline = next;
+                    wheel.add(scheduled);
+                }
+            });
+        }
+        for (final ScheduledCron scheduled : due) {
+            fire(scheduled);
+        }
+    }
+
+    Optional<ZonedDateTime> nextExecution(final ScheduledCron scheduled) {
+        synchronized (lock) {
+            if (scheduled.level == TimingWheel.NOT_SCHEDULED) {
+                return Optional.empty();
+            }
+            return Optional.of(ZonedDateTime.ofInstant(Instant.ofEpochSecond(scheduled.deadline), zone));
+        }
+    }
+
+    boolean cancel(final ScheduledCron scheduled) {
+        synchronized (lock) {
+            if (scheduled.isCancelled()) {
+                return false;
+            }
+            scheduled.markCancelled();
+            wheel.remove(scheduled);
+            return true;
+        }
+    }
+
+    private void fire(final ScheduledCron scheduled) {
+        if (scheduled.isCancelled()) {
+            return;
+        }
+        try {
+            executor.execute(scheduled.getTask());
+        } catch (final RuntimeException e) {
+            LOGGER.warn("Failed to fire task for cron '{}'", scheduled.getCron().asString(), e);
+        }
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                advanceTo(clock.instant().getEpochSecond());
+                synchronized (lock) {
+                    if (!running) {
+                        return;
+                    }
+                    wakeUpTick = wheel.nextEventTick();
+                    if (wakeUpTick == Long.MAX_VALUE) {
+                        lock.wait();
+                    } else {
+                        final long delay = wakeUpTick * MILLIS_PER_SECOND - clock.millis();
+                        if (delay > 0) {
+                            lock.wait(delay);
+                        }
+                    }
+                    wakeUpTick = Long.MAX_VALUE;
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            synchronized (lock) {
+                running = false;
+                thread = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.scheduler;
+
+import com.cronutils.model.Cron;
+import com.cronutils.model.time.ExecutionTime;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+/**
+ * Registration of a task in a CronScheduler. Upcoming fire times are computed in batches and kept until consumed.
+ */
+public final class ScheduledCron {
+    static final int BATCH_SIZE = 16;
+
+    private final CronScheduler scheduler;
+    private final Cron cron;
+    private final ExecutionTime executionTime;
+    private final Runnable task;
+    private final long[] upcoming = new long[BATCH_SIZE];
+    private int upcomingIndex;
+    private int upcomingSize;
+    private volatile boolean cancelled;
+
+    // timing wheel state, guarded by the scheduler
+    long deadline;
+    ScheduledCron prev;
+    ScheduledCron next;
+    int level = TimingWheel.NOT_SCHEDULED;
+    int slot;
+
+    ScheduledCron(final CronScheduler scheduler, final Cron cron, final Runnable task) {
+        this.scheduler = scheduler;
+        this.cron = cron;
+        this.executionTime = cron.executionTime();
+        this.task = task;
+    }
+
+    public Cron getCron() {
+        return cron;
+    }
+
+    Runnable getTask() {
+        return task;
+    }
+
+    /**
+     * @return next time the task will be fired, or empty if the registration is cancelled or the cron has no more executions.
+     */
+    public Optional<ZonedDateTime> getNextExecution() {
+        return scheduler.nextExecution(this);
+    }
+
+    /**
+     * Stops firing the task. Runs of the task already dispatched are not interrupted.
+     *
+     * @return true if the registration was cancelled by this call.
+     */
+    public boolean cancel() {
+        return scheduler.cancel(this);
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    void markCancelled() {
+        cancelled = true;
+    }
+
+    /**
+     * Provides the first fire time after the given epoch second, computing a new batch of fire times when needed.
+     *
+     * @param epochSecond - reference epoch second, excluded
+     * @param zone        - zone the cron is evaluated in
+     * @return epoch second of the next fire time, or ExecutionTime.NO_EXECUTION
+     */
+    long nextFireTime(final long epochSecond, final ZoneId zone) {
+        while (upcomingIndex < upcomingSize && upcoming[upcomingIndex] <= epochSecond) {
+            upcomingIndex++;
+        }
+        if (upcomingIndex == upcomingSize) {
+            upcomingIndex = 0;
+            upcomingSize = 0;
+            long last = epochSecond;
+            while (upcomingSize < BATCH_SIZE) {
+                last = executionTime.nextExecutionEpochSecond(last, zone);
+                if (last == ExecutionTime.NO_EXECUTION) {
+                    break;
+                }
+                upcoming[upcomingSize++] = last;
+            }
+            if (upcomingSize == 0) {
+                return ExecutionTime.NO_EXECUTION;
+            }
+        }
+        return upcoming[upcomingIndex++];
+    }
+
+    @Override
+    public String toString() {
+        return "ScheduledCron{" + "cron=" + cron.asString() + ", cancelled=" + cancelled + '}';
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.scheduler;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel with one second ticks.
+ * Level l has 64 slots of 64^l seconds each; an entry is kept at the lowest level whose slot holds its deadline given
+ * the current tick, and is moved to lower levels when that slot is reached. Deadlines beyond the last level are kept
+ * in an overflow list. Occupied slots are tracked in a bitmap per level, so that empty ticks are skipped without
+ * being visited. Adding and removing entries take constant time. Instances are not thread safe.
+ */
+final class TimingWheel {
+    static final int NOT_SCHEDULED = -1;
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int LEVELS = 6;
+    private static final int OVERFLOW = LEVELS;
+    private static final int OVERFLOW_BITS = BITS * LEVELS;
+
+    private final ScheduledCron[][] slots = new ScheduledCron[LEVELS][SLOTS];
+    private final long[] occupied = new long[LEVELS];
+    private ScheduledCron overflow;
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param currentTick - first tick to be processed, as epoch second
+     */
+    TimingWheel(final long currentTick) {
+        this.currentTick = currentTick;
+    }
+
+    /**
+     * @return first tick not yet processed, as epoch second.
+     */
+    long currentTick() {
+        return currentTick;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds an entry. Deadlines already processed are moved to the current tick.
+     *
+     * @param entry - entry with its deadline set, not already in the wheel
+     */
+    void add(final ScheduledCron entry) {
+        if (entry.deadline < currentTick) {
+            entry.deadline = currentTick;
+        }
+        final long differentBits = entry.deadline ^ currentTick;
+        final int level = differentBits < SLOTS ? 0 : (Long.SIZE - 1 - Long.numberOfLeadingZeros(differentBits)) / BITS;
+        if (level >= LEVELS) {
+            entry.level = OVERFLOW;
+            overflow = link(entry, overflow);
+        } else {
+            final int slot = (int) (entry.deadline >>> (BITS * level)) & (SLOTS - 1);
+            entry.level = level;
+            entry.slot = slot;
+            slots[level][slot] = link(entry, slots[level][slot]);
+            occupied[level] |= 1L << slot;
+        }
+        size++;
+    }
+
+    /**
+     * @param entry - entry to be removed
+     * @return true if the entry was in the wheel.
+     */
+    boolean remove(final ScheduledCron entry) {
+        if (entry.level == NOT_SCHEDULED) {
+            return false;
+        }
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else if (entry.level == OVERFLOW) {
+            overflow = entry.next;
+        } else {
+            slots[entry.level][entry.slot] = entry.next;
+            if (entry.next == null) {
+                occupied[entry.level] &= ~(1L << entry.slot);
+            }
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+        entry.level = NOT_SCHEDULED;
+        size--;
+        return true;
+    }
+
+    /**
+     * @return first tick at which entries expire or move between levels, as epoch second; Long.MAX_VALUE if the wheel is empty.
+     */
+    long nextEventTick() {
+        long next = overflow == null ? Long.MAX_VALUE : ((currentTick >>> OVERFLOW_BITS) + 1) << OVERFLOW_BITS;
+        for (int level = 0; level < LEVELS; level++) {
+            final int shift = BITS * level;
+            final long pending = occupied[level] & (-1L << ((currentTick >>> shift) & (SLOTS - 1)));
+            if (pending != 0) {
+                final long rotation = currentTick >>> (shift + BITS) << (shift + BITS);
+                next = Math.min(next, rotation | ((long) Long.numberOfTrailingZeros(pending) << shift));
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Processes all ticks up to the given one, included.
+     *
+     * @param tick    - last tick to be processed, as epoch second
+     * @param expired - receives expired entries, already removed from the wheel; it may add entries back.
+     */
+    void advance(final long tick, final Consumer<ScheduledCron> expired) {
+        long event = nextEventTick();
+        while (event <= tick) {
+            currentTick = event;
+            if (overflow != null && (event & ((1L << OVERFLOW_BITS) - 1)) == 0) {
+                cascade(detach(OVERFLOW, 0));
+            }
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((event & ((1L << (BITS * level)) - 1)) == 0) {
+                    cascade(detach(level, (int) (event >>> (BITS * level)) & (SLOTS - 1)));
+                }
+            }
+            ScheduledCron entry = detach(0, (int) event & (SLOTS - 1));
+            currentTick = event + 1;
+            while (entry != null) {
+                final ScheduledCron next = entry.next;
+                entry.next = null;
+                expired.accept(entry);
+                entry = next;
+            }
+            event = nextEventTick();
+        }
+        currentTick = Math.max(currentTick, tick + 1);
+    }
+
+    private void cascade(ScheduledCron entry) {
+        while (entry != null) {
+            final ScheduledCron next = entry.next;
+            entry.next = null;
+            add(entry);
+            entry = next;
+        }
+    }
+
+    /**
+     * Unlinks all entries of a slot.
+     *
+     * @return first entry of the slot; entries are chained through their next field.
+     */
+    private ScheduledCron detach(final int level, final int slot) {
+        final ScheduledCron first;
+        if (level == OVERFLOW) {
+            first = overflow;
+            overflow = null;
+        } else {
+            first = slots[level][slot];
+            slots[level][slot] = null;
+            occupied[level] &= ~(1L << slot);
+        }
+        for (ScheduledCron entry = first; entry != null; entry = entry.next) {
+            entry.prev = null;
+            entry.level = NOT_SCHEDULED;
+            size--;
+        }
+        return first;
+    }
+
+    private static ScheduledCron link(final ScheduledCron entry, final ScheduledCron head) {
+        entry.prev = null;
+        entry.next = head;
+        if (head != null) {
+            head.prev = entry;
+        }
+        return entry;
+    }
+}
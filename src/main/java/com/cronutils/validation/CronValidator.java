@@ -1,9 +1,8 @@
 package com.cronutils.validation;
 
 import com.cronutils.model.CronType;
-import com.cronutils.model.definition.CronDefinition;
-import com.cronutils.model.definition.CronDefinitionBuilder;
 import com.cronutils.parser.CronParser;
+import com.cronutils.parser.CronValidationResult;
 
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
@@ -23,15 +22,12 @@ public class CronValidator implements ConstraintValidator<Cron, String> {
             return true;
         }
 
-        CronDefinition cronDefinition = CronDefinitionBuilder.instanceDefinitionFor(type);
-        CronParser cronParser = new CronParser(cronDefinition);
-        try {
-            cronParser.parse(value).validate();
+        CronValidationResult result = CronParser.instanceFor(type).validate(value);
+        if (result.isValid()) {
             return true;
-        } catch (IllegalArgumentException e) {
-            context.disableDefaultConstraintViolation();
-            context.buildConstraintViolationWithTemplate(e.getMessage()).addConstraintViolation();
-            return false;
         }
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(result.getReason()).addConstraintViolation();
+        return false;
     }
 }
@@ -140,4 +140,13 @@ public class CompositeCronTest {
         Cron cron = parser.parse(multicron);
         assertEquals(multicron.replaceAll("MON", "2"), cron.asString());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testExecutionTimeIsBuiltOnce(){
+        ExecutionTime executionTime = cron1.executionTime();
+        assertSame(executionTime, cron1.executionTime());
+        assertSame(((CompositeCron) cron1).getCrons().get(1).executionTime(), ((CompositeCron) cron2).getCrons().get(0).executionTime());
+        assertEquals(ExecutionTime.forCron(cron1).nextExecution(ZonedDateTime.of(2015, 1, 1, 0, 0, 0, 0, UTC)),
+                executionTime.nextExecution(ZonedDateTime.of(2015, 1, 1, 0, 0, 0, 0, UTC)));
+    }
+}
@@ -19,6 +19,7 @@ import com.cronutils.model.definition.CronDefinitionBuilder;
 import com.cronutils.model.field.CronField;
 import com.cronutils.model.field.CronFieldName;
 import com.cronutils.model.field.expression.FieldExpression;
+import com.cronutils.model.time.ExecutionTime;
 import com.cronutils.parser.CronParser;
 import org.junit.Before;
 import org.junit.Test;
@@ -26,6 +27,8 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.io.*;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.List;
 
@@ -138,4 +141,20 @@ public class CronTest {
         }
     }
 
+    @Test
+    public void testExecutionTimeIsBuiltOnce() throws Exception {
+        final Cron cron = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX)).parse("0 6 * * MON-FRI");
+        final ExecutionTime executionTime = cron.executionTime();
+        assertSame(executionTime, cron.executionTime());
+
+        final ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        try (ObjectOutputStream objOut = new ObjectOutputStream(byteOut)) {
+            objOut.writeObject(cron);
+        }
+        try (ObjectInputStream objIn = new ObjectInputStream(new ByteArrayInputStream(byteOut.toByteArray()))) {
+            final Cron actual = (Cron) objIn.readObject();
+            final ZonedDateTime date = ZonedDateTime.of(2021, 6, 4, 7, 0, 0, 0, ZoneOffset.UTC);
+            assertEquals(executionTime.nextExecution(date), actual.executionTime().nextExecution(date));
+        }
+    }
 }
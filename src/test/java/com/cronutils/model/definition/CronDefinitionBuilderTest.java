@@ -30,6 +30,7 @@ import java.util.Set;
 import static com.cronutils.model.field.expression.FieldExpressionFactory.*;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 
 public class CronDefinitionBuilderTest {
 
@@ -202,4 +203,11 @@ public class CronDefinitionBuilderTest {
 
         assertEquals("* 0/5 * * * ?", result);
     }
+
+    @Test
+    public void testDefinitionsForCronTypeAreShared() {
+        for (final CronType cronType : CronType.values()) {
+            assertSame(CronDefinitionBuilder.instanceDefinitionFor(cronType), CronDefinitionBuilder.instanceDefinitionFor(cronType));
+        }
+    }
 }
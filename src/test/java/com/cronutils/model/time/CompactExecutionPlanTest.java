@@ -0,0 +1,108 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.TestCronDefinitionsFactory;
+import com.cronutils.parser.CronParser;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CompactExecutionPlanTest {
+    private static final ZonedDateTime START = ZonedDateTime.of(2021, 3, 13, 12, 7, 13, 0, ZoneId.of("America/New_York"));
+    private static final ZonedDateTime END = START.plusYears(6);
+    private final CronParser quartz = CronParser.instanceFor(CronType.QUARTZ);
+    private final CronParser unix = CronParser.instanceFor(CronType.UNIX);
+
+    @Test
+    public void testCompactPlanMatchesCompiledExecutionTime() {
+        final String[] expressions = {
+            "0 0 12 * * ?", "15 */20 3-5 ? * MON-FRI", "0 0 12 L * ?", "0 0 12 L-3 * ?", "0 0 12 LW * ?", "0 0 12 15W * ?",
+            "0 0 12 ? * 6#3", "0 0 12 ? * 5L", "0 0 12 29 2 ?", "0 30 1 31 * ?", "0 0 12 1 1 ? 2022,2025,2027", "0 0 12 * * ? 2023-2024",
+            "0 0 0 ? * SUN 2030"
+        };
+        for (final String expression : expressions) {
+            assertSameExecutions(quartz.parse(expression));
+        }
+        assertSameExecutions(unix.parse("*/5 1,13 * * 1-5"));
+        assertSameExecutions(unix.parse("0 9 1,15 * 0"));
+    }
+
+    @Test
+    public void testCompactPlanInDirectBuffer() {
+        final Cron first = unix.parse("*/5 1,13 * * 1-5");
+        final Cron second = quartz.parse("0 0 12 ? * 6#3");
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+        assertEquals(CompactExecutionPlan.encode(first).length, CompactExecutionPlan.encode(first, buffer));
+        final int offset = buffer.position();
+        CompactExecutionPlan.encode(second, buffer);
+        assertEquals(offset, CompactExecutionPlan.size(buffer, 0));
+        assertEquals(buffer.position() - offset, CompactExecutionPlan.size(buffer, offset));
+
+        final ExecutionTime executionTime = CompactExecutionPlan.executionTime(buffer, offset);
+        assertEquals(second.executionTime().nextExecution(START), executionTime.nextExecution(START));
+        assertEquals(second.executionTime().lastExecution(START), executionTime.lastExecution(START));
+    }
+
+    @Test
+    public void testCompactPlanSize() {
+        assertEquals(36, CompactExecutionPlan.encode(unix.parse("*/5 1,13 * * *")).length);
+        assertEquals(48, CompactExecutionPlan.encode(quartz.parse("0 0 12 L * ?")).length);
+        assertEquals(144, CompactExecutionPlan.encode(quartz.parse("0 0 12 ? * 6#3")).length);
+        assertEquals(40, CompactExecutionPlan.encode(quartz.parse("0 0 12 1 1 ? 2022,2025,2027")).length);
+    }
+
+    @Test
+    public void testCompactPlanWithoutMatchingYears() {
+        final ExecutionTime executionTime = CompactExecutionPlan.executionTime(CompactExecutionPlan.encode(quartz.parse("0 0 12 * * ? 2020")));
+        assertFalse(executionTime.nextExecution(START).isPresent());
+        assertTrue(executionTime.lastExecution(START).isPresent());
+        assertFalse(executionTime.lastExecution(START.withYear(2019)).isPresent());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCompositeCronIsRejected() {
+        CompactExecutionPlan.encode(new CompositeCron(Arrays.asList(unix.parse("0 * * * *"), unix.parse("30 * * * *"))));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDayOfYearIsRejected() {
+        CompactExecutionPlan.encode(new CronParser(TestCronDefinitionsFactory.withDayOfYearDefinitionWhereYearAndDoYOptionals()).parse("0 0 0 ? * ? 2017 1/14"));
+    }
+
+    private void assertSameExecutions(final Cron cron) {
+        final ExecutionTime expected = CompiledExecutionTime.forCron(cron);
+        final ExecutionTime actual = CompactExecutionPlan.executionTime(CompactExecutionPlan.encode(cron));
+        for (final String zone : new String[] { "America/New_York", "UTC", "Australia/Lord_Howe" }) {
+            final ZonedDateTime start = START.withZoneSameInstant(ZoneId.of(zone));
+            final ZonedDateTime end = END.withZoneSameInstant(ZoneId.of(zone));
+            assertEquals(cron.asString(), expected.executionsBetween(start, end).limit(500).collect(Collectors.toList()),
+                    actual.executionsBetween(start, end).limit(500).collect(Collectors.toList()));
+            assertEquals(cron.asString(), expected.executionsBefore(end).limit(50).collect(Collectors.toList()),
+                    actual.executionsBefore(end).limit(50).collect(Collectors.toList()));
+            assertEquals(cron.asString(), expected.countExecutions(start, end), actual.countExecutions(start, end));
+        }
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CompiledExecutionTimeTest {
+    private static final String[] QUARTZ = {
+            "* * * * * ?", "0 * * * * ?", "0 0 * * * ?", "0 0 0 * * ?", "*/7 */13 * * * ?", "15,45 5-50/5 9-17 ? * MON-FRI",
+            "0 0 12 1/5 * ?", "0 30 10 L * ?", "0 30 10 L-3 * ?", "0 0 8 LW * ?", "0 0 8 15W * ?", "0 0 0 ? * 6#3",
+            "0 0 0 ? * 2L", "0 0 0 29 2 ?", "0 0 0 31 * ?", "0 15 10 ? * 6L 2020-2030", "0 0/5 14,18 * * ?",
+            "0 0 0 1 1 ? 2023/2", "0 0 6 ? JAN,JUL SUN", "59 59 23 31 12 ?"
+    };
+    private static final String[] UNIX = {
+            "* * * * *", "0 0 * * *", "*/15 9-17 * * 1-5", "0 0 1,15 * 3", "30 4 1 1 *", "0 0 13 * 5", "5 0 * 8 *"
+    };
+    private static final String[] CRON4J = {
+            "* * * * *", "0 5 * * *", "0 0 L * *", "*/10 8-20 * 1,6,12 mon-fri", "0 12 1-7 * sat"
+    };
+    private static final String[] SPRING = {
+            "0 0 * * * *", "*/10 * * * * *", "0 0 8-10 * * *", "0 0/30 8-10 * * *", "0 0 9-17 * * MON-FRI", "0 0 0 25 12 ?"
+    };
+    private static final ZoneId[] ZONES = {ZoneOffset.UTC, ZoneOffset.ofHoursMinutes(5, 30), ZoneId.of("America/New_York"), ZoneId.of("Australia/Lord_Howe")};
+    static final String[] TRANSITION_QUARTZ = {
+            "* * * * * ?", "0 * * * * ?", "0 */20 * * * ?", "0 0 * * * ?", "*/20 * 1-3 * * ?", "0 30 1 * * ?", "0 30 2 * * ?",
+            "0 0 0 * * ?", "0 15 10 ? * MON-FRI", "0 0 12 1/5 * ?"
+    };
+    static final ZoneId[] TRANSITION_ZONES = {ZoneId.of("America/New_York"), ZoneId.of("Europe/London"), ZoneId.of("Australia/Lord_Howe")};
+    private static final int SAMPLES = 40;
+
+    @Test
+    public void testMatchesSingleExecutionTimeQuartz() {
+        assertMatchesSingleExecutionTime(CronType.QUARTZ, QUARTZ);
+    }
+
+    @Test
+    public void testMatchesSingleExecutionTimeUnix() {
+        assertMatchesSingleExecutionTime(CronType.UNIX, UNIX);
+    }
+
+    @Test
+    public void testMatchesSingleExecutionTimeCron4j() {
+        assertMatchesSingleExecutionTime(CronType.CRON4J, CRON4J);
+    }
+
+    @Test
+    public void testMatchesSingleExecutionTimeSpring() {
+        assertMatchesSingleExecutionTime(CronType.SPRING, SPRING);
+    }
+
+    @Test
+    public void testNoNextExecutionAfterLastYear() {
+        final ExecutionTime executionTime = compiled(CronType.QUARTZ, "0 0 0 1 1 ? 2020");
+        assertFalse(executionTime.nextExecution(ZonedDateTime.of(2020, 6, 1, 0, 0, 0, 0, ZoneOffset.UTC)).isPresent());
+        assertEquals(ZonedDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC),
+                executionTime.lastExecution(ZonedDateTime.of(2025, 6, 1, 0, 0, 0, 0, ZoneOffset.UTC)).get());
+    }
+
+    @Test
+    public void testNoExecutionForImpossibleDate() {
+        final ExecutionTime executionTime = compiled(CronType.QUARTZ, "0 0 0 30 2 ?");
+        final ZonedDateTime date = ZonedDateTime.of(2020, 6, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        assertFalse(executionTime.nextExecution(date).isPresent());
+        assertFalse(executionTime.lastExecution(date).isPresent());
+    }
+
+    @Test
+    public void testEpochSecondWithoutExecution() {
+        final ExecutionTime executionTime = compiled(CronType.QUARTZ, "0 0 0 1 1 ? 2020");
+        final long epochSecond = ZonedDateTime.of(2020, 6, 1, 0, 0, 0, 0, ZoneOffset.UTC).toEpochSecond();
+        assertEquals(ExecutionTime.NO_EXECUTION, executionTime.nextExecutionEpochSecond(epochSecond, ZoneOffset.UTC));
+        assertEquals(ZonedDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC).toEpochSecond(),
+                executionTime.lastExecutionEpochSecond(epochSecond, ZoneOffset.UTC));
+    }
+
+    @Test
+    public void testEpochSecondForDefaultAndCompositeExecutionTime() {
+        final CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX));
+        final Cron cron = new CompositeCron(Arrays.asList(parser.parse("0 12 * * *"), parser.parse("30 8 * * 1-5")));
+        final ZoneId zone = ZoneId.of("Europe/Paris");
+        final ZonedDateTime date = ZonedDateTime.of(2021, 6, 4, 10, 0, 0, 0, zone);
+        for (final ExecutionTime executionTime : Arrays.asList(ExecutionTime.forCron(cron), CompiledExecutionTime.forCron(cron))) {
+            assertEquals(date.withHour(12).toEpochSecond(), executionTime.nextExecutionEpochSecond(date.toEpochSecond(), zone));
+            assertEquals(date.withHour(8).withMinute(30).toEpochSecond(), executionTime.lastExecutionEpochSecond(date.toEpochSecond(), zone));
+            assertEquals(date.plusDays(1).withHour(12).toEpochSecond(), executionTime.nextExecutionEpochSecond(date.withHour(12).toEpochSecond(), zone));
+        }
+        final ExecutionTime single = ExecutionTime.forCron(parser.parse("0 12 * * *"));
+        assertEquals(date.withHour(12).toEpochSecond(), single.nextExecutionEpochSecond(date.toEpochSecond(), zone));
+    }
+
+    @Test
+    public void testDaylightSavingGapIsSkipped() {
+        final ZoneId zone = ZoneId.of("America/New_York");
+        final ExecutionTime executionTime = planned(CronType.QUARTZ, "0 30 2 * * ?");
+        final ZonedDateTime date = ZonedDateTime.of(2021, 3, 13, 3, 0, 0, 0, zone);
+        assertEquals(ZonedDateTime.of(2021, 3, 15, 2, 30, 0, 0, zone), executionTime.nextExecution(date).get());
+        assertEquals(ZonedDateTime.of(2021, 3, 13, 2, 30, 0, 0, zone),
+                executionTime.lastExecution(ZonedDateTime.of(2021, 3, 15, 0, 0, 0, 0, zone)).get());
+    }
+
+    @Test
+    public void testDaylightSavingOverlapHourly() {
+        final ZoneId zone = ZoneId.of("America/New_York");
+        final ExecutionTime executionTime = planned(CronType.QUARTZ, "0 0 * * * ?");
+        final ZonedDateTime firstPass = ZonedDateTime.ofInstant(Instant.parse("2021-11-07T05:00:00Z"), zone);
+        final ZonedDateTime secondPass = ZonedDateTime.ofInstant(Instant.parse("2021-11-07T06:00:00Z"), zone);
+        final ZonedDateTime after = ZonedDateTime.ofInstant(Instant.parse("2021-11-07T07:00:00Z"), zone);
+        assertEquals(secondPass, executionTime.nextExecution(firstPass).get());
+        assertEquals(after, executionTime.nextExecution(secondPass).get());
+        assertEquals(secondPass, executionTime.nextExecution(firstPass.plusMinutes(30)).get());
+        assertEquals(firstPass, executionTime.lastExecution(secondPass).get());
+        assertEquals(secondPass, executionTime.lastExecution(after).get());
+        assertTrue(executionTime.isMatch(firstPass));
+        assertTrue(executionTime.isMatch(secondPass));
+    }
+
+    @Test
+    public void testDaylightSavingOverlapDaily() {
+        final ZoneId zone = ZoneId.of("America/New_York");
+        final ExecutionTime executionTime = planned(CronType.QUARTZ, "0 30 1 * * ?");
+        final ZonedDateTime firstPass = ZonedDateTime.ofInstant(Instant.parse("2021-11-07T05:30:00Z"), zone);
+        final ZonedDateTime secondPass = ZonedDateTime.ofInstant(Instant.parse("2021-11-07T06:30:00Z"), zone);
+        final ZonedDateTime nextDay = ZonedDateTime.of(2021, 11, 8, 1, 30, 0, 0, zone);
+        assertEquals(firstPass, executionTime.nextExecution(firstPass.minusHours(1)).get());
+        assertEquals(nextDay, executionTime.nextExecution(firstPass).get());
+        assertEquals(nextDay, executionTime.nextExecution(secondPass.minusMinutes(10)).get());
+        assertEquals(firstPass, executionTime.lastExecution(nextDay).get());
+        assertEquals(firstPass, executionTime.lastExecution(secondPass.plusMinutes(10)).get());
+        assertTrue(executionTime.isMatch(firstPass));
+        assertFalse(executionTime.isMatch(secondPass));
+    }
+
+    @Test
+    public void testPackedDateTimeEpochSecondRoundTrip() {
+        final Random random = new Random(17);
+        for (int i = 0; i < 1000; i++) {
+            final long epochSecond = random.nextLong() % 100_000_000_000L;
+            final long packed = PackedDateTime.ofEpochSecond(epochSecond);
+            assertEquals(Instant.ofEpochSecond(epochSecond).atOffset(ZoneOffset.UTC).toLocalDateTime(), PackedDateTime.toLocalDateTime(packed));
+            assertEquals(epochSecond, PackedDateTime.toEpochSecond(packed));
+        }
+    }
+
+    @Test
+    public void testMatchesSingleExecutionTimeAroundOffsetTransitions() {
+        final CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+        for (final String expression : TRANSITION_QUARTZ) {
+            final Cron cron = parser.parse(expression);
+            final ExecutionTime expected = ExecutionTime.forCron(cron);
+            final ExecutionTime actual = CompiledExecutionTime.forCron(cron);
+            for (final ZoneId zone : TRANSITION_ZONES) {
+                for (final ZonedDateTime date : aroundTransitions(zone)) {
+                    final String message = expression + " at " + date;
+                    final Optional<ZonedDateTime> next = expected.nextExecution(date);
+                    assertEquals("next " + message, next, actual.nextExecution(date));
+                    final Optional<ZonedDateTime> last = expected.lastExecution(date);
+                    assertEquals("last " + message, last, actual.lastExecution(date));
+                    assertEquals("next epoch second " + message, next.map(ZonedDateTime::toEpochSecond).orElse(ExecutionTime.NO_EXECUTION).longValue(),
+                            actual.nextExecutionEpochSecond(date.toEpochSecond(), zone));
+                    assertEquals("last epoch second " + message, last.map(ZonedDateTime::toEpochSecond).orElse(ExecutionTime.NO_EXECUTION).longValue(),
+                            actual.lastExecutionEpochSecond(date.toEpochSecond(), zone));
+                    assertEquals("match " + message, expected.isMatch(date), actual.isMatch(date));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRepeatedLocalTimeAfterFallBack() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ))
+                .parse("0 30 1 * * ?"));
+        final ZoneId zone = ZoneId.of("America/New_York");
+        final ZonedDateTime date = ZonedDateTime.of(LocalDateTime.of(2021, 11, 7, 1, 40), zone);
+        final Optional<ZonedDateTime> next = executionTime.nextExecution(date);
+        assertEquals(ZoneOffset.ofHours(-5), next.get().getOffset());
+        assertEquals(next.get().toEpochSecond(), executionTime.nextExecutionEpochSecond(date.toEpochSecond(), zone));
+    }
+
+    private static ExecutionTime compiled(final CronType cronType, final String expression) {
+        return CompiledExecutionTime.forCron(new CronParser(CronDefinitionBuilder.instanceDefinitionFor(cronType)).parse(expression));
+    }
+
+    /**
+     * @return compiled execution time applying its own rules around offset transitions
+     */
+    private static ExecutionTime planned(final CronType cronType, final String expression) {
+        return new CompiledExecutionTime(((CompiledExecutionTime) compiled(cronType, expression)).plan(), true);
+    }
+
+    private static void assertMatchesSingleExecutionTime(final CronType cronType, final String[] expressions) {
+        final CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(cronType));
+        final Random random = new Random(cronType.ordinal());
+        for (final String expression : expressions) {
+            final Cron cron = parser.parse(expression);
+            final ExecutionTime expected = ExecutionTime.forCron(cron);
+            final ExecutionTime actual = CompiledExecutionTime.forCron(cron);
+            for (final ZoneId zone : ZONES) {
+                for (int i = 0; i < SAMPLES; i++) {
+                    final ZonedDateTime date = randomDate(random, zone);
+                    final String message = expression + " at " + date;
+                    final Optional<ZonedDateTime> next = expected.nextExecution(date);
+                    assertEquals("next " + message, next, actual.nextExecution(date));
+                    final Optional<ZonedDateTime> last = expected.lastExecution(date);
+                    assertEquals("last " + message, last, actual.lastExecution(date));
+                    assertEquals("next epoch second " + message, next.map(ZonedDateTime::toEpochSecond).orElse(ExecutionTime.NO_EXECUTION).longValue(),
+                            actual.nextExecutionEpochSecond(date.toEpochSecond(), zone));
+                    assertEquals("last epoch second " + message, last.map(ZonedDateTime::toEpochSecond).orElse(ExecutionTime.NO_EXECUTION).longValue(),
+                            actual.lastExecutionEpochSecond(date.toEpochSecond(), zone));
+                    assertEquals("match " + message, expected.isMatch(date), actual.isMatch(date));
+                    next.ifPresent(n -> assertTrue("match next " + message, actual.isMatch(n)));
+                }
+            }
+        }
+    }
+
+    /**
+     * @return dates every 20 minutes, from a day before to a day after each offset transition between 2020 and 2023
+     */
+    static List<ZonedDateTime> aroundTransitions(final ZoneId zone) {
+        final List<ZonedDateTime> dates = new ArrayList<>();
+        final ZoneRules rules = zone.getRules();
+        for (ZoneOffsetTransition transition = rules.nextTransition(Instant.parse("2020-01-01T00:00:00Z"));
+                transition != null && transition.getInstant().isBefore(Instant.parse("2024-01-01T00:00:00Z"));
+                transition = rules.nextTransition(transition.getInstant())) {
+            for (long seconds = -86_400; seconds <= 86_400; seconds += 1200) {
+                dates.add(ZonedDateTime.ofInstant(transition.getInstant().plusSeconds(seconds), zone));
+            }
+        }
+        return dates;
+    }
+
+    private static ZonedDateTime randomDate(final Random random, final ZoneId zone) {
+        final long epochSecond = Instant.parse("2020-01-01T00:00:00Z").getEpochSecond() + random.nextInt(5 * 365 * 86_400);
+        // truncate randomly, so that dates falling on executions are covered as well
+        final long[] units = {1, 60, 3600, 86_400};
+        final long unit = units[random.nextInt(units.length)];
+        return ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond - epochSecond % unit), zone);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CompositeExecutionTimeTest {
+    private static final ZonedDateTime START = ZonedDateTime.of(2021, 3, 27, 22, 7, 13, 0, ZoneId.of("Europe/Madrid"));
+    private CronParser parser;
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void testSequentialAndParallelAgree() {
+        final List<ExecutionTime> members = new ArrayList<>();
+        for (int j = 0; j < CompositeExecutionTime.PARALLEL_THRESHOLD + 4; j++) {
+            members.add(ExecutionTime.forCron(parser.parse(String.format("%s %s %s * * ?", j % 60, (j * 7) % 60, j % 24))));
+        }
+        members.add(ExecutionTime.forCron(parser.parse("0 0 0 1 1 ? 2020")));
+        final CompositeExecutionTime sequential = new CompositeExecutionTime(members);
+        final CompositeExecutionTime parallel = new CompositeExecutionTime(members, executor);
+
+        ZonedDateTime date = START;
+        for (int j = 0; j < 100; j++) {
+            final Optional<ZonedDateTime> next = sequential.nextExecution(date);
+            assertEquals(next, parallel.nextExecution(date));
+            assertEquals(sequential.lastExecution(date), parallel.lastExecution(date));
+            assertTrue(sequential.isMatch(next.get()));
+            assertTrue(parallel.isMatch(next.get()));
+            assertEquals(next.get(), sequential.executionsAfter(date).findFirst().get());
+            date = next.get();
+        }
+        assertFalse(parallel.isMatch(START));
+        assertEquals(sequential.nextExecutions(START, 100).collect(Collectors.toList()), parallel.nextExecutions(START, 100).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testMergeReturnsSharedExecutionsOnce() {
+        final List<ExecutionTime> members = new ArrayList<>();
+        members.add(ExecutionTime.forCron(parser.parse("0 0/15 * * * ?")));
+        members.add(ExecutionTime.forCron(parser.parse("0 0/20 * * * ?")));
+        members.add(ExecutionTime.forCron(parser.parse("0 0 0 1 1 ? 2020")));
+        final List<ZonedDateTime> executions = new CompositeExecutionTime(members).nextExecutions(START, 8).collect(Collectors.toList());
+        final List<Integer> minutes = executions.stream().map(ZonedDateTime::getMinute).collect(Collectors.toList());
+        assertEquals(Arrays.asList(15, 20, 30, 40, 45, 0, 15, 20), minutes);
+    }
+
+    @Test
+    public void testExecutionsAcrossDaylightSavingTransition() {
+        final List<ExecutionTime> members = new ArrayList<>();
+        members.add(ExecutionTime.forCron(parser.parse("0 30 * * * ?")));
+        members.add(ExecutionTime.forCron(parser.parse("0 0 2,3 * * ?")));
+        final CompositeExecutionTime executionTime = new CompositeExecutionTime(members);
+        final List<ZonedDateTime> expected = new ArrayList<>();
+        ZonedDateTime date = START;
+        for (int j = 0; j < 50; j++) {
+            date = executionTime.nextExecution(date).get();
+            expected.add(date);
+        }
+        assertEquals(expected, executionTime.nextExecutions(START, 50).collect(Collectors.toList()));
+    }
+}
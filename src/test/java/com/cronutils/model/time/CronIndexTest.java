@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+import org.junit.Test;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class CronIndexTest {
+    private static final List<String> QUARTZ = Arrays.asList(
+            "* * * * * ?", "0 * * * * ?", "0 0 * * * ?", "0 0 12 * * ?", "0 15 10 ? * MON-FRI", "0 0/5 14,18 * * ?",
+            "0 15 10 L * ?", "0 15 10 L-2 * ?", "0 15 10 ? * 6L", "0 15 10 ? * 6#3", "0 0 12 1W * ?", "0 0 12 LW * ?",
+            "0 11 11 11 11 ?", "0 0 2 * * ?", "30 30 2 * * ?", "0 0 0 29 2 ? *", "0 0 0 1 1 ? 2022-2024", "*/7 */13 * * * ?",
+            "0 0 1-3 * * ?", "0 0 0 ? * SUN#5");
+    private static final List<String> UNIX = Arrays.asList("* * * * *", "*/15 * * * *", "0 9-17 * * 1-5", "30 2 * * *", "0 0 1,15 * 3");
+
+    @Test
+    public void testMatchesAgreeWithIsMatch() {
+        final List<Cron> crons = new ArrayList<>();
+        final CronParser quartz = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+        final CronParser unix = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX));
+        QUARTZ.forEach(expression -> crons.add(quartz.parse(expression)));
+        UNIX.forEach(expression -> crons.add(unix.parse(expression)));
+        crons.add(new CompositeCron(Arrays.asList(quartz.parse("0 0 12 * * ?"), quartz.parse("0 30 2 * * ?"))));
+        final CronIndex index = new CronIndex(crons);
+        assertEquals(crons.size(), index.size());
+
+        final Random random = new Random(7);
+        for (final ZoneId zone : Arrays.asList(ZoneOffset.UTC, ZoneId.of("America/New_York"), ZoneId.of("Europe/Madrid"))) {
+            final List<ZonedDateTime> dates = new ArrayList<>();
+            for (int j = 0; j < 500; j++) {
+                final ZonedDateTime date = ZonedDateTime.of(2021 + random.nextInt(3), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                        random.nextInt(24), random.nextInt(60), random.nextInt(60), 0, zone);
+                dates.add(date);
+                // values matched by several crons
+                dates.add(date.withHour(10).withMinute(15).withSecond(0));
+                dates.add(date.withHour(12).withMinute(0).withSecond(0).withDayOfMonth(1));
+            }
+            for (final ZonedDateTime transitions : Arrays.asList(ZonedDateTime.of(2021, 3, 10, 0, 0, 0, 0, zone),
+                    ZonedDateTime.of(2021, 10, 25, 0, 0, 0, 0, zone))) {
+                ZonedDateTime hour = transitions;
+                for (int j = 0; j < 24 * 20; j++) {
+                    dates.add(hour);
+                    dates.add(hour.plusMinutes(30));
+                    hour = hour.plusHours(1);
+                }
+            }
+            for (final ZonedDateTime date : dates) {
+                final BitSet expected = new BitSet();
+                for (int id = 0; id < crons.size(); id++) {
+                    if (crons.get(id).executionTime().isMatch(date)) {
+                        expected.set(id);
+                    }
+                }
+                assertEquals(date.toString(), expected, index.matching(date));
+            }
+        }
+    }
+
+    @Test
+    public void testManyCrons() {
+        final CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX));
+        final List<Cron> crons = new ArrayList<>();
+        for (int j = 0; j < 5_000; j++) {
+            crons.add(parser.parse(String.format("%s %s * * *", j % 60, j % 24)));
+        }
+        final BitSet matching = new CronIndex(crons).matching(ZonedDateTime.of(2021, 7, 1, 5, 5, 30, 0, ZoneOffset.UTC));
+        assertEquals(5_000 / 120 + 1, matching.cardinality());
+        for (int id = matching.nextSetBit(0); id >= 0; id = matching.nextSetBit(id + 1)) {
+            assertEquals(5, id % 60);
+            assertEquals(5, id % 24);
+        }
+    }
+}
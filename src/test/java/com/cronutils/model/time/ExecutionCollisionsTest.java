@@ -0,0 +1,103 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
+import com.cronutils.parser.CronParser;
+import org.junit.Test;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class ExecutionCollisionsTest {
+    private static final ZonedDateTime START = ZonedDateTime.of(2021, 3, 13, 12, 7, 0, 0, ZoneId.of("America/New_York"));
+    private final CronParser quartz = CronParser.instanceFor(CronType.QUARTZ);
+
+    @Test
+    public void testFirstCollision() {
+        assertEquals(Optional.of(START.withMinute(0).plusHours(1)),
+                ExecutionCollisions.firstCollision(quartz.parse("0 0/15 * * * ?"), quartz.parse("0 0/20 * * * ?"), START));
+        assertFalse(ExecutionCollisions.firstCollision(quartz.parse("0 0 12 * * ?"), quartz.parse("0 0 13 * * ?"), START).isPresent());
+        assertFalse(ExecutionCollisions.firstCollision(quartz.parse("0 0 12 1 * ?"), quartz.parse("0 0 12 2 * ?"), START).isPresent());
+    }
+
+    @Test
+    public void testFirstCollisionOnCalendarDays() {
+        final Cron lastDay = quartz.parse("0 0 12 L * ?");
+        final Cron friday = quartz.parse("0 0 12 ? * FRI");
+        final ZonedDateTime expected = lastDay.executionTime().executionsAfter(START).filter(date -> friday.executionTime().isMatch(date)).findFirst().get();
+        assertEquals(Optional.of(expected), ExecutionCollisions.firstCollision(lastDay, friday, START));
+        assertEquals(Optional.of(ZonedDateTime.of(2021, 4, 30, 12, 0, 0, 0, START.getZone())), ExecutionCollisions.firstCollision(lastDay, friday, START));
+    }
+
+    @Test
+    public void testFirstCollisionAcrossCronTypes() {
+        final Cron unix = CronParser.instanceFor(CronType.UNIX).parse("30 * * * *");
+        assertEquals(Optional.of(START.withMinute(30)), ExecutionCollisions.firstCollision(unix, quartz.parse("0 */10 12 * * ?"), START));
+        assertFalse(ExecutionCollisions.firstCollision(unix, quartz.parse("15 */10 * * * ?"), START).isPresent());
+    }
+
+    @Test
+    public void testCollisionsMatchExecutions() {
+        final List<Cron> crons = new ArrayList<>();
+        for (int j = 0; j < 120; j++) {
+            crons.add(quartz.parse(String.format("0 %s %s/%s * * ?", (j * 7) % 60, j % 5, 1 + j % 11)));
+        }
+        crons.add(quartz.parse("0 30 2 * * ?"));
+        crons.add(quartz.parse("0 0/30 * * * ?"));
+        crons.add(new CompositeCron(Arrays.asList(quartz.parse("0 14 3 * * ?"), quartz.parse("0 0 3 14 3 ?"))));
+        final ZonedDateTime end = START.plusDays(2);
+        final List<TreeSet<ZonedDateTime>> executions = crons.stream()
+                .map(cron -> cron.executionTime().executionsBetween(START, end).collect(Collectors.toCollection(TreeSet::new)))
+                .collect(Collectors.toList());
+        final List<String> expected = new ArrayList<>();
+        for (int a = 0; a < crons.size(); a++) {
+            for (int b = a + 1; b < crons.size(); b++) {
+                final TreeSet<ZonedDateTime> shared = new TreeSet<>(executions.get(a));
+                shared.retainAll(executions.get(b));
+                if (!shared.isEmpty()) {
+                    expected.add(a + "," + b + "," + shared.first());
+                }
+            }
+        }
+        final List<String> found = ExecutionCollisions.collisions(crons, START, end).stream()
+                .map(collision -> collision.getFirst() + "," + collision.getSecond() + "," + collision.getDate())
+                .collect(Collectors.toList());
+        assertEquals(expected, found);
+    }
+
+    @Test
+    public void testCollisionsOutsideWindowAreIgnored() {
+        final List<Cron> crons = Arrays.asList(quartz.parse("0 0 12 1 1 ?"), quartz.parse("0 0 12 ? 1 FRI"), quartz.parse("0 0 12 * * ?"));
+        final ZonedDateTime start = ZonedDateTime.of(2021, 6, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        assertEquals(0, ExecutionCollisions.collisions(crons, start, start.plusMonths(1)).size());
+        assertEquals(2, ExecutionCollisions.collisions(crons, start, start.plusYears(1)).size());
+        // January first falls on a Friday in 2027
+        final List<ExecutionCollisions.Collision> collisions = ExecutionCollisions.collisions(crons, start, start.plusYears(6));
+        assertEquals(3, collisions.size());
+        assertEquals(ZonedDateTime.of(2027, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC), collisions.get(0).getDate());
+    }
+}
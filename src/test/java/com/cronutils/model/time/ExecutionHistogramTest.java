@@ -0,0 +1,109 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
+import com.cronutils.parser.CronParser;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ExecutionHistogramTest {
+    private static final ZonedDateTime START = ZonedDateTime.of(2021, 3, 13, 12, 0, 0, 0, ZoneId.of("America/New_York"));
+    private final CronParser parser = CronParser.instanceFor(CronType.QUARTZ);
+
+    @Test
+    public void testCountsPerBucket() {
+        final ExecutionHistogram histogram = new ExecutionHistogram(START, START.plusHours(2), Duration.ofMinutes(30));
+        assertEquals(4, histogram.buckets());
+        final long[] counts = histogram.countCrons(Arrays.asList(parser.parse("0 0 * * * ?"), parser.parse("0 0/15 * * * ?"), parser.parse("0 10 13 * * ?")));
+        assertArrayEquals(new long[] { 3, 2, 4, 2 }, counts);
+        assertEquals(START.plusMinutes(90), histogram.bucketStart(3));
+    }
+
+    @Test
+    public void testDenseCronsCountedPerBucket() {
+        final ExecutionHistogram histogram = new ExecutionHistogram(START, START.plusMinutes(2).plusSeconds(30), Duration.ofMinutes(1));
+        assertArrayEquals(new long[] { 60, 60, 30 }, histogram.countCrons(Collections.singletonList(parser.parse("* * * * * ?"))));
+    }
+
+    @Test
+    public void testMatchesExecutionsAcrossDaylightSavingTransition() {
+        final List<Cron> crons = new ArrayList<>();
+        for (int j = 0; j < 200; j++) {
+            crons.add(parser.parse(String.format("%s %s/%s * * * ?", j % 60, j % 7, 1 + j % 13)));
+        }
+        crons.add(parser.parse("*/10 * 1-3 * * ?"));
+        crons.add(new CompositeCron(Arrays.asList(parser.parse("0 30 2 * * ?"), parser.parse("0 0 3 * * ?"))));
+        final ZonedDateTime end = START.plusDays(1);
+        final ExecutionHistogram histogram = new ExecutionHistogram(START, end, Duration.ofMinutes(15));
+        final long[] expected = new long[histogram.buckets()];
+        for (final Cron cron : crons) {
+            cron.executionTime().executionsBetween(START.minusSeconds(1), end.minusSeconds(1)).forEach(date ->
+                    expected[(int) (Duration.between(START, date).getSeconds() / 900)]++);
+        }
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertArrayEquals(expected, histogram.countCrons(crons));
+            final List<ExecutionTime> executionTimes = new ArrayList<>();
+            for (final Cron cron : crons) {
+                executionTimes.add(CompiledExecutionTime.forCron(cron));
+            }
+            assertArrayEquals(expected, histogram.count(executionTimes, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testMatchesNextExecutionLoopOverFallBackNight() {
+        final ZonedDateTime start = ZonedDateTime.of(2021, 11, 6, 12, 10, 0, 0, ZoneId.of("America/New_York"));
+        final ZonedDateTime end = start.plusDays(1);
+        final ExecutionHistogram histogram = new ExecutionHistogram(start, end, Duration.ofMinutes(15));
+        for (final String expression : Arrays.asList("0 30 1 * * ?", "*/20 * 1-3 * * ?", "0 */20 * * * ?", "0 0 * * * ?", "0 * * * * ?", "0 * 1 * * ?", "0 30,45 1 * * ?")) {
+            final ExecutionTime executionTime = parser.parse(expression).executionTime();
+            final long[] expected = new long[histogram.buckets()];
+            for (Optional<ZonedDateTime> next = executionTime.nextExecution(start.minusSeconds(1)); next.isPresent() && next.get().isBefore(end);
+                    next = executionTime.nextExecution(next.get())) {
+                expected[(int) (Duration.between(start, next.get()).getSeconds() / 900)]++;
+            }
+            assertArrayEquals(expression, expected, histogram.count(Collections.singletonList(executionTime)));
+        }
+    }
+
+    @Test
+    public void testEmptyWindow() {
+        final ExecutionHistogram histogram = new ExecutionHistogram(START, START, Duration.ofMinutes(1));
+        assertEquals(0, histogram.buckets());
+        assertEquals(0, histogram.countCrons(Collections.singletonList(parser.parse("* * * * * ?"))).length);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBucketSizeMustBeWholeSeconds() {
+        new ExecutionHistogram(START, START.plusHours(1), Duration.ofMillis(1500));
+    }
+}
@@ -8,6 +8,7 @@
 package com.cronutils.model.time;
 
 import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
 import com.cronutils.model.definition.CronDefinition;
 import com.cronutils.model.definition.CronDefinitionBuilder;
 import com.cronutils.parser.CronParser;
@@ -248,4 +249,36 @@ public class ExecutionTimeCustomDefinitionIntegrationTest {
         final CronParser cronParser = new CronParser(cronDefinition);
         cronParser.parse("* * 4 3 *");
     }
+
+    @Test
+    public void testFarFutureYearIsReached() {
+        final CronDefinition cronDefinition = CronDefinitionBuilder.defineCron()
+                .withSeconds().and()
+                .withMinutes().and()
+                .withHours().and()
+                .withDayOfMonth().supportsQuestionMark().and()
+                .withMonth().and()
+                .withDayOfWeek().withValidRange(1, 7).withMondayDoWValue(2).supportsQuestionMark().and()
+                .withYear().withValidRange(1970, 2999).and()
+                .instance();
+        final ExecutionTime executionTime = ExecutionTime.forCron(new CronParser(cronDefinition).parse("0 0 0 29 2 ? 2500/50"));
+
+        final ZonedDateTime start = ZonedDateTime.of(2021, 1, 1, 0, 0, 0, 0, UTC);
+        final ZonedDateTime expected = ZonedDateTime.of(2800, 2, 29, 0, 0, 0, 0, UTC);
+        assertEquals(Optional.of(expected), executionTime.nextExecution(start));
+        assertEquals(Optional.of(expected), executionTime.lastExecution(ZonedDateTime.of(2999, 1, 1, 0, 0, 0, 0, UTC)));
+        assertFalse(executionTime.nextExecution(expected).isPresent());
+    }
+
+    @Test
+    public void testDaysNeverMatchingResolveToEmpty() {
+        final CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+        final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse("0 0 0 30 2 ? *"));
+        final ZonedDateTime start = ZonedDateTime.of(2021, 1, 1, 0, 0, 0, 0, UTC);
+        assertFalse(executionTime.nextExecution(start).isPresent());
+        assertFalse(executionTime.lastExecution(start).isPresent());
+        assertFalse(executionTime.executionsAfter(start).findFirst().isPresent());
+        assertFalse(executionTime.executionsBefore(start).findFirst().isPresent());
+        assertEquals(0, executionTime.countExecutions(start, start.plusYears(10)));
+    }
 }
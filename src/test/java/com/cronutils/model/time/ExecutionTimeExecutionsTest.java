@@ -0,0 +1,291 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ExecutionTimeExecutionsTest {
+    private static final ZonedDateTime START = ZonedDateTime.of(2021, 6, 30, 22, 0, 0, 0, ZoneId.of("Europe/Madrid"));
+    private CronParser parser;
+
+    @Before
+    public void setUp() {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+    }
+
+    @Test
+    public void testNextExecutionsMatchNextExecutionLoop() {
+        for (final String expression : Arrays.asList("*/20 * * * * ?", "0 0/45 * * * ?", "0 0 12 L * ?", "0 15 10 ? * 6#3")) {
+            for (final ExecutionTime executionTime : executionTimes(parser.parse(expression))) {
+                assertEquals(expression, loop(executionTime, START, 200),
+                        executionTime.nextExecutions(START, 200).collect(Collectors.toList()));
+            }
+        }
+    }
+
+    @Test
+    public void testExecutionsAfterMatchNextExecutionLoopAroundOffsetTransitions() {
+        for (final String expression : CompiledExecutionTimeTest.TRANSITION_QUARTZ) {
+            final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse(expression));
+            for (final ZonedDateTime date : transitionDates()) {
+                assertEquals(expression + " " + date, loop(executionTime, date, 50),
+                        executionTime.executionsAfter(date).limit(50).collect(Collectors.toList()));
+            }
+        }
+    }
+
+    @Test
+    public void testExecutionsAfterRepeatLocalTimeAsNextExecution() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse("0 30 1 * * ?"));
+        final ZonedDateTime date = ZonedDateTime.of(LocalDateTime.of(2021, 11, 7, 1, 40), ZoneId.of("America/New_York"));
+        final ZonedDateTime repeated = executionTime.executionsAfter(date).findFirst().get();
+        assertEquals(executionTime.nextExecution(date).get(), repeated);
+        assertEquals(ZoneOffset.ofHours(-5), repeated.getOffset());
+    }
+
+    @Test
+    public void testExecutionsBetween() {
+        final ZonedDateTime end = START.plusHours(3);
+        for (final ExecutionTime executionTime : executionTimes(parser.parse("0 0 * * * ?"))) {
+            assertEquals(Arrays.asList(START.plusHours(1), START.plusHours(2), START.plusHours(3)),
+                    executionTime.executionsBetween(START, end).collect(Collectors.toList()));
+            assertEquals(Collections.emptyList(), executionTime.executionsBetween(end, START).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testExecutionsEndWhenCronStopsMatching() {
+        for (final ExecutionTime executionTime : executionTimes(parser.parse("0 0 0 1 1 ? 2022-2024"))) {
+            assertEquals(3, executionTime.executionsAfter(START).count());
+        }
+    }
+
+    @Test
+    public void testCompositeExecutionsAreMerged() {
+        final Cron cron = new CompositeCron(Arrays.asList(parser.parse("0 0 * * * ?"), parser.parse("0 30 23 * * ?")));
+        for (final ExecutionTime executionTime : executionTimes(cron)) {
+            assertEquals(Arrays.asList(START.plusHours(1), START.plusHours(1).plusMinutes(30), START.plusHours(2)),
+                    executionTime.nextExecutions(START, 3).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testExecutionsBeforeMatchLastExecutionLoop() {
+        for (final String expression : Arrays.asList("*/20 * * * * ?", "0 0/45 * * * ?", "0 0 12 L * ?", "0 15 10 ? * 6#3")) {
+            for (final ExecutionTime executionTime : executionTimes(parser.parse(expression))) {
+                assertEquals(expression, reverseLoop(executionTime, START, 200),
+                        executionTime.executionsBefore(START).limit(200).collect(Collectors.toList()));
+            }
+        }
+    }
+
+    @Test
+    public void testExecutionsBeforeMatchLastExecutionLoopAroundOffsetTransitions() {
+        for (final String expression : CompiledExecutionTimeTest.TRANSITION_QUARTZ) {
+            final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse(expression));
+            for (final ZonedDateTime date : transitionDates()) {
+                final List<ZonedDateTime> executions = executionTime.executionsBefore(date).limit(50).collect(Collectors.toList());
+                assertEquals(expression + " " + date, executionTime.lastExecution(date).get(), executions.get(0));
+                assertEquals(expression + " " + date, reverseLoop(executionTime, date, 50), executions);
+            }
+        }
+    }
+
+    @Test
+    public void testExecutionsBeforeEndWhenCronStopsMatching() {
+        for (final ExecutionTime executionTime : executionTimes(parser.parse("0 0 0 1 1 ? 2018-2020"))) {
+            assertEquals(Arrays.asList(2020, 2019, 2018),
+                    executionTime.executionsBefore(START).map(ZonedDateTime::getYear).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testExecutionsBeforeIncludeEndSecondWhenEndHasNanos() {
+        for (final ExecutionTime executionTime : executionTimes(parser.parse("0 0 * * * ?"))) {
+            assertEquals(START.minusHours(1), executionTime.executionsBefore(START).findFirst().get());
+            assertEquals(START, executionTime.executionsBefore(START.plusNanos(1)).findFirst().get());
+        }
+    }
+
+    @Test
+    public void testCompositeExecutionsBeforeAreMerged() {
+        final Cron cron = new CompositeCron(Arrays.asList(parser.parse("0 0 * * * ?"), parser.parse("0 30 21 * * ?"), parser.parse("0 0 21 * * ?")));
+        for (final ExecutionTime executionTime : executionTimes(cron)) {
+            assertEquals(Arrays.asList(START.minusMinutes(30), START.minusHours(1), START.minusHours(2)),
+                    executionTime.executionsBefore(START).limit(3).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testCountExecutionsMatchesExecutionsBetween() {
+        final List<String> expressions = Arrays.asList("*/20 * 2 * * ?", "0 0/45 * * * ?", "0 30 * * * ?", "0 30 2 * * ?", "0 0 1-3 * * ?",
+                "0 0 12 L * ?", "0 15 10 ? * 6#3", "0 0 0 29 2 ? *", "0 0 0 1 1 ? 2022-2024", "15 10 2 ? * SUN");
+        final List<ZoneId> zones = Arrays.asList(ZoneOffset.UTC, ZoneId.of("America/New_York"), ZoneId.of("Australia/Lord_Howe"), ZoneId.of("Europe/Madrid"));
+        for (final String expression : expressions) {
+            for (final ExecutionTime executionTime : executionTimes(parser.parse(expression))) {
+                for (final ZoneId zone : zones) {
+                    for (int j = 0; j < 12; j++) {
+                        final ZonedDateTime start = ZonedDateTime.of(2021, 1 + j, 1 + j * 2, j, j * 5, j, 0, zone);
+                        final ZonedDateTime end = start.plusDays(5 + j * 4).plusMinutes(j * 37);
+                        assertEquals(String.format("%s %s %s", expression, start, end), executionTime.executionsBetween(start, end).count(),
+                                executionTime.countExecutions(start, end));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCountExecutionsAcrossDaylightSavingTransitions() {
+        final ZoneId zone = ZoneId.of("America/New_York");
+        final ZonedDateTime start = ZonedDateTime.of(2021, 3, 13, 0, 0, 0, 0, zone);
+        final ZonedDateTime end = ZonedDateTime.of(2021, 11, 8, 0, 0, 0, 0, zone);
+        for (final String expression : Arrays.asList("0 30 1 * * ?", "0 30 2 * * ?", "0 0/10 * * * ?", "0 0 1-3 * * ?")) {
+            final ExecutionTime executionTime = CompiledExecutionTime.forCron(parser.parse(expression));
+            for (int hours = 0; hours < 48; hours++) {
+                // windows starting and ending within the days of both transitions
+                final ZonedDateTime from = start.plusMinutes(hours * 30L + 7);
+                final ZonedDateTime to = end.minusMinutes(hours * 30L + 11);
+                assertEquals(expression + " " + from + " " + to, executionTime.executionsBetween(from, to).count(), executionTime.countExecutions(from, to));
+            }
+        }
+    }
+
+    @Test
+    public void testCountExecutionsMatchesNextExecutionLoopAroundOffsetTransitions() {
+        for (final String expression : CompiledExecutionTimeTest.TRANSITION_QUARTZ) {
+            if (expression.startsWith("* ")) {
+                // executions every second are too many to loop over
+                continue;
+            }
+            final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse(expression));
+            for (final ZonedDateTime date : transitionDates()) {
+                final ZonedDateTime start = date.minusHours(20).plusMinutes(date.getHour() * 7L);
+                final ZonedDateTime end = start.plusHours(41).plusSeconds(date.getHour());
+                assertEquals(expression + " " + start + " " + end, loopCount(executionTime, start, end), executionTime.countExecutions(start, end));
+            }
+        }
+    }
+
+    @Test
+    public void testCountExecutionsOverDaylightSavingNights() {
+        final ZonedDateTime fallBack = ZonedDateTime.of(2021, 11, 6, 12, 0, 0, 0, ZoneId.of("America/New_York"));
+        final ExecutionTime everyTwentySeconds = ExecutionTime.forCron(parser.parse("*/20 * 1-3 * * ?"));
+        assertEquals(loopCount(everyTwentySeconds, fallBack, fallBack.plusDays(1)), everyTwentySeconds.countExecutions(fallBack, fallBack.plusDays(1)));
+        final ZonedDateTime lordHowe = ZonedDateTime.of(2021, 4, 2, 0, 0, 0, 0, ZoneId.of("Australia/Lord_Howe"));
+        final ExecutionTime daily = ExecutionTime.forCron(parser.parse("0 30 2 * * ?"));
+        assertEquals(loopCount(daily, lordHowe, lordHowe.plusDays(4)), daily.countExecutions(lordHowe, lordHowe.plusDays(4)));
+    }
+
+    @Test
+    public void testCountExecutionsForAYear() {
+        final ZonedDateTime start = ZonedDateTime.of(2020, 12, 31, 23, 59, 59, 0, ZoneOffset.UTC);
+        final ZonedDateTime end = start.plusYears(1);
+        assertEquals(365L * 24 * 3600, ExecutionTime.forCron(parser.parse("* * * * * ?")).countExecutions(start, end));
+        assertEquals(365L * 24 * 12, ExecutionTime.forCron(parser.parse("0 */5 * * * ?")).countExecutions(start, end));
+        assertEquals(0, ExecutionTime.forCron(parser.parse("* * * * * ?")).countExecutions(end, start));
+    }
+
+    @Test
+    public void testZeroExecutions() {
+        assertEquals(0, ExecutionTime.forCron(parser.parse("* * * * * ?")).nextExecutions(START, 0).count());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeCount() {
+        ExecutionTime.forCron(parser.parse("* * * * * ?")).nextExecutions(START, -1);
+    }
+
+    @Test
+    public void testExecutionsAfterIsLazy() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse("* * * * * ?"));
+        final ZonedDateTime start = ZonedDateTime.of(2021, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        assertEquals(Optional.of(start.plusSeconds(5)), executionTime.executionsAfter(start).skip(4).findFirst());
+        assertTrue(executionTime.executionsAfter(start).anyMatch(date -> date.getMinute() == 1));
+    }
+
+    /**
+     * @return dates every two hours, from a day before to a day after each offset transition of 2021
+     */
+    private static List<ZonedDateTime> transitionDates() {
+        final List<ZonedDateTime> dates = new ArrayList<>();
+        for (final ZoneId zone : CompiledExecutionTimeTest.TRANSITION_ZONES) {
+            for (final ZonedDateTime date : CompiledExecutionTimeTest.aroundTransitions(zone)) {
+                if (date.getYear() == 2021 && date.toEpochSecond() % 7200 == 0) {
+                    dates.add(date);
+                }
+            }
+        }
+        return dates;
+    }
+
+    private static List<ExecutionTime> executionTimes(final Cron cron) {
+        return Arrays.asList(ExecutionTime.forCron(cron), CompiledExecutionTime.forCron(cron));
+    }
+
+    private static List<ZonedDateTime> reverseLoop(final ExecutionTime executionTime, ZonedDateTime date, final int count) {
+        final List<ZonedDateTime> executions = new ArrayList<>();
+        for (int j = 0; j < count; j++) {
+            final Optional<ZonedDateTime> last = executionTime.lastExecution(date);
+            if (!last.isPresent()) {
+                break;
+            }
+            date = last.get();
+            executions.add(date);
+        }
+        return executions;
+    }
+
+    private static long loopCount(final ExecutionTime executionTime, final ZonedDateTime start, final ZonedDateTime end) {
+        long count = 0;
+        for (Optional<ZonedDateTime> next = executionTime.nextExecution(start); next.isPresent() && !next.get().isAfter(end);
+                next = executionTime.nextExecution(next.get())) {
+            count++;
+        }
+        return count;
+    }
+
+    private static List<ZonedDateTime> loop(final ExecutionTime executionTime, ZonedDateTime date, final int count) {
+        final List<ZonedDateTime> executions = new ArrayList<>();
+        for (int j = 0; j < count; j++) {
+            final Optional<ZonedDateTime> next = executionTime.nextExecution(date);
+            if (!next.isPresent()) {
+                break;
+            }
+            date = next.get();
+            executions.add(date);
+        }
+        return executions;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+public class MonthDaysCacheTest {
+    private AtomicInteger generated;
+    private MonthDaysCache cache;
+
+    @Before
+    public void setUp() {
+        generated = new AtomicInteger();
+        cache = new MonthDaysCache((year, month) -> {
+            generated.incrementAndGet();
+            return month == 4 ? Optional.empty() : Optional.of(new TimeNode(Arrays.asList(1, 15, 29, 30, 31)));
+        }, 16);
+    }
+
+    @Test
+    public void testRepeatedLookupsDoNotRegenerate() {
+        final MonthDaysCache.Entry entry = cache.get(2021, 1);
+        for (int j = 0; j < 10; j++) {
+            assertSame(entry, cache.get(2021, 1));
+        }
+        assertEquals(1, generated.get());
+    }
+
+    @Test
+    public void testConsecutiveMonthsDoNotEvictEachOther() {
+        for (int j = 0; j < 2; j++) {
+            for (int month = 1; month <= 12; month++) {
+                cache.get(2021, month);
+            }
+        }
+        assertEquals(12, generated.get());
+    }
+
+    @Test
+    public void testSlotIsReplacedForDistantMonth() {
+        cache.get(2021, 1);
+        cache.get(2021 + 4, 1);
+        cache.get(2021, 1);
+        assertEquals(3, generated.get());
+    }
+
+    @Test
+    public void testMaskOnlyHoldsDaysOfMonth() {
+        assertEquals((1 << 1) | (1 << 15), cache.get(2021, 2).getMask());
+        assertEquals((1 << 1) | (1 << 15) | (1 << 29), cache.get(2020, 2).getMask());
+        assertEquals((1 << 1) | (1 << 15) | (1 << 29) | (1 << 30) | (1 << 31), cache.get(2021, 1).getMask());
+        assertEquals(Arrays.asList(1, 15, 29, 30, 31), cache.get(2021, 2).getDays().get().getValues());
+    }
+
+    @Test
+    public void testEmptyDays() {
+        assertFalse(cache.get(2021, 4).getDays().isPresent());
+        assertEquals(0, cache.get(2021, 4).getMask());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCapacityMustBePowerOfTwo() {
+        new MonthDaysCache((year, month) -> Optional.empty(), 12);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.time.generator.NoSuchValueException;
+import org.junit.Test;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Differential tests: potential values computed directly must be the ones found searching one unit at a time.
+ */
+public class PotentialValueTest {
+    private static final List<List<Integer>> NODES = Arrays.asList(
+            Arrays.asList(0), Arrays.asList(3), Arrays.asList(2, 3), Arrays.asList(0, 30), Arrays.asList(59),
+            Arrays.asList(1, 2, 3, 23), Arrays.asList(0, 15, 30, 45), Arrays.asList(5, 10, 20, 40, 50, 55));
+    private static final ZoneId[] ZONES = {
+            ZoneOffset.UTC, ZoneId.of("America/New_York"), ZoneId.of("Europe/Madrid"), ZoneId.of("Australia/Lord_Howe")
+    };
+    private static final ChronoField[] FIELDS = { ChronoField.HOUR_OF_DAY, ChronoField.MINUTE_OF_HOUR, ChronoField.SECOND_OF_MINUTE };
+
+    @Test
+    public void testDirectValuesMatchSearch() {
+        final Random random = new Random(3);
+        for (final ZoneId zone : ZONES) {
+            for (final ZonedDateTime date : dates(zone, random)) {
+                for (final List<Integer> values : NODES) {
+                    final TimeNode node = new TimeNode(new ArrayList<>(values));
+                    for (final ChronoField field : FIELDS) {
+                        final String message = String.format("%s %s %s", date, values, field);
+                        assertEquals(message, time(() -> SingleExecutionTime.searchNextPotentialValue(date, node, field)),
+                                time(() -> SingleExecutionTime.getNextPotentialValue(date, node, field)));
+                        assertEquals(message, time(() -> SingleExecutionTime.searchPreviousPotentialValue(date, node, field)),
+                                time(() -> SingleExecutionTime.getPreviousPotentialValue(date, node, field)));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test(expected = NoSuchValueException.class)
+    public void testNoValueInFieldRange() throws NoSuchValueException {
+        SingleExecutionTime.getNextPotentialValue(ZonedDateTime.now(ZoneOffset.UTC), new TimeNode(new ArrayList<>(Arrays.asList(60))),
+                ChronoField.MINUTE_OF_HOUR);
+    }
+
+    private static ZonedDateTime time(final PotentialValue potentialValue) {
+        try {
+            return potentialValue.get().getTime();
+        } catch (final NoSuchValueException e) {
+            return null;
+        }
+    }
+
+    private static List<ZonedDateTime> dates(final ZoneId zone, final Random random) {
+        final List<ZonedDateTime> dates = new ArrayList<>();
+        for (int j = 0; j < 100; j++) {
+            dates.add(ZonedDateTime.of(2021, 1 + random.nextInt(12), 1 + random.nextInt(28), random.nextInt(24), random.nextInt(60),
+                    random.nextInt(60), 0, zone));
+        }
+        for (final ZonedDateTime transition : Arrays.asList(ZonedDateTime.of(2021, 3, 13, 22, 0, 0, 0, zone),
+                ZonedDateTime.of(2021, 3, 27, 22, 0, 0, 0, zone), ZonedDateTime.of(2021, 4, 3, 22, 0, 0, 0, zone),
+                ZonedDateTime.of(2021, 10, 2, 22, 0, 0, 0, zone), ZonedDateTime.of(2021, 10, 30, 22, 0, 0, 0, zone),
+                ZonedDateTime.of(2021, 11, 6, 22, 0, 0, 0, zone))) {
+            for (int minutes = 0; minutes < 8 * 60; minutes += 7) {
+                dates.add(transition.plusMinutes(minutes).plusSeconds(minutes % 60));
+            }
+        }
+        return dates;
+    }
+
+    private interface PotentialValue {
+        SingleExecutionTime.ExecutionTimeResult get() throws NoSuchValueException;
+    }
+}
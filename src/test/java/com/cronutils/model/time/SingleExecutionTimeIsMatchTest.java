@@ -0,0 +1,129 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinition;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.model.definition.TestCronDefinitionsFactory;
+import com.cronutils.parser.CronParser;
+import org.junit.Test;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Differential tests: isMatch checks fields directly far from offset transitions, and must agree with the
+ * search based check everywhere.
+ */
+public class SingleExecutionTimeIsMatchTest {
+    private static final String[] QUARTZ = {
+            "* * * * * ?", "0 0 * * * ?", "*/7 */13 * * * ?", "15,45 5-50/5 9-17 ? * MON-FRI", "0 0 12 1/5 * ?", "0 30 10 L * ?",
+            "0 30 10 L-3 * ?", "0 0 8 LW * ?", "0 0 8 15W * ?", "0 0 0 ? * 6#3", "0 0 0 ? * 2L", "0 0 0 29 2 ?",
+            "0 15 10 ? * 6L 2020-2030", "0 0 0 1 1 ? 2023/2", "0 0 6 ? JAN,JUL SUN", "59 59 23 31 12 ?", "0 30 2 * * ?",
+            "0 0 1-3 * * ?", "0 0 0 1 1 ? 2022"
+    };
+    private static final String[] UNIX = {
+            "* * * * *", "*/15 9-17 * * 1-5", "0 0 1,15 * 3", "30 4 1 1 *", "0 0 13 * 5", "30 2 * * *"
+    };
+    private static final String[] CRON4J = {
+            "0 5 * * *", "0 0 L * *", "*/10 8-20 * 1,6,12 mon-fri", "0 12 1-7 * sat"
+    };
+    private static final String[] SPRING = {
+            "*/10 * * * * *", "0 0/30 8-10 * * *", "0 0 9-17 * * MON-FRI", "0 0 0 25 12 ?"
+    };
+    private static final String[] DAY_OF_YEAR = {
+            "0 0 0 ? * ? * 1/14", "0 0 12 ? * ? * 100-110", "0 0 0 1 * ? *"
+    };
+    private static final ZoneId[] ZONES = {
+            ZoneOffset.UTC, ZoneOffset.ofHoursMinutes(5, 30), ZoneId.of("America/New_York"), ZoneId.of("Europe/Madrid"),
+            ZoneId.of("Australia/Lord_Howe")
+    };
+    private static final int SAMPLES = 60;
+
+    @Test
+    public void testQuartz() {
+        assertAgree(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ), QUARTZ);
+    }
+
+    @Test
+    public void testUnix() {
+        assertAgree(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX), UNIX);
+    }
+
+    @Test
+    public void testCron4j() {
+        assertAgree(CronDefinitionBuilder.instanceDefinitionFor(CronType.CRON4J), CRON4J);
+    }
+
+    @Test
+    public void testSpring() {
+        assertAgree(CronDefinitionBuilder.instanceDefinitionFor(CronType.SPRING), SPRING);
+    }
+
+    @Test
+    public void testDayOfYear() {
+        assertAgree(TestCronDefinitionsFactory.withDayOfYearDefinitionWhereYearAndDoYOptionals(), DAY_OF_YEAR);
+    }
+
+    private static void assertAgree(final CronDefinition definition, final String[] expressions) {
+        final CronParser parser = new CronParser(definition);
+        final Random random = new Random(11);
+        for (final String expression : expressions) {
+            final SingleExecutionTime executionTime = ExecutionTimeBuilder.forCronFields(parser.parse(expression)).build();
+            final ChronoUnit granularity = executionTime.isSecondGranularity() ? ChronoUnit.SECONDS : ChronoUnit.MINUTES;
+            for (final ZoneId zone : ZONES) {
+                for (final ZonedDateTime date : dates(executionTime, zone, random)) {
+                    final ZonedDateTime truncated = date.truncatedTo(granularity);
+                    assertEquals(String.format("%s at %s", expression, date), executionTime.isMatchBySearch(truncated), executionTime.isMatch(date));
+                }
+            }
+        }
+    }
+
+    /**
+     * Random dates, executions and dates next to them, and dates around offset transitions.
+     */
+    private static List<ZonedDateTime> dates(final ExecutionTime executionTime, final ZoneId zone, final Random random) {
+        final List<ZonedDateTime> dates = new ArrayList<>();
+        for (int j = 0; j < SAMPLES; j++) {
+            final ZonedDateTime date = ZonedDateTime.of(2019 + random.nextInt(6), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                    random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(2) * 500_000_000, zone);
+            dates.add(date);
+            final Optional<ZonedDateTime> next = executionTime.nextExecution(date);
+            if (next.isPresent()) {
+                dates.add(next.get());
+                dates.add(next.get().plusSeconds(1));
+                dates.add(next.get().plusMinutes(1));
+                dates.add(next.get().minusSeconds(1));
+            }
+        }
+        for (final int month : new int[] { 3, 4, 10, 11 }) {
+            ZonedDateTime date = ZonedDateTime.of(2021, month, 1, 0, 0, 0, 0, zone);
+            for (int j = 0; j < 8 * 24 * 2; j++) {
+                dates.add(date);
+                date = date.plusMinutes(30);
+            }
+        }
+        return dates;
+    }
+}
@@ -18,7 +18,9 @@ import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
@@ -102,6 +104,73 @@ public class TimeNodeTest {
         timeNode.getValueFromList(new ArrayList<>(), 0, new AtomicInteger(0));
     }
 
+    @Test
+    public void testNearestValuesMatchStepping() {
+        final Random random = new Random(5);
+        for (int j = 0; j < 2000; j++) {
+            final List<Integer> list = new ArrayList<>();
+            final int size = 1 + random.nextInt(8);
+            while (list.size() < size) {
+                final int value = random.nextInt(30);
+                if (!list.contains(value)) {
+                    list.add(value);
+                }
+            }
+            final TimeNode node = new TimeNode(list);
+            final int reference = random.nextInt(32) - 1;
+            final int shifts = random.nextInt(20);
+            assertSameResult(stepping(node.getValues(), true, reference, shifts), node.getNextValue(reference, shifts));
+            final List<Integer> reversed = new ArrayList<>(node.getValues());
+            Collections.reverse(reversed);
+            assertSameResult(stepping(reversed, false, reference, shifts), node.getPreviousValue(reference, shifts));
+        }
+    }
+
+    @Test
+    public void testValuesAreSortedAndDistinct() {
+        assertEquals(Arrays.asList(1, 3, 5), new TimeNode(Arrays.asList(5, 1, 3, 5, 1)).getValues());
+    }
+
+    /**
+     * Reference implementation: moves one value at a time through given values, ordered in the direction of the search.
+     */
+    private NearestValue stepping(final List<Integer> ordered, final boolean forward, final int reference, int shifts) {
+        final AtomicInteger shift = new AtomicInteger(0);
+        int index = ordered.indexOf(reference);
+        if (index < 0) {
+            index = 0;
+            shift.incrementAndGet();
+            for (int j = 0; j < ordered.size(); j++) {
+                if (forward ? ordered.get(j) > reference : ordered.get(j) < reference) {
+                    index = j;
+                    shifts--;
+                    shift.set(0);
+                    break;
+                }
+            }
+        }
+        int value = ordered.get(index);
+        for (int j = 0; j < shifts; j++) {
+            value = timeNode.getValueFromList(ordered, index + 1, shift);
+            index = ordered.indexOf(value);
+        }
+        return new NearestValue(value, shift.get());
+    }
+
+    private void assertSameResult(final NearestValue expected, final NearestValue nearestValue) {
+        assertResult(expected.getValue(), expected.getShifts(), nearestValue);
+    }
+
+    @Test
+    public void testValuesFromMask() {
+        assertEquals(Arrays.asList(0, 3, 31, 63), new TimeNode(1L | 1L << 3 | 1L << 31 | 1L << 63).getValues());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyMaskNotAccepted() {
+        new TimeNode(0L);
+    }
+
     private void assertResult(final int value, final int shift, final NearestValue nearestValue) {
         assertEquals(String.format("Values do not match! Expected: %s Found: %s", value, nearestValue.getValue()), value, nearestValue.getValue());
         assertEquals(String.format("Shifts do not match! Expected: %s Found: %s", shift, nearestValue.getShifts()), shift, nearestValue.getShifts());
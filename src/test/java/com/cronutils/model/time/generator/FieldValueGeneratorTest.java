@@ -17,9 +17,14 @@ import com.cronutils.model.field.CronField;
 import com.cronutils.model.field.CronFieldName;
 import com.cronutils.model.field.constraint.FieldConstraints;
 import com.cronutils.model.field.expression.FieldExpression;
+import com.cronutils.model.definition.CronDefinition;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.model.CronType;
+import com.cronutils.parser.CronParser;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.BitSet;
 import java.util.List;
 
 import static org.junit.Assert.*;
@@ -44,4 +49,40 @@ public class FieldValueGeneratorTest {
         assertTrue(candidates.contains(start));
         assertTrue(candidates.contains(end));
     }
+
+    @Test
+    public void testCandidatesMaskIncludesExtremes() {
+        assertEquals(0b110L, fieldValueGenerator.candidatesMask(1, 2));
+        final BitSet candidates = fieldValueGenerator.candidatesSet(1, 2);
+        assertEquals(2, candidates.cardinality());
+        assertTrue(candidates.get(1) && candidates.get(2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCandidatesMaskOutOfRange() {
+        fieldValueGenerator.candidatesMask(0, 64);
+    }
+
+    @Test
+    public void testCandidatesMaskMatchesCandidates() {
+        final CronDefinition definition = CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ);
+        final CronParser parser = new CronParser(definition);
+        final String[] expressions = {"*", "7", "5-40", "*/7", "3/11", "10-50/4", "1,5,9-12,*/20", "59", "0"};
+        for (final String expression : expressions) {
+            final CronField cronField = parser.parse(String.format("%s * * * * ?", expression)).retrieve(CronFieldName.SECOND);
+            final FieldValueGenerator generator = FieldValueGeneratorFactory.forCronField(cronField);
+            for (int start = 0; start < 60; start += 7) {
+                for (int end = start; end < 60; end += 5) {
+                    long expected = 0L;
+                    for (final int candidate : generator.generateCandidates(start, end)) {
+                        expected |= 1L << candidate;
+                    }
+                    assertEquals(String.format("%s [%s, %s]", expression, start, end), expected, generator.candidatesMask(start, end));
+                    for (int value = start; value <= end; value++) {
+                        assertEquals(expression, generator.isMatch(value), (expected & 1L << value) != 0);
+                    }
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time.generator;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.Assert.assertEquals;
+
+public class GregorianCycleTest {
+
+    @Test
+    public void testMatchesJavaTime() {
+        for (int year = 1500; year <= 1500 + 2 * GregorianCycle.YEARS; year++) {
+            for (int month = 1; month <= 12; month++) {
+                final LocalDate first = LocalDate.of(year, month, 1);
+                assertEquals(first.toString(), first.getDayOfWeek().getValue(), GregorianCycle.firstDayOfWeek(year, month));
+                assertEquals(first.toString(), first.lengthOfMonth(), GregorianCycle.lengthOfMonth(year, month));
+                final LocalDate last = first.withDayOfMonth(first.lengthOfMonth());
+                assertEquals(last.toString(), last.getDayOfWeek().getValue(), GregorianCycle.dayOfWeek(year, month, last.getDayOfMonth()));
+            }
+        }
+    }
+
+    @Test
+    public void testDaysBeyondMonthEndContinueIntoNextWeeks() {
+        // February 2021 starts on Monday and has 28 days: day 29 falls on Monday, as March 1st
+        assertEquals(1, GregorianCycle.dayOfWeek(2021, 2, 29));
+        assertEquals(3, GregorianCycle.dayOfWeek(2021, 2, 31));
+    }
+}
@@ -123,6 +123,13 @@ public class OnDayOfMonthValueGeneratorWTest {
         fieldValueGenerator.generatePreviousValue(1);
     }
 
+    @Test
+    public void testDayMissingInMonthHasNoCandidates() {
+        fieldValueGenerator = createFieldValueGeneratorInstance(2, 31);
+        assertTrue(fieldValueGenerator.generateCandidates(1, 28).isEmpty());
+        assertFalse(fieldValueGenerator.isMatch(28));
+    }
+
     private void testGenerateCandidatesNotIncludingIntervalExtremes(final int month, final int day, final int weekday) {
         fieldValueGenerator = createFieldValueGeneratorInstance(month, day);
         final List<Integer> candidates = fieldValueGenerator.generateCandidatesNotIncludingIntervalExtremes(1, 32);
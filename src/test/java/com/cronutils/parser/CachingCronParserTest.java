@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.parser;
+
+import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class CachingCronParserTest {
+    private CachingCronParser parser;
+
+    @Before
+    public void setUp() {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ)).withCache(2);
+    }
+
+    @Test
+    public void testSameInstanceForEquivalentExpressions() {
+        final Cron cron = parser.parse("0 0 12 * * ?");
+        assertSame(cron, parser.parse("0 0 12 * * ?"));
+        assertSame(cron, parser.parse("  0  0\t12 * *  ? "));
+        assertEquals(1, parser.getMissCount());
+        assertEquals(2, parser.getHitCount());
+        assertEquals("0 0 12 * * ?", cron.asString());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() {
+        final Cron first = parser.parse("0 0 1 * * ?");
+        final Cron second = parser.parse("0 0 2 * * ?");
+        assertSame(first, parser.parse("0 0 1 * * ?"));
+        parser.parse("0 0 3 * * ?");
+        assertEquals(2, parser.size());
+        assertSame(first, parser.parse("0 0 1 * * ?"));
+        assertNotSame(second, parser.parse("0 0 2 * * ?"));
+        assertEquals(4, parser.getMissCount());
+        assertEquals(2, parser.getHitCount());
+    }
+
+    @Test
+    public void testFailedParsesAreNotCached() {
+        for (int j = 0; j < 2; j++) {
+            try {
+                parser.parse("0 0 25 * * ?");
+                fail("expected IllegalArgumentException");
+            } catch (final IllegalArgumentException expected) {
+                // expected
+            }
+        }
+        assertEquals(0, parser.size());
+        assertEquals(2, parser.getMissCount());
+    }
+
+    @Test
+    public void testCompositeExpressions() {
+        final Cron cron = parser.parse("0 0 0 * * ? || 0 0 12 * * ?");
+        assertSame(cron, parser.parse("0 0 0 * * ?  ||  0 0 12 * * ?"));
+    }
+
+    @Test
+    public void testConcurrentParsesShareInstance() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Cron>> futures = new ArrayList<>();
+            for (int j = 0; j < 100; j++) {
+                futures.add(executor.submit(() -> parser.parse("0 */5 * * * ?")));
+            }
+            final Cron cron = parser.parse("0 */5 * * * ?");
+            for (final Future<Cron> future : futures) {
+                assertSame(cron, future.get());
+            }
+            assertEquals(101, parser.getHitCount() + parser.getMissCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testNormalize() {
+        assertSame("0 0 12 * * ?", CachingCronParser.normalize("0 0 12 * * ?"));
+        assertEquals("0 0 12 * * ?", CachingCronParser.normalize(" 0 0\n12 *  * ?\t"));
+        assertEquals("", CachingCronParser.normalize(" "));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMaxSizeMustBePositive() {
+        new CachingCronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ), 0);
+    }
+}
@@ -15,12 +15,14 @@ package com.cronutils.parser;
 
 import com.cronutils.model.Cron;
 import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronConstraint;
 import com.cronutils.model.definition.CronDefinition;
 import com.cronutils.model.definition.CronDefinitionBuilder;
 import com.cronutils.model.definition.TestCronDefinitionsFactory;
 import com.cronutils.model.field.CronFieldName;
 import com.cronutils.model.field.constraint.FieldConstraintsBuilder;
 import com.cronutils.model.field.definition.FieldDefinition;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -28,12 +30,21 @@ import org.junit.rules.ExpectedException;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 
 public class CronParserTest {
@@ -226,4 +237,151 @@ public class CronParserTest {
         parser = new CronParser(TestCronDefinitionsFactory.withDayOfYearDefinitionWhereYearAndDoYOptionals());
         parser.parse("0 0 0 ? * #");
     }
+
+    @Test
+    public void testParseAllReportsErrorsPerItem() {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX));
+        final List<CronParseResult> results = parser.parseAll(Arrays.asList("0 12 * * 1-5", "0 25 * * *", null, "*/5 * * * *"));
+        assertEquals(4, results.size());
+        assertEquals("0 12 * * 1-5", results.get(0).getCron().map(Cron::asString).orElse(null));
+        assertFalse(results.get(1).isSuccess());
+        assertTrue(results.get(1).getError().isPresent());
+        assertFalse(results.get(2).isSuccess());
+        assertEquals("*/5 * * * *", results.get(3).getCron().map(Cron::asString).orElse(null));
+    }
+
+    @Test
+    public void testParseAllOnExecutorKeepsOrder() {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX));
+        final List<String> expressions = new ArrayList<>();
+        for (int j = 0; j < 2000; j++) {
+            expressions.add(j % 7 == 0 ? j + " * * * *" : String.format("%s %s * * *", j % 60, j % 24));
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<CronParseResult> results = parser.parseAll(expressions, executor);
+            assertEquals(expressions.size(), results.size());
+            for (int j = 0; j < expressions.size(); j++) {
+                final CronParseResult result = results.get(j);
+                assertEquals(expressions.get(j), result.getExpression());
+                assertEquals(j % 7 != 0 || j < 60, result.isSuccess());
+                if (result.isSuccess()) {
+                    assertEquals(expressions.get(j), result.getCron().get().asString());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testSharedParserForCronType() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<CronParser>> parsers = new ArrayList<>();
+            for (int j = 0; j < 16; j++) {
+                parsers.add(executor.submit(() -> CronParser.instanceFor(CronType.SPRING)));
+            }
+            for (final Future<CronParser> parser : parsers) {
+                assertSame(CronParser.instanceFor(CronType.SPRING), parser.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        final CronParser parser = CronParser.instanceFor(CronType.QUARTZ);
+        assertEquals("0 0 12 ? * 2-6", parser.parse("0 0 12 ? * MON-FRI").asString());
+    }
+
+    @Test
+    public void testValidateMatchesParse() {
+        final String[] fields = { "*", "?", "0", "5", "L", "15W", "1-5", "5-1", "*/15", "0/70", "MON-FRI", "2#3", "JAN", "1,2,", "x", "99" };
+        for (final CronType type : CronType.values()) {
+            parser = CronParser.instanceFor(type);
+            for (int fieldCount = 4; fieldCount <= 7; fieldCount++) {
+                for (int j = 0; j < 2000; j++) {
+                    final StringBuilder builder = new StringBuilder();
+                    for (int k = 0; k < fieldCount; k++) {
+                        builder.append(k == 0 ? "" : " ").append(fields[(j * 7 + k * k * 13 + k * j / 5) % fields.length]);
+                    }
+                    final String expression = builder.toString();
+                    final CronValidationResult result = parser.validate(expression);
+                    try {
+                        parser.parse(expression);
+                        assertTrue(type + " " + expression + " " + result, result.isValid());
+                    } catch (final IllegalArgumentException e) {
+                        assertFalse(type + " " + expression, result.isValid());
+                        assertNotNull(result.getReason());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testValidateReportsPositionAndReason() {
+        parser = CronParser.instanceFor(CronType.UNIX);
+        assertTrue(parser.validate("*/5 9-17 * * MON-FRI").isValid());
+        assertEquals(-1, parser.validate("*/5 9-17 * * MON-FRI").getPosition());
+
+        final CronValidationResult outOfRange = parser.validate("0 9,25 * * *");
+        assertFalse(outOfRange.isValid());
+        assertEquals(4, outOfRange.getPosition());
+        assertEquals("Value 25 not in range [0, 23]", outOfRange.getReason());
+
+        final CronValidationResult unread = parser.validate("0 1,x * * *");
+        assertFalse(unread.isValid());
+        assertEquals(4, unread.getPosition());
+
+        final CronValidationResult fieldCount = parser.validate("0 0 * *");
+        assertFalse(fieldCount.isValid());
+        assertEquals(-1, fieldCount.getPosition());
+        assertEquals("Cron expression contains 4 parts but we expect one of [5]", fieldCount.getReason());
+
+        final CronValidationResult constraint = CronParser.instanceFor(CronType.QUARTZ).validate("0 0 12 1 * MON");
+        assertFalse(constraint.isValid());
+        assertTrue(constraint.getReason(), constraint.getReason().endsWith("Both, a day-of-week AND a day-of-month parameter, are not supported."));
+    }
+
+    @Test
+    public void testValidateWithConstraintOnFieldValues() {
+        final CronDefinition definition = CronDefinitionBuilder.defineCron()
+                .withMinutes().and()
+                .withHours().and()
+                .withCronValidation(new CronConstraint("Hours must not be 3") {
+                    private static final long serialVersionUID = 1L;
+
+                    @Override
+                    public boolean validate(final Cron cron) {
+                        return !"3".equals(cron.retrieve(CronFieldName.HOUR).getExpression().asString());
+                    }
+                })
+                .instance();
+        parser = new CronParser(definition);
+        assertTrue(parser.validate("0 2").isValid());
+        assertFalse(parser.validate("0 3").isValid());
+        assertFalse(parser.validate("0 x").isValid());
+    }
+
+    @Test
+    public void testValidateDoesNotAllocateOnValidPath() {
+        final java.lang.management.ThreadMXBean bean = java.lang.management.ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        final long thread = Thread.currentThread().getId();
+        parser = CronParser.instanceFor(CronType.QUARTZ);
+        final String[] expressions = { "0 0/15 8-18 ? * MON-FRI 2021-2099", "0 0 12 L * ?", "0 30 10 ? * 6#3", "*/5 * * * * ?" };
+        for (final String expression : expressions) {
+            assertTrue(expression, parser.validate(expression).isValid());
+        }
+        final long overhead = -threads.getThreadAllocatedBytes(thread) + threads.getThreadAllocatedBytes(thread);
+        final long before = threads.getThreadAllocatedBytes(thread);
+        boolean valid = true;
+        for (int j = 0; j < 1000; j++) {
+            valid &= parser.validate(expressions[j % expressions.length]).isValid();
+        }
+        final long allocated = threads.getThreadAllocatedBytes(thread) - before;
+        assertTrue(valid);
+        assertEquals(overhead, allocated);
+    }
 }
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.parser;
+
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinition;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.model.field.CronFieldName;
+import com.cronutils.model.field.definition.FieldDefinition;
+import com.cronutils.model.field.expression.*;
+import com.cronutils.model.field.expression.visitor.ValidationFieldExpressionVisitor;
+import com.cronutils.model.field.value.FieldValue;
+import com.cronutils.model.field.value.IntegerFieldValue;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class FieldScannerTest {
+    private static final List<String> FIELDS = Arrays.asList(
+            "*", "?", "0", "5", "05", "7", "12", "31", "59", "1970", "2099",
+            "*/1", "*/01", "*/5", "/5", "0/15", "5/10", "JAN/2", "*/", "5/", "*/X",
+            "1-5", "1-5/2", "5-1", "0-7", "L-3", "L-0", "L-MON", "1-", "-1", "1-5/", "1-5/2/3", "1-5-7", "1-L",
+            "L", "LW", "5L", "15W", "W", "L5", "LW5", "5LW", "5WL", "L-3W",
+            "2#1", "5#3", "MON#2", "FRI#5", "#1", "2#",
+            "JAN", "DEC", "jan", "Jan", "MON", "SUN", "MON-FRI", "JAN-MAR", "FRI-MON", "SAT-SUN/1", "FRIL", "MONL",
+            "1,2,3", "1,5-10,*/15", "MON,WED,FRI", "1,", ",1", "1,,2", "L,15", "JAN,FEB-MAR",
+            "?,1", "A", "XYZ", "1.5", " 1", "1 ", "1234567890", "123456789", "*/1234567890", "+1", "1-2-3",
+            "*/5/", "1/3/", "5-1-", "6LL", "2L2L", "W15W");
+
+    @Test
+    public void testScannerReadsExpressions() {
+        final FieldParser daysOfMonth = parserFor(CronFieldName.DAY_OF_MONTH);
+        assertEquals("Every(Always,IntegerFieldValue:5)", describe(() -> parse(daysOfMonth, "*/5")));
+        assertEquals("Every(Between(IntegerFieldValue:1,IntegerFieldValue:20),IntegerFieldValue:2)", describe(() -> parse(daysOfMonth, "1-20/2")));
+        assertEquals("And(On(IntegerFieldValue:1,SpecialCharFieldValue:NONE,IntegerFieldValue:-1);On(IntegerFieldValue:-1,SpecialCharFieldValue:L,IntegerFieldValue:-1);)",
+                describe(() -> parse(daysOfMonth, "1,L")));
+        assertEquals("On(IntegerFieldValue:15,SpecialCharFieldValue:W,IntegerFieldValue:-1)", describe(() -> parse(daysOfMonth, "15W")));
+        assertEquals("Between(IntegerFieldValue:5,SpecialCharFieldValue:L)", describe(() -> parse(daysOfMonth, "5-L")));
+
+        final FieldParser daysOfWeek = parserFor(CronFieldName.DAY_OF_WEEK);
+        assertEquals("Between(IntegerFieldValue:2,IntegerFieldValue:6)", describe(() -> parse(daysOfWeek, "mon-fri")));
+        assertEquals("On(IntegerFieldValue:2,SpecialCharFieldValue:HASH,IntegerFieldValue:3)", describe(() -> parse(daysOfWeek, "2#3")));
+        assertEquals("On(IntegerFieldValue:5,SpecialCharFieldValue:L,IntegerFieldValue:-1)", describe(() -> parse(daysOfWeek, "5L")));
+    }
+
+    @Test
+    public void testScannerReportsErrors() {
+        final FieldParser daysOfMonth = parserFor(CronFieldName.DAY_OF_MONTH);
+        assertEquals("error: Missing steps for expression: 1-5/", describe(() -> parse(daysOfMonth, "1-5/")));
+        assertEquals("error: Missing values for range: 1-", describe(() -> parse(daysOfMonth, "1-")));
+        assertEquals("error: Invalid chars in expression! Expression: X Invalid chars: X", describe(() -> parse(daysOfMonth, "X")));
+        assertEquals("error: Invalid expression: 12?", describe(() -> parse(daysOfMonth, "12?")));
+        assertEquals("error: Invalid chars in expression! Expression: +1 Invalid chars: +", describe(() -> parse(daysOfMonth, "+1")));
+        assertEquals("error: Invalid expression: */5/", describe(() -> parse(daysOfMonth, "*/5/")));
+        assertEquals("error: Invalid expression: 1/3/", describe(() -> parse(daysOfMonth, "1/3/")));
+        assertEquals("error: Missing values for range: 5-1-", describe(() -> parse(daysOfMonth, "5-1-")));
+        assertEquals("error: Invalid chars in expression! Expression: 2L2L Invalid chars: LL", describe(() -> parse(daysOfMonth, "2L2L")));
+        assertEquals("error: Invalid chars in expression! Expression: W15W Invalid chars: WW", describe(() -> parse(daysOfMonth, "W15W")));
+
+        final FieldParser daysOfWeek = parserFor(CronFieldName.DAY_OF_WEEK);
+        assertEquals("error: Invalid Position of # Character!", describe(() -> parse(daysOfWeek, "2#")));
+        assertEquals("error: Time should be specified!", describe(() -> parse(daysOfWeek, "#1")));
+        assertEquals("error: Invalid chars in expression! Expression: 6LL Invalid chars: LL", describe(() -> parse(daysOfWeek, "6LL")));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testDeprecatedMethodsDelegateToScanner() {
+        final FieldParser daysOfMonth = parserFor(CronFieldName.DAY_OF_MONTH);
+        assertEquals("Every(Between(IntegerFieldValue:1,IntegerFieldValue:20),IntegerFieldValue:2)",
+                describe(() -> daysOfMonth.parseBetween(new String[] { "1", "20/2" })));
+        assertEquals("On(IntegerFieldValue:15,SpecialCharFieldValue:W,IntegerFieldValue:-1)", describe(() -> daysOfMonth.parseOnWithW("15W")));
+        assertEquals("On(IntegerFieldValue:-1,SpecialCharFieldValue:LW,IntegerFieldValue:-1)", describe(() -> daysOfMonth.parseOnWithLW("LW")));
+        assertEquals("On(IntegerFieldValue:-1,SpecialCharFieldValue:QUESTION_MARK,IntegerFieldValue:-1)", describe(() -> daysOfMonth.parseOn("?")));
+        assertEquals("On(IntegerFieldValue:-1,SpecialCharFieldValue:L,IntegerFieldValue:3)",
+                describe(() -> daysOfMonth.parseOnWithL("L", new IntegerFieldValue(3))));
+        assertEquals("error: Invalid chars in expression! Expression: X Invalid chars: X", describe(() -> daysOfMonth.parseOn("X")));
+
+        final FieldParser daysOfWeek = parserFor(CronFieldName.DAY_OF_WEEK);
+        assertEquals("On(IntegerFieldValue:2,SpecialCharFieldValue:HASH,IntegerFieldValue:3)", describe(() -> daysOfWeek.parseOnWithHash("MON#3")));
+        assertEquals(2, daysOfWeek.stringToInt("MON"));
+        assertEquals("SpecialCharFieldValue:L", describe(daysOfWeek.map("L")));
+    }
+
+    @Test
+    public void testCheckMatchesFieldValidation() {
+        final FieldScanner scanner = new FieldScanner();
+        for (final CronType type : CronType.values()) {
+            final CronDefinition definition = CronDefinitionBuilder.instanceDefinitionFor(type);
+            for (final FieldDefinition fieldDefinition : definition.getFieldDefinitions()) {
+                final FieldParser parser = new FieldParser(fieldDefinition.getConstraints());
+                final ValidationFieldExpressionVisitor visitor = new ValidationFieldExpressionVisitor(fieldDefinition.getConstraints());
+                for (final String field : FIELDS) {
+                    final String input = "(" + field + ")";
+                    scanner.reset(parser, input, 1, input.length() - 1, true);
+                    final int checked = scanner.check();
+                    if (checked == FieldScanner.UNREAD) {
+                        continue;
+                    }
+                    final String message = String.format("%s %s '%s'", type, fieldDefinition.getFieldName(), field);
+                    try {
+                        final FieldExpression expression = parser.parse(input, 1, input.length() - 1, true).accept(visitor);
+                        assertNotEquals(message, FieldScanner.INVALID, checked);
+                        assertEquals(message, expression instanceof QuestionMark, checked == FieldScanner.QUESTION_MARK);
+                    } catch (final IllegalArgumentException e) {
+                        assertEquals(message, FieldScanner.INVALID, checked);
+                        assertEquals(message, e.getMessage(), scanner.getViolation());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCheckReportsViolatingElement() {
+        final FieldParser parser = new FieldParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX)
+                .getFieldDefinition(CronFieldName.MINUTE).getConstraints());
+        final String input = "1,5-70/2";
+        final FieldScanner scanner = new FieldScanner();
+        scanner.reset(parser, input, 0, input.length(), true);
+        assertEquals(FieldScanner.INVALID, scanner.check());
+        assertEquals(2, scanner.getViolationPosition());
+        assertEquals("Value 70 not in range [0, 59]", scanner.getViolation());
+    }
+
+    @Test
+    public void testScannerReadsCommonFields() {
+        final FieldParser parser = new FieldParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ)
+                .getFieldDefinition(CronFieldName.DAY_OF_WEEK).getConstraints());
+        for (final String field : Arrays.asList("*", "?", "1-5", "MON-FRI", "*/2", "1,3,5", "2#3", "5L", "mon,wed")) {
+            assertNotNull(field, new FieldScanner(parser, field, 0, field.length(), true).scan());
+        }
+    }
+
+    @Test
+    public void testScannerStopsAtFirstUnreadChar() {
+        final FieldParser parser = new FieldParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX).getFieldDefinitions().iterator().next()
+                .getConstraints());
+        final String input = "0 1,2,x 3";
+        final FieldScanner scanner = new FieldScanner(parser, input, 2, 7, false);
+        assertNull(scanner.scan());
+        assertEquals(6, scanner.getPosition());
+    }
+
+    @Test
+    public void testErrorsReportPosition() {
+        final CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX));
+        try {
+            parser.parse("0 1,2,x * * *");
+            fail("Expected IllegalArgumentException");
+        } catch (final IllegalArgumentException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Invalid chars in expression! Expression: X"));
+            assertTrue(e.getMessage(), e.getMessage().endsWith("(at position 6)"));
+        }
+    }
+
+    private static FieldParser parserFor(final CronFieldName name) {
+        return new FieldParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ).getFieldDefinition(name).getConstraints());
+    }
+
+    private static FieldExpression parse(final FieldParser parser, final String field) {
+        return parser.parse(field, 0, field.length(), true);
+    }
+
+    private static String describe(final ParseCall call) {
+        try {
+            return describe(call.parse());
+        } catch (final RuntimeException e) {
+            return "error: " + e.getMessage();
+        }
+    }
+
+    private static String describe(final FieldExpression expression) {
+        if (expression instanceof And) {
+            final StringBuilder builder = new StringBuilder("And(");
+            for (final FieldExpression item : ((And) expression).getExpressions()) {
+                builder.append(describe(item)).append(';');
+            }
+            return builder.append(')').toString();
+        }
+        if (expression instanceof Between) {
+            final Between between = (Between) expression;
+            return String.format("Between(%s,%s)", describe(between.getFrom()), describe(between.getTo()));
+        }
+        if (expression instanceof Every) {
+            final Every every = (Every) expression;
+            return String.format("Every(%s,%s)", describe(every.getExpression()), describe(every.getPeriod()));
+        }
+        if (expression instanceof On) {
+            final On on = (On) expression;
+            return String.format("On(%s,%s,%s)", describe(on.getTime()), describe(on.getSpecialChar()), describe(on.getNth()));
+        }
+        return expression.getClass().getSimpleName();
+    }
+
+    private static String describe(final FieldValue<?> value) {
+        return value.getClass().getSimpleName() + ":" + value.getValue();
+    }
+
+    private interface ParseCall {
+        FieldExpression parse();
+    }
+}
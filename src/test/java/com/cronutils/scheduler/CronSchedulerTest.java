@@ -0,0 +1,162 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.scheduler;
+
+import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CronSchedulerTest {
+    private static final ZonedDateTime NOW = ZonedDateTime.of(2021, 7, 1, 10, 0, 0, 0, ZoneOffset.UTC);
+    private CronParser parser;
+    private CronScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+        scheduler = new CronScheduler(Runnable::run, Clock.fixed(NOW.toInstant(), ZoneOffset.UTC));
+    }
+
+    @Test
+    public void testTasksFireAtCronExecutions() {
+        final List<Long> fired = new ArrayList<>();
+        final AtomicInteger tick = new AtomicInteger();
+        scheduler.schedule(parser.parse("0 */15 * * * ?"), () -> fired.add(NOW.toEpochSecond() + tick.get()));
+        for (int j = 1; j <= 3600; j++) {
+            tick.set(j);
+            scheduler.advanceTo(NOW.toEpochSecond() + j);
+        }
+        assertEquals(4, fired.size());
+        for (int j = 0; j < fired.size(); j++) {
+            assertEquals(NOW.plusMinutes(15L * (j + 1)).toEpochSecond(), fired.get(j).longValue());
+        }
+    }
+
+    @Test
+    public void testTasksFireAsNextExecutionOverFallBackNight() {
+        final ZonedDateTime now = ZonedDateTime.of(LocalDateTime.of(2021, 11, 7, 1, 40), ZoneId.of("America/New_York"));
+        final CronScheduler newYork = new CronScheduler(Runnable::run, Clock.fixed(now.toInstant(), now.getZone()));
+        final Cron cron = parser.parse("0 30 1 * * ?");
+        final long end = now.toEpochSecond() + 2 * 86_400;
+        final List<Long> expected = new ArrayList<>();
+        for (Optional<ZonedDateTime> next = cron.executionTime().nextExecution(now); next.get().toEpochSecond() <= end;
+                next = cron.executionTime().nextExecution(next.get())) {
+            expected.add(next.get().toEpochSecond());
+        }
+        final List<Long> fired = new ArrayList<>();
+        final AtomicInteger tick = new AtomicInteger();
+        newYork.schedule(cron, () -> fired.add(now.toEpochSecond() + tick.get()));
+        for (int j = 60; now.toEpochSecond() + j <= end; j += 60) {
+            tick.set(j);
+            newYork.advanceTo(now.toEpochSecond() + j);
+        }
+        // the repeated 01:30 of the fall back night fires, as nextExecution provides it
+        assertEquals(now.plusMinutes(50).toEpochSecond(), fired.get(0).longValue());
+        assertEquals(expected, fired);
+    }
+
+    @Test
+    public void testManyRegistrations() {
+        final List<Cron> crons = new ArrayList<>();
+        for (int j = 0; j < 3600; j++) {
+            crons.add(parser.parse(String.format("%s %s * * * ?", j % 60, j / 60)));
+        }
+        final AtomicInteger fired = new AtomicInteger();
+        for (int j = 0; j < 100_000; j++) {
+            scheduler.schedule(crons.get(j % crons.size()), fired::incrementAndGet);
+        }
+        assertEquals(100_000, scheduler.size());
+        for (long second = NOW.toEpochSecond() + 1; second < NOW.plusHours(2).toEpochSecond(); second++) {
+            scheduler.advanceTo(second);
+        }
+        // registrations for second 0 of minute 0 do not fire at the start time
+        assertEquals(2 * 100_000 - 28, fired.get());
+        assertEquals(100_000, scheduler.size());
+    }
+
+    @Test
+    public void testLateTasksFireOnce() {
+        final AtomicInteger fired = new AtomicInteger();
+        final ScheduledCron scheduled = scheduler.schedule(parser.parse("0 * * * * ?"), fired::incrementAndGet);
+        scheduler.advanceTo(NOW.plusMinutes(30).toEpochSecond() + 5);
+        assertEquals(1, fired.get());
+        assertEquals(Optional.of(NOW.plusMinutes(31)), scheduled.getNextExecution());
+    }
+
+    @Test
+    public void testCancel() {
+        final AtomicInteger fired = new AtomicInteger();
+        final ScheduledCron scheduled = scheduler.schedule(parser.parse("0 * * * * ?"), fired::incrementAndGet);
+        scheduler.advanceTo(NOW.plusMinutes(1).toEpochSecond());
+        assertTrue(scheduled.cancel());
+        assertFalse(scheduled.cancel());
+        assertTrue(scheduled.isCancelled());
+        scheduler.advanceTo(NOW.plusMinutes(5).toEpochSecond());
+        assertEquals(1, fired.get());
+        assertEquals(Optional.empty(), scheduled.getNextExecution());
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    public void testCronWithoutExecutionsIsNotKept() {
+        final ScheduledCron scheduled = scheduler.schedule(parser.parse("0 0 0 1 1 ? 2020"), () -> { });
+        assertEquals(Optional.empty(), scheduled.getNextExecution());
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    public void testSchedulerThreadFiresTasks() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(2);
+        try (CronScheduler running = new CronScheduler(Runnable::run, Clock.systemUTC())) {
+            running.start();
+            assertTrue(running.isRunning());
+            running.schedule(parser.parse("* * * * * ?"), latch::countDown);
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testStartTwice() {
+        try (CronScheduler running = new CronScheduler(Runnable::run, Clock.systemUTC())) {
+            running.start();
+            running.start();
+        }
+    }
+
+    @Test
+    public void testNextExecutionIsInClockZone() {
+        final ScheduledCron scheduled = scheduler.schedule(parser.parse("0 0 12 * * ?"), () -> { });
+        assertEquals(Optional.of(ZonedDateTime.ofInstant(Instant.from(NOW.withHour(12)), ZoneOffset.UTC)), scheduled.getNextExecution());
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2021 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.scheduler;
+
+import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TimingWheelTest {
+    private static final long START = 1_625_000_000L;
+    private CronScheduler scheduler;
+    private Cron cron;
+
+    @Before
+    public void setUp() {
+        scheduler = new CronScheduler(Runnable::run, Clock.systemUTC());
+        cron = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX)).parse("* * * * *");
+    }
+
+    @Test
+    public void testEntriesExpireAtTheirDeadline() {
+        final Random random = new Random(42);
+        final TimingWheel wheel = new TimingWheel(START);
+        final List<ScheduledCron> entries = new ArrayList<>();
+        for (int j = 0; j < 5000; j++) {
+            final long range = j % 3 == 0 ? 100 : (j % 3 == 1 ? 100_000 : 200_000_000);
+            entries.add(entry(START + (long) (random.nextDouble() * range)));
+        }
+        entries.add(entry(START + (1L << 37)));
+        entries.forEach(wheel::add);
+        assertEquals(entries.size(), wheel.size());
+
+        final List<ScheduledCron> expired = new ArrayList<>();
+        long tick = START;
+        while (wheel.size() > 0) {
+            tick = wheel.nextEventTick();
+            final long processed = tick;
+            wheel.advance(tick, entry -> {
+                assertEquals(processed, entry.deadline);
+                expired.add(entry);
+            });
+        }
+        assertEquals(entries.size(), expired.size());
+        for (int j = 1; j < expired.size(); j++) {
+            assertTrue(expired.get(j - 1).deadline <= expired.get(j).deadline);
+        }
+        assertEquals(START + (1L << 37), tick);
+    }
+
+    @Test
+    public void testAdvanceSkipsToGivenTick() {
+        final TimingWheel wheel = new TimingWheel(START);
+        final ScheduledCron first = entry(START + 10);
+        final ScheduledCron second = entry(START + 5_000);
+        wheel.add(first);
+        wheel.add(second);
+        final List<ScheduledCron> expired = new ArrayList<>();
+        wheel.advance(START + 4_999, expired::add);
+        assertEquals(1, expired.size());
+        assertEquals(START + 5_000, wheel.currentTick());
+        assertEquals(START + 5_000, wheel.nextEventTick());
+        wheel.advance(START + 5_000, expired::add);
+        assertEquals(2, expired.size());
+        assertEquals(Long.MAX_VALUE, wheel.nextEventTick());
+    }
+
+    @Test
+    public void testRemove() {
+        final TimingWheel wheel = new TimingWheel(START);
+        final ScheduledCron first = entry(START + 70);
+        final ScheduledCron second = entry(START + 70);
+        wheel.add(first);
+        wheel.add(second);
+        assertTrue(wheel.remove(first));
+        assertFalse(wheel.remove(first));
+        final List<ScheduledCron> expired = new ArrayList<>();
+        wheel.advance(START + 100, expired::add);
+        assertEquals(1, expired.size());
+        assertEquals(second, expired.get(0));
+    }
+
+    @Test
+    public void testPastDeadlinesExpireAtCurrentTick() {
+        final TimingWheel wheel = new TimingWheel(START);
+        final ScheduledCron late = entry(START - 100);
+        wheel.add(late);
+        assertEquals(START, wheel.nextEventTick());
+    }
+
+    private ScheduledCron entry(final long deadline) {
+        final ScheduledCron entry = new ScheduledCron(scheduler, cron, () -> { });
+        entry.deadline = deadline;
+        return entry;
+    }
+}